@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.Spec;
+
+/**
+ * Generates the JAR files and spec configurations used by the benchmarks.
+ * Public, as the benchmark parameters are set by the generated JMH code.
+ */
+public final class BenchmarkJars {
+
+    /**
+     * The API package of the generated JAR files.
+     */
+    static final String API_PACKAGE = "jakarta.bench";
+
+    /**
+     * The implementation namespace of the generated JAR files.
+     */
+    static final String IMPL_NAMESPACE = "org.bench";
+
+    /**
+     * The content of the class entries.
+     */
+    private static final byte[] CLASS_BYTES = new byte[256];
+
+    /**
+     * Cannot be instanciated.
+     */
+    private BenchmarkJars() {
+    }
+
+    /**
+     * The size of a generated JAR file.
+     */
+    public enum Size {
+
+        /**
+         * A few classes in a couple of packages.
+         */
+        SMALL(20, 2),
+
+        /**
+         * A typical API JAR file.
+         */
+        MEDIUM(2_000, 40),
+
+        /**
+         * A very large implementation JAR file.
+         */
+        LARGE(100_000, 1_000);
+
+        /**
+         * The number of classes.
+         */
+        private final int classes;
+
+        /**
+         * The number of packages.
+         */
+        private final int packages;
+
+        /**
+         * Create a new {@link Size} instance.
+         * @param nClasses the number of classes
+         * @param nPackages the number of packages
+         */
+        Size(final int nClasses, final int nPackages) {
+            this.classes = nClasses;
+            this.packages = nPackages;
+        }
+    }
+
+    /**
+     * The kind of spec artifact, the four permutations of final / non-final
+     * and api / impl.
+     */
+    public enum Flavor {
+
+        /**
+         * Final API JAR file.
+         */
+        FINAL_API(false, "api", API_PACKAGE, API_PACKAGE + "-api", "2.4.3") {
+            @Override
+            void configure(final Spec spec) {
+                spec.setSpecVersion("2.4");
+                spec.setSpecImplVersion("2.4.3");
+            }
+
+            @Override
+            void attributes(final Attributes attrs) {
+                attrs.putValue(Metadata.BUNDLE_SYMBOLIC_NAME, API_PACKAGE + "-api");
+                attrs.putValue(Metadata.BUNDLE_VERSION, "2.4.3");
+                attrs.putValue(Metadata.JAR_SPECIFICATION_VERSION, "2.4");
+                attrs.putValue(Metadata.JAR_IMPLEMENTATION_VERSION, "2.4.3");
+            }
+        },
+
+        /**
+         * Non-final API JAR file.
+         */
+        NON_FINAL_API(true, "api", API_PACKAGE, API_PACKAGE + "-api", "2.1.2-b35-SNAPSHOT") {
+            @Override
+            void configure(final Spec spec) {
+                spec.setSpecVersion("2.0");
+                spec.setNewSpecVersion("2.1");
+                spec.setSpecImplVersion("2.1.2");
+                spec.setSpecBuild("35");
+            }
+
+            @Override
+            void attributes(final Attributes attrs) {
+                attrs.putValue(Metadata.BUNDLE_SYMBOLIC_NAME, API_PACKAGE + "-api");
+                attrs.putValue(Metadata.BUNDLE_VERSION, "2.0.99.b35");
+                attrs.putValue(Metadata.JAR_SPECIFICATION_VERSION, "2.0.99.35");
+                attrs.putValue(Metadata.JAR_IMPLEMENTATION_VERSION, "2.1.2-b35");
+            }
+        },
+
+        /**
+         * Final standalone implementation JAR file.
+         */
+        FINAL_IMPL(false, "impl", IMPL_NAMESPACE, API_PACKAGE, "1.5.3") {
+            @Override
+            void configure(final Spec spec) {
+                spec.setImplNamespace(IMPL_NAMESPACE);
+                spec.setSpecVersion("1.5");
+                spec.setImplVersion("1.5.3");
+            }
+
+            @Override
+            void attributes(final Attributes attrs) {
+                attrs.putValue(Metadata.BUNDLE_SYMBOLIC_NAME, IMPL_NAMESPACE + '.' + API_PACKAGE);
+                attrs.putValue(Metadata.BUNDLE_VERSION, "1.5.3");
+                attrs.putValue(Metadata.JAR_SPECIFICATION_VERSION, "1.5");
+                attrs.putValue(Metadata.JAR_IMPLEMENTATION_VERSION, "1.5.3");
+            }
+        },
+
+        /**
+         * Non-final standalone implementation JAR file.
+         */
+        NON_FINAL_IMPL(true, "impl", IMPL_NAMESPACE, API_PACKAGE, "1.5-b01") {
+            @Override
+            void configure(final Spec spec) {
+                spec.setImplNamespace(IMPL_NAMESPACE);
+                spec.setSpecVersion("1.4");
+                spec.setNewSpecVersion("1.5");
+                spec.setImplVersion("1.4.4");
+                spec.setNewImplVersion("1.5");
+                spec.setSpecBuild("01");
+                spec.setImplBuild("01");
+            }
+
+            @Override
+            void attributes(final Attributes attrs) {
+                attrs.putValue(Metadata.BUNDLE_SYMBOLIC_NAME, IMPL_NAMESPACE + '.' + API_PACKAGE);
+                attrs.putValue(Metadata.BUNDLE_VERSION, "1.4.99.b01");
+                attrs.putValue(Metadata.JAR_SPECIFICATION_VERSION, "1.4.99.01");
+                attrs.putValue(Metadata.JAR_IMPLEMENTATION_VERSION, "1.5-b01");
+            }
+        };
+
+        /**
+         * {@code true} for a non-final specification.
+         */
+        private final boolean nonFinal;
+
+        /**
+         * The jar type, {@code api} or {@code impl}.
+         */
+        private final String jarType;
+
+        /**
+         * The artifact groupId.
+         */
+        private final String groupId;
+
+        /**
+         * The artifact artifactId.
+         */
+        private final String artifactId;
+
+        /**
+         * The artifact version.
+         */
+        private final String version;
+
+        /**
+         * Create a new {@link Flavor} instance.
+         * @param nf {@code true} for a non-final specification
+         * @param type the jar type
+         * @param gId the artifact groupId
+         * @param aId the artifact artifactId
+         * @param v the artifact version
+         */
+        Flavor(final boolean nf, final String type, final String gId,
+                final String aId, final String v) {
+
+            this.nonFinal = nf;
+            this.jarType = type;
+            this.groupId = gId;
+            this.artifactId = aId;
+            this.version = v;
+        }
+
+        /**
+         * Set the version properties of a spec configuration.
+         * @param spec the spec to configure
+         */
+        abstract void configure(Spec spec);
+
+        /**
+         * Set the version related manifest attributes.
+         * @param attrs the manifest main attributes
+         */
+        abstract void attributes(Attributes attrs);
+
+        /**
+         * Create the artifact of this flavor.
+         * @param suffix the suffix appended to the artifactId, to generate
+         * distinct artifacts
+         * @return the artifact
+         */
+        Artifact artifact(final String suffix) {
+            return new Artifact(groupId, artifactId + suffix, version);
+        }
+
+        /**
+         * Create the spec configuration of this flavor.
+         * @param a the configured artifact
+         * @return the spec configuration
+         */
+        Spec spec(final Artifact a) {
+            Spec spec = new Spec();
+            spec.setSpecMode("jakarta");
+            spec.setArtifact(a);
+            spec.setApiPackage(API_PACKAGE);
+            spec.setJarType(jarType);
+            spec.setNonFinal(nonFinal);
+            configure(spec);
+            return spec;
+        }
+    }
+
+    /**
+     * Write a JAR file.
+     * @param file the file to write
+     * @param flavor the kind of spec artifact
+     * @param size the size of the JAR file
+     * @param a the artifact, written to {@code pom.properties}
+     * @return the written file
+     * @throws IOException if an error occurs while writing the file
+     */
+    static File write(final File file, final Flavor flavor, final Size size,
+            final Artifact a) throws IOException {
+
+        Manifest manifest = new Manifest();
+        Attributes attrs = manifest.getMainAttributes();
+        attrs.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attrs.putValue(Metadata.JAR_EXTENSION_NAME, API_PACKAGE);
+        flavor.attributes(attrs);
+
+        boolean impl = "impl".equals(flavor.jarType);
+        try (JarOutputStream jos = new JarOutputStream(
+                new FileOutputStream(file), manifest)) {
+
+            int perPackage = Math.max(1, size.classes / size.packages);
+            for (int p = 0; p < size.packages; p++) {
+                // implementation JAR files contain both namespaces
+                String pkg = impl && p % 2 == 1
+                        ? IMPL_NAMESPACE + ".internal" + p
+                        : API_PACKAGE + (p == 0 ? "" : ".sub" + p);
+                String dir = pkg.replace('.', '/') + '/';
+                jos.putNextEntry(new JarEntry(dir));
+                for (int c = 0; c < perPackage; c++) {
+                    jos.putNextEntry(new JarEntry(dir + "Class" + c + ".class"));
+                    jos.write(CLASS_BYTES);
+                }
+            }
+            jos.putNextEntry(new JarEntry("META-INF/maven/" + a.getGroupId()
+                    + '/' + a.getArtifactId() + "/pom.properties"));
+            jos.write(("groupId=" + a.getGroupId() + "\n"
+                    + "artifactId=" + a.getArtifactId() + "\n"
+                    + "version=" + a.getVersion() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        return file;
+    }
+}
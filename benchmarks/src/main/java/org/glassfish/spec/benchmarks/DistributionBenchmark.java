@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.Spec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of a full distribution scan: every JAR file of a directory is
+ * read and verified against its spec configuration, as
+ * {@code check-distribution} does with a single thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DistributionBenchmark {
+
+    /**
+     * The number of JAR files in the distribution.
+     */
+    @Param({"200"})
+    private int jars;
+
+    /**
+     * The size of the JAR files.
+     */
+    @Param({"SMALL", "MEDIUM"})
+    private BenchmarkJars.Size size;
+
+    /**
+     * The distribution directory.
+     */
+    private File dir;
+
+    /**
+     * The JAR files.
+     */
+    private final List<File> files = new ArrayList<>();
+
+    /**
+     * The spec configurations indexed by artifact.
+     */
+    private final Map<Artifact, Spec> specs = new HashMap<>();
+
+    /**
+     * Generate the distribution, cycling through the spec flavors.
+     * @throws IOException if an error occurs while writing the JAR files
+     */
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("spec-bench").toFile();
+        BenchmarkJars.Flavor[] flavors = BenchmarkJars.Flavor.values();
+        for (int i = 0; i < jars; i++) {
+            BenchmarkJars.Flavor flavor = flavors[i % flavors.length];
+            Artifact a = flavor.artifact("-" + i);
+            files.add(BenchmarkJars.write(new File(dir, a.getArtifactId()
+                    + ".jar"), flavor, size, a));
+            specs.put(a, flavor.spec(a));
+        }
+    }
+
+    /**
+     * Delete the distribution.
+     */
+    @TearDown
+    public void tearDown() {
+        for (File f : files) {
+            f.delete();
+        }
+        files.clear();
+        dir.delete();
+    }
+
+    /**
+     * Read and verify all the JAR files.
+     * @return the number of errors
+     * @throws IOException if an error occurs while reading a JAR file
+     */
+    @Benchmark
+    public int scan() throws IOException {
+        int errors = 0;
+        for (File f : files) {
+            JarSnapshot snapshot = JarSnapshot.of(f);
+            Spec spec = new Spec(specs.get(snapshot.getArtifact()));
+            spec.setMetadata(snapshot.getMetadata());
+            spec.verify();
+            errors += spec.getErrors().size();
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.glassfish.spec.JarReader;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.PackageMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the entry name classification over an open
+ * {@link JarReader}, the {@code gc.alloc.rate.norm} metric reports the bytes
+ * allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntryScanBenchmark {
+
+    /**
+     * The size of the scanned JAR file.
+     */
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkJars.Size size;
+
+    /**
+     * The generated JAR file.
+     */
+    private File jar;
+
+    /**
+     * The open reader.
+     */
+    private JarReader reader;
+
+    /**
+     * The allowed packages.
+     */
+    private PackageMatcher matcher;
+
+    /**
+     * Generate and open the JAR file.
+     * @throws IOException if an error occurs while writing the JAR file
+     */
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkJars.Flavor flavor = BenchmarkJars.Flavor.FINAL_API;
+        jar = BenchmarkJars.write(Files.createTempFile("spec-bench", ".jar")
+                .toFile(), flavor, size, flavor.artifact(""));
+        reader = JarReader.open(jar);
+        matcher = PackageMatcher.of(BenchmarkJars.API_PACKAGE);
+    }
+
+    /**
+     * Close and delete the JAR file.
+     * @throws IOException if an error occurs while closing the JAR file
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        jar.delete();
+    }
+
+    /**
+     * Classify the entries by scanning the raw names, nothing is allocated
+     * per entry.
+     * @return the number of classes in the allowed packages
+     */
+    @Benchmark
+    public int scanNames() {
+        final int[] count = {0};
+        reader.scan(new JarReader.NameVisitor() {
+            @Override
+            public void visit(final int index, final CharSequence name) {
+                if (isClass(name) && inAllowedPackage(name)) {
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Test if the package of an entry name is allowed, without allocating.
+     * @param name the entry name
+     * @return {@code true} if allowed, {@code false} otherwise
+     */
+    private boolean inAllowedPackage(final CharSequence name) {
+        int end = name.length() - 1;
+        while (end > 0 && name.charAt(end) != '/') {
+            end--;
+        }
+        return matcher.matches(name, 0, Math.max(end, 0), '/');
+    }
+
+    /**
+     * Test if an entry name is a class, without allocating.
+     * @param name the entry name
+     * @return {@code true} if a class, {@code false} otherwise
+     */
+    private static boolean isClass(final CharSequence name) {
+        String suffix = ".class";
+        int off = name.length() - suffix.length();
+        if (off < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (name.charAt(off + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Classify the entries by creating an entry, and its name, per entry.
+     * @return the number of classes in the allowed packages
+     */
+    @Benchmark
+    public int createEntries() {
+        int count = 0;
+        for (int i = 0; i < reader.size(); i++) {
+            String name = reader.getEntry(i).getName();
+            if (name.endsWith(".class") && inAllowedPackage(name)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Read the artifact, the manifest metadata and the packages from the open
+     * reader.
+     * @return the snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    @Benchmark
+    public JarSnapshot snapshot() throws IOException {
+        return JarSnapshot.of(reader);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.JarReader;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.Metadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link Artifact#fromJar}, {@link Metadata#fromJar} and
+ * {@link JarSnapshot#of}, reading from a file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JarReadBenchmark {
+
+    /**
+     * The size of the read JAR file.
+     */
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkJars.Size size;
+
+    /**
+     * The generated JAR file.
+     */
+    private File jar;
+
+    /**
+     * Generate the JAR file.
+     * @throws IOException if an error occurs while writing the JAR file
+     */
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkJars.Flavor flavor = BenchmarkJars.Flavor.FINAL_API;
+        jar = BenchmarkJars.write(Files.createTempFile("spec-bench", ".jar")
+                .toFile(), flavor, size, flavor.artifact(""));
+    }
+
+    /**
+     * Delete the JAR file.
+     */
+    @TearDown
+    public void tearDown() {
+        jar.delete();
+    }
+
+    /**
+     * Read the artifact with {@link JarFile}.
+     * @return the artifact
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    @Benchmark
+    public Artifact artifactFromJarFile() throws IOException {
+        try (JarFile jarFile = new JarFile(jar)) {
+            return Artifact.fromJar(jarFile);
+        }
+    }
+
+    /**
+     * Read the artifact with {@link JarReader}.
+     * @return the artifact
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    @Benchmark
+    public Artifact artifactFromJarReader() throws IOException {
+        try (JarReader reader = JarReader.open(jar)) {
+            return Artifact.fromJar(reader);
+        }
+    }
+
+    /**
+     * Read the manifest metadata with {@link JarFile}.
+     * @return the metadata
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    @Benchmark
+    public Metadata metadataFromJarFile() throws IOException {
+        try (JarFile jarFile = new JarFile(jar)) {
+            return Metadata.fromJar(jarFile);
+        }
+    }
+
+    /**
+     * Read the manifest metadata with {@link JarReader}.
+     * @return the metadata
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    @Benchmark
+    public Metadata metadataFromJarReader() throws IOException {
+        try (JarReader reader = JarReader.open(jar)) {
+            return Metadata.fromJar(reader);
+        }
+    }
+
+    /**
+     * Read the artifact, the manifest metadata and the packages in one pass.
+     * @return the snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    @Benchmark
+    public JarSnapshot snapshot() throws IOException {
+        return JarSnapshot.of(jar);
+    }
+}
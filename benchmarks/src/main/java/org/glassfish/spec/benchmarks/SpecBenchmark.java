@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.Spec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link Spec#verify()}, and of {@link Spec#verify(JarSnapshot)}
+ * which also checks the packages of the classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecBenchmark {
+
+    /**
+     * The size of the verified JAR file.
+     */
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private BenchmarkJars.Size size;
+
+    /**
+     * The kind of the verified spec artifact.
+     */
+    @Param({"FINAL_API", "NON_FINAL_API", "FINAL_IMPL", "NON_FINAL_IMPL"})
+    private BenchmarkJars.Flavor flavor;
+
+    /**
+     * The generated JAR file.
+     */
+    private File jar;
+
+    /**
+     * The snapshot of the generated JAR file.
+     */
+    private JarSnapshot snapshot;
+
+    /**
+     * The spec configuration.
+     */
+    private Spec config;
+
+    /**
+     * Generate the JAR file.
+     * @throws IOException if an error occurs while writing the JAR file
+     */
+    @Setup
+    public void setup() throws IOException {
+        Artifact a = flavor.artifact("");
+        jar = BenchmarkJars.write(Files.createTempFile("spec-bench", ".jar")
+                .toFile(), flavor, size, a);
+        snapshot = JarSnapshot.of(jar);
+        config = flavor.spec(a);
+        config.setMetadata(snapshot.getMetadata());
+    }
+
+    /**
+     * Delete the JAR file.
+     */
+    @TearDown
+    public void tearDown() {
+        jar.delete();
+    }
+
+    /**
+     * Verify the spec properties and the manifest, without the classes.
+     * @return the errors
+     */
+    @Benchmark
+    public List<String> verify() {
+        Spec spec = new Spec(config);
+        spec.verify();
+        return spec.getErrors();
+    }
+
+    /**
+     * Verify the spec properties, the manifest and the packages of the
+     * classes.
+     * @return the errors
+     */
+    @Benchmark
+    public List<String> verifySnapshot() {
+        Spec spec = new Spec(config);
+        spec.verify(snapshot);
+        return spec.getErrors();
+    }
+}
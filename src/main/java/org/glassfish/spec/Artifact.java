@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,6 +17,7 @@
 
 package org.glassfish.spec;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Enumeration;
@@ -23,6 +25,7 @@ import java.util.Properties;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
@@ -205,7 +208,58 @@ public final class Artifact {
                     "unable to find pom.properties "
                     + "files inside " + jar.getName());
         }
-        InputStream is = jar.getInputStream(entry);
+        try (InputStream is = jar.getInputStream(entry)) {
+            return fromPomProperties(is);
+        }
+    }
+
+    /**
+     * Create an {@link Artifact} instance from a given JAR file.
+     * Only the central directory and the {@code pom.properties} entry are
+     * read.
+     * @param jar the jar file to process
+     * @return the create {@link Artifact} instance
+     * @throws IOException if an error occurs while reading JAR file entries
+     */
+    public static Artifact fromJar(final JarReader jar) throws IOException {
+        JarReader.Entry entry = jar.getPomPropertiesEntry();
+        if (entry == null) {
+            throw new RuntimeException(
+                    "unable to find pom.properties "
+                    + "files inside " + jar.getName());
+        }
+        try (InputStream is = jar.getInputStream(entry)) {
+            return fromPomProperties(is);
+        }
+    }
+
+    /**
+     * Create an {@link Artifact} instance from a given JAR file, using
+     * {@link JarReader} or {@link JarFile} if the file is not supported by
+     * {@link JarReader}.
+     * @param file the jar file to process
+     * @return the create {@link Artifact} instance
+     * @throws IOException if an error occurs while reading JAR file entries
+     */
+    public static Artifact fromFile(final File file) throws IOException {
+        try (JarReader jar = JarReader.open(file)) {
+            return fromJar(jar);
+        } catch (ZipException ex) {
+            try (JarFile jar = new JarFile(file)) {
+                return fromJar(jar);
+            }
+        }
+    }
+
+    /**
+     * Create an {@link Artifact} instance from {@code pom.properties}.
+     * @param is the {@code pom.properties} input stream
+     * @return the create {@link Artifact} instance
+     * @throws IOException if an error occurs while reading the stream
+     */
+    static Artifact fromPomProperties(final InputStream is)
+            throws IOException {
+
         Properties pomProps = new Properties();
         pomProps.load(is);
 
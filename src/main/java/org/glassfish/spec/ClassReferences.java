@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Collects the packages referenced by a class file.
+ *
+ * <p>
+ * Only the constant pool and the descriptors of the declared fields and
+ * methods are read, the class is neither loaded nor fully parsed. The
+ * referenced packages are the packages of the classes named by the
+ * {@code CONSTANT_Class} entries, and of the classes used in the field and
+ * method descriptors of the member references, of the method types and of
+ * the declared members. Generic signatures and annotations are not read,
+ * they do not take part in linking.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se21/html/jvms-4.html">
+ * The class File Format</a>
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class ClassReferences {
+
+    /**
+     * Marks a {@code CONSTANT_Utf8} entry holding a class name.
+     */
+    private static final byte CLASS_NAME = 1;
+
+    /**
+     * Marks a {@code CONSTANT_Utf8} entry holding a descriptor.
+     */
+    private static final byte DESCRIPTOR = 2;
+
+    /**
+     * Cannot be instantiated.
+     */
+    private ClassReferences() {
+    }
+
+    /**
+     * Collect the packages referenced by a class file.
+     * @param name the class file name, used in error messages
+     * @param classFile the class file content
+     * @param packages the set to add the dotted package names to, the
+     * default package is the empty string
+     * @throws IOException if the class file is malformed
+     */
+    public static void collect(final String name, final byte[] classFile,
+            final Set<String> packages) throws IOException {
+
+        try {
+            collect(new ConstantPool(classFile), packages);
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IOException("malformed class file: " + name, ex);
+        } catch (IllegalStateException ex) {
+            throw new IOException(ex.getMessage() + ": " + name, ex);
+        }
+    }
+
+    /**
+     * Collect the packages referenced by a class file.
+     * @param cp the constant pool of the class file
+     * @param packages the set to add the referenced packages to
+     * @throws IOException if a constant cannot be decoded
+     */
+    private static void collect(final ConstantPool cp,
+            final Set<String> packages) throws IOException {
+
+        byte[] kinds = new byte[cp.size()];
+        for (int i = 1; i < cp.size(); i++) {
+            switch (cp.tag(i)) {
+                case ConstantPool.CLASS:
+                    kinds[cp.ref(i, 0)] = CLASS_NAME;
+                    break;
+                case ConstantPool.METHOD_TYPE:
+                    kinds[cp.ref(i, 0)] = DESCRIPTOR;
+                    break;
+                case ConstantPool.NAME_AND_TYPE:
+                    kinds[cp.ref(i, 2)] = DESCRIPTOR;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        // skip access flags, this class, super class and interfaces
+        int pos = cp.end() + 6;
+        pos += 2 + 2 * cp.u2(pos);
+        // fields and methods
+        for (int members = 0; members < 2; members++) {
+            int n = cp.u2(pos);
+            pos += 2;
+            for (int i = 0; i < n; i++) {
+                // access flags, name
+                kinds[cp.u2(pos + 4)] = DESCRIPTOR;
+                int attrs = cp.u2(pos + 6);
+                pos += 8;
+                for (int j = 0; j < attrs; j++) {
+                    pos += 6 + cp.u4(pos + 2);
+                }
+            }
+        }
+
+        for (int i = 1; i < kinds.length; i++) {
+            if (kinds[i] == 0) {
+                continue;
+            }
+            String value = cp.utf8(i);
+            if (kinds[i] == CLASS_NAME && !value.startsWith("[")) {
+                addPackage(value, 0, value.length(), packages);
+            } else {
+                addDescriptor(value, packages);
+            }
+        }
+    }
+
+    /**
+     * Add the packages of the classes used in a descriptor.
+     * @param desc the field or method descriptor
+     * @param packages the set to add the packages to
+     */
+    private static void addDescriptor(final String desc,
+            final Set<String> packages) {
+
+        int i = 0;
+        while (i < desc.length()) {
+            if (desc.charAt(i++) == 'L') {
+                int start = i;
+                while (i < desc.length() && desc.charAt(i) != ';') {
+                    i++;
+                }
+                addPackage(desc, start, i, packages);
+            }
+        }
+    }
+
+    /**
+     * Add the package of a class.
+     * @param str the string containing the internal class name
+     * @param start the start of the class name
+     * @param end the end of the class name
+     * @param packages the set to add the package to
+     */
+    private static void addPackage(final String str, final int start,
+            final int end, final Set<String> packages) {
+
+        int i = str.lastIndexOf('/', end - 1);
+        if (i < start) {
+            packages.add("");
+        } else {
+            packages.add(str.substring(start, i).replace('/', '.'));
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The constant pool of a class file.
+ *
+ * <p>
+ * Only the offsets of the constants are recorded when the class file is
+ * parsed, the constants are decoded on demand. Malformed class files
+ * cause an {@link IllegalStateException}, or an
+ * {@link IndexOutOfBoundsException} if truncated.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se21/html/jvms-4.html#jvms-4.4">
+ * The Constant Pool</a>
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+final class ConstantPool {
+
+    /**
+     * {@code CONSTANT_Utf8} tag.
+     */
+    static final int UTF8 = 1;
+
+    /**
+     * {@code CONSTANT_Integer} tag.
+     */
+    static final int INTEGER = 3;
+
+    /**
+     * {@code CONSTANT_Float} tag.
+     */
+    static final int FLOAT = 4;
+
+    /**
+     * {@code CONSTANT_Long} tag.
+     */
+    static final int LONG = 5;
+
+    /**
+     * {@code CONSTANT_Double} tag.
+     */
+    static final int DOUBLE = 6;
+
+    /**
+     * {@code CONSTANT_Class} tag.
+     */
+    static final int CLASS = 7;
+
+    /**
+     * {@code CONSTANT_String} tag.
+     */
+    static final int STRING = 8;
+
+    /**
+     * {@code CONSTANT_Fieldref} tag.
+     */
+    static final int FIELD_REF = 9;
+
+    /**
+     * {@code CONSTANT_Methodref} tag.
+     */
+    static final int METHOD_REF = 10;
+
+    /**
+     * {@code CONSTANT_InterfaceMethodref} tag.
+     */
+    static final int INTERFACE_METHOD_REF = 11;
+
+    /**
+     * {@code CONSTANT_NameAndType} tag.
+     */
+    static final int NAME_AND_TYPE = 12;
+
+    /**
+     * {@code CONSTANT_MethodHandle} tag.
+     */
+    static final int METHOD_HANDLE = 15;
+
+    /**
+     * {@code CONSTANT_MethodType} tag.
+     */
+    static final int METHOD_TYPE = 16;
+
+    /**
+     * {@code CONSTANT_Dynamic} tag.
+     */
+    static final int DYNAMIC = 17;
+
+    /**
+     * {@code CONSTANT_InvokeDynamic} tag.
+     */
+    static final int INVOKE_DYNAMIC = 18;
+
+    /**
+     * {@code CONSTANT_Module} tag.
+     */
+    static final int MODULE = 19;
+
+    /**
+     * {@code CONSTANT_Package} tag.
+     */
+    static final int PACKAGE = 20;
+
+    /**
+     * The class file magic number.
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * The offset of the constant pool count in the class file.
+     */
+    private static final int COUNT_OFFSET = 8;
+
+    /**
+     * The class file content.
+     */
+    private final byte[] buf;
+
+    /**
+     * The offsets of the constants, {@code 0} for unusable entries.
+     */
+    private final int[] offsets;
+
+    /**
+     * The offset of the end of the constant pool.
+     */
+    private final int end;
+
+    /**
+     * Parse the constant pool of a class file.
+     * @param classFile the class file content
+     */
+    ConstantPool(final byte[] classFile) {
+        this.buf = classFile;
+        if (u4(0) != MAGIC) {
+            throw new IllegalStateException("invalid class file");
+        }
+        int count = u2(COUNT_OFFSET);
+        offsets = new int[count];
+        int pos = COUNT_OFFSET + 2;
+        for (int i = 1; i < count; i++) {
+            offsets[i] = pos;
+            int tag = buf[pos];
+            switch (tag) {
+                case UTF8:
+                    pos += 3 + u2(pos + 1);
+                    break;
+                case CLASS:
+                case STRING:
+                case METHOD_TYPE:
+                case MODULE:
+                case PACKAGE:
+                    pos += 3;
+                    break;
+                case METHOD_HANDLE:
+                    pos += 4;
+                    break;
+                case INTEGER:
+                case FLOAT:
+                case FIELD_REF:
+                case METHOD_REF:
+                case INTERFACE_METHOD_REF:
+                case NAME_AND_TYPE:
+                case DYNAMIC:
+                case INVOKE_DYNAMIC:
+                    pos += 5;
+                    break;
+                case LONG:
+                case DOUBLE:
+                    // takes two entries
+                    pos += 9;
+                    i++;
+                    break;
+                default:
+                    throw new IllegalStateException(
+                            "invalid constant pool tag " + tag);
+            }
+        }
+        this.end = pos;
+    }
+
+    /**
+     * Get the number of entries, including the unusable entry {@code 0}.
+     * @return the number of entries
+     */
+    int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Get the offset of the end of the constant pool in the class file.
+     * @return the offset of the access flags of the class
+     */
+    int end() {
+        return end;
+    }
+
+    /**
+     * Get the tag of an entry.
+     * @param index the entry index
+     * @return the tag, {@code 0} for unusable entries
+     */
+    int tag(final int index) {
+        int off = offsets[index];
+        return off == 0 ? 0 : buf[off];
+    }
+
+    /**
+     * Get an unsigned 16-bit value of an entry, e.g. the name index of a
+     * {@code CONSTANT_Class} entry.
+     * @param index the entry index
+     * @param field the offset of the value in the entry, after the tag
+     * @return the value
+     */
+    int ref(final int index, final int field) {
+        return u2(offsets[index] + 1 + field);
+    }
+
+    /**
+     * Decode the {@code CONSTANT_Utf8} entry referenced by an entry that
+     * holds a single reference, e.g. the name of a {@code CONSTANT_Class} or
+     * {@code CONSTANT_Module} entry.
+     * @param index the entry index
+     * @param expectedTag the expected tag of the entry
+     * @return the decoded value
+     * @throws IOException if the value is malformed
+     */
+    String name(final int index, final int expectedTag) throws IOException {
+        if (tag(index) != expectedTag) {
+            throw new IllegalStateException(
+                    "invalid constant pool reference " + index);
+        }
+        return utf8(ref(index, 0));
+    }
+
+    /**
+     * Decode a {@code CONSTANT_Utf8} entry.
+     * @param index the entry index
+     * @return the decoded value
+     * @throws IOException if the value is malformed
+     */
+    String utf8(final int index) throws IOException {
+        if (tag(index) != UTF8) {
+            throw new IllegalStateException(
+                    "invalid constant pool reference " + index);
+        }
+        int off = offsets[index] + 1;
+        int len = u2(off);
+        for (int i = off + 2; i < off + 2 + len; i++) {
+            if (buf[i] <= 0) {
+                // modified UTF-8
+                return new DataInputStream(new ByteArrayInputStream(buf,
+                        off, len + 2)).readUTF();
+            }
+        }
+        return new String(buf, off + 2, len, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Read an unsigned 16-bit value of the class file.
+     * @param pos the position to read at
+     * @return the value
+     */
+    int u2(final int pos) {
+        return ((buf[pos] & 0xff) << 8) | (buf[pos + 1] & 0xff);
+    }
+
+    /**
+     * Read a 32-bit value of the class file.
+     * @param pos the position to read at
+     * @return the value
+     */
+    int u4(final int pos) {
+        return (u2(pos) << 16) | u2(pos + 2);
+    }
+}
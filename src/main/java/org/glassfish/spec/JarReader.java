@@ -0,0 +1,1056 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * A minimal JAR file reader.
+ *
+ * <p>
+ * Only the end of central directory record and the central directory are
+ * read when the reader is opened, entry data is read and inflated on demand.
+ * This is much cheaper than {@link java.util.jar.JarFile} when only a couple
+ * of entries are needed from a large JAR file.
+ *
+ * <p>
+ * A reader can also be created over bytes held in memory, or over a JAR
+ * file nested in another archive, so that it can be processed without
+ * being extracted to disk. A nested JAR file that is stored, i.e. not
+ * compressed, is read in place like any other JAR file.
+ *
+ * <p>
+ * Entry names can be scanned with {@link #scan(NameVisitor)} without
+ * creating an {@link Entry} or a {@link String} per entry; the
+ * {@link Entry} instances are only created for the entries that are read, or
+ * on the first call to {@link #getEntries()}.
+ *
+ * <p>
+ * Only the {@code stored} and {@code deflated} compression methods are
+ * supported, a {@link ZipException} is thrown for anything else so that
+ * callers can fall back to {@link java.util.jar.JarFile}.
+ *
+ * @see <a href="https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT">
+ * ZIP File Format Specification</a>
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class JarReader implements Closeable {
+
+    /**
+     * Entry name of the JAR manifest.
+     */
+    public static final String MANIFEST_NAME = "META-INF/MANIFEST.MF";
+
+    /**
+     * Entry name prefix of the Maven metadata.
+     */
+    private static final String MAVEN_PREFIX = "META-INF/maven/";
+
+    /**
+     * Entry name suffix of the Maven {@code pom.properties} files.
+     */
+    private static final String POM_PROPERTIES_SUFFIX = "/pom.properties";
+
+    /**
+     * End of central directory record signature.
+     */
+    private static final int EOCD_SIG = 0x06054b50;
+
+    /**
+     * End of central directory record size, without comment.
+     */
+    private static final int EOCD_SIZE = 22;
+
+    /**
+     * Maximum size of the ZIP file comment.
+     */
+    private static final int MAX_COMMENT_SIZE = 0xffff;
+
+    /**
+     * ZIP64 end of central directory locator signature.
+     */
+    private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+
+    /**
+     * ZIP64 end of central directory locator size.
+     */
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+
+    /**
+     * ZIP64 end of central directory record signature.
+     */
+    private static final int ZIP64_EOCD_SIG = 0x06064b50;
+
+    /**
+     * ZIP64 end of central directory record size.
+     */
+    private static final int ZIP64_EOCD_SIZE = 56;
+
+    /**
+     * ZIP64 extended information extra field header id.
+     */
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    /**
+     * Central directory file header signature.
+     */
+    private static final int CEN_SIG = 0x02014b50;
+
+    /**
+     * Central directory file header size, without variable fields.
+     */
+    private static final int CEN_SIZE = 46;
+
+    /**
+     * Local file header signature.
+     */
+    private static final int LOC_SIG = 0x04034b50;
+
+    /**
+     * Local file header size, without variable fields.
+     */
+    private static final int LOC_SIZE = 30;
+
+    /**
+     * Compression method {@code stored}.
+     */
+    public static final int STORED = 0;
+
+    /**
+     * Compression method {@code deflated}.
+     */
+    public static final int DEFLATED = 8;
+
+    /**
+     * The separator of the archive name and the entry name in the name of a
+     * nested JAR file.
+     */
+    public static final String NESTED_SEPARATOR = "!/";
+
+    /**
+     * The JAR file name.
+     */
+    private final String name;
+
+    /**
+     * The channel to read from, {@code null} if reading from memory.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The data to read from, {@code null} if reading from a channel.
+     */
+    private final ByteBuffer data;
+
+    /**
+     * The position of the JAR file in the channel or the data, not zero for
+     * a JAR file stored in another one.
+     */
+    private final long origin;
+
+    /**
+     * The size of the JAR file.
+     */
+    private final long fileSize;
+
+    /**
+     * {@code true} if the channel belongs to the enclosing JAR file and must
+     * not be closed by this reader.
+     */
+    private final boolean nested;
+
+    /**
+     * The central directory.
+     */
+    private final ByteBuffer cen;
+
+    /**
+     * The positions of the central directory file headers.
+     */
+    private final int[] headers;
+
+    /**
+     * The offset of the start of the archive in the file.
+     */
+    private final long base;
+
+    /**
+     * The central directory entries, created on demand.
+     */
+    private List<Entry> entries;
+
+    /**
+     * Receives the entry names scanned by {@link #scan(NameVisitor)}.
+     */
+    public interface NameVisitor {
+
+        /**
+         * Visit an entry name.
+         * @param index the entry index, see {@link #getEntry(int)}
+         * @param entryName the entry name, only valid during the call
+         */
+        void visit(int index, CharSequence entryName);
+    }
+
+    /**
+     * A central directory entry.
+     */
+    public static final class Entry {
+
+        /**
+         * The entry name.
+         */
+        private final String entryName;
+
+        /**
+         * The compression method.
+         */
+        private final int method;
+
+        /**
+         * The CRC-32 of the uncompressed data.
+         */
+        private final long crc;
+
+        /**
+         * The compressed size.
+         */
+        private final long compressedSize;
+
+        /**
+         * The uncompressed size.
+         */
+        private final long size;
+
+        /**
+         * The offset of the local file header.
+         */
+        private final long offset;
+
+        /**
+         * Create a new {@link Entry} instance.
+         * @param n the entry name
+         * @param m the compression method
+         * @param c the CRC-32 of the uncompressed data
+         * @param cs the compressed size
+         * @param s the uncompressed size
+         * @param off the offset of the local file header
+         */
+        Entry(final String n, final int m, final long c, final long cs,
+                final long s, final long off) {
+
+            this.entryName = n;
+            this.method = m;
+            this.crc = c;
+            this.compressedSize = cs;
+            this.size = s;
+            this.offset = off;
+        }
+
+        /**
+         * Get the entry name.
+         * @return the name
+         */
+        public String getName() {
+            return entryName;
+        }
+
+        /**
+         * Get the compression method.
+         * @return the compression method
+         */
+        public int getMethod() {
+            return method;
+        }
+
+        /**
+         * Get the CRC-32 of the uncompressed data.
+         * @return the CRC-32
+         */
+        public long getCrc() {
+            return crc;
+        }
+
+        /**
+         * Get the compressed size.
+         * @return the compressed size
+         */
+        public long getCompressedSize() {
+            return compressedSize;
+        }
+
+        /**
+         * Get the uncompressed size.
+         * @return the uncompressed size
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Test if this entry is a directory.
+         * @return {@code true} if a directory, {@code false} otherwise
+         */
+        public boolean isDirectory() {
+            return entryName.endsWith("/");
+        }
+
+        @Override
+        public String toString() {
+            return entryName;
+        }
+    }
+
+    /**
+     * Create a new {@link JarReader} instance.
+     * @param n the JAR file name
+     * @param ch the channel to read from, {@code null} if reading from memory
+     * @param bytes the data to read from, {@code null} if reading from a
+     * channel
+     * @param position the position of the JAR file in the channel or the
+     * data
+     * @param size the size of the JAR file
+     * @param enclosed {@code true} if the channel belongs to the enclosing
+     * JAR file
+     * @throws IOException if an error occurs while reading the central
+     * directory
+     */
+    private JarReader(final String n, final FileChannel ch,
+            final ByteBuffer bytes, final long position, final long size,
+            final boolean enclosed) throws IOException {
+
+        this.name = n;
+        this.channel = ch;
+        this.data = bytes;
+        this.origin = position;
+        this.fileSize = size;
+        this.nested = enclosed;
+
+        // locate the central directory, then index its file headers
+        long[] cenPos = locateCentralDirectory();
+        this.base = cenPos[0];
+        this.cen = readFully(cenPos[1], (int) cenPos[2]);
+        this.headers = indexCentralDirectory(cenPos[3]);
+    }
+
+    /**
+     * Open a JAR file.
+     * @param file the file to open
+     * @return the created reader
+     * @throws ZipException if the file is not a supported ZIP file
+     * @throws IOException if an error occurs while reading the file
+     */
+    public static JarReader open(final File file) throws IOException {
+        FileChannel ch = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ);
+        try {
+            return new JarReader(file.getPath(), ch, null, 0, ch.size(),
+                    false);
+        } catch (IOException | RuntimeException ex) {
+            ch.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Open a JAR file held in memory.
+     * @param n the JAR file name
+     * @param bytes the JAR file content, not copied
+     * @return the created reader
+     * @throws ZipException if the data is not a supported ZIP file
+     */
+    public static JarReader open(final String n, final byte[] bytes)
+            throws ZipException {
+
+        try {
+            return new JarReader(n, null, ByteBuffer.wrap(bytes), 0,
+                    bytes.length, false);
+        } catch (ZipException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            // truncated data
+            ZipException zex = new ZipException(ex.getMessage());
+            zex.initCause(ex);
+            throw zex;
+        }
+    }
+
+    /**
+     * Get the JAR file name.
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the number of entries.
+     * @return the number of entries
+     */
+    public int size() {
+        return headers.length;
+    }
+
+    /**
+     * Get all the entries in central directory order.
+     * @return the unmodifiable list of entries
+     */
+    public synchronized List<Entry> getEntries() {
+        if (entries == null) {
+            List<Entry> list = new ArrayList<>(headers.length);
+            for (int i = 0; i < headers.length; i++) {
+                list.add(getEntry(i));
+            }
+            entries = Collections.unmodifiableList(list);
+        }
+        return entries;
+    }
+
+    /**
+     * Get the entry at the given index in central directory order.
+     * @param index the entry index
+     * @return the entry
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Entry getEntry(final int index) {
+        int pos = headers[index];
+        int method = u16(cen, pos + 10);
+        long crc = u32(cen, pos + 16);
+        long csize = u32(cen, pos + 20);
+        long size = u32(cen, pos + 24);
+        int nlen = u16(cen, pos + 28);
+        int elen = u16(cen, pos + 30);
+        long offset = u32(cen, pos + 42);
+        String entryName = new String(cen.array(), pos + CEN_SIZE, nlen,
+                StandardCharsets.UTF_8);
+
+        if (size == 0xffffffffL || csize == 0xffffffffL
+                || offset == 0xffffffffL) {
+            int epos = pos + CEN_SIZE + nlen;
+            int eend = epos + elen;
+            while (epos + 4 <= eend) {
+                int id = u16(cen, epos);
+                int dsize = u16(cen, epos + 2);
+                int dpos = epos + 4;
+                if (id == ZIP64_EXTRA_ID) {
+                    if (size == 0xffffffffL && dpos + 8 <= eend) {
+                        size = cen.getLong(dpos);
+                        dpos += 8;
+                    }
+                    if (csize == 0xffffffffL && dpos + 8 <= eend) {
+                        csize = cen.getLong(dpos);
+                        dpos += 8;
+                    }
+                    if (offset == 0xffffffffL && dpos + 8 <= eend) {
+                        offset = cen.getLong(dpos);
+                    }
+                    break;
+                }
+                epos = dpos + dsize;
+            }
+        }
+        return new Entry(entryName, method, crc, csize, size, base + offset);
+    }
+
+    /**
+     * Get the CRC-32 of the entry at the given index, read from the central
+     * directory without creating the entry.
+     * @param index the entry index
+     * @return the CRC-32 of the uncompressed data
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getCrc(final int index) {
+        return u32(cen, headers[index] + 16);
+    }
+
+    /**
+     * Get the entry with the given name.
+     * @param entryName the entry name
+     * @return the entry, or {@code null} if not found
+     */
+    public Entry getEntry(final String entryName) {
+        byte[] target = entryName.getBytes(StandardCharsets.UTF_8);
+        byte[] buf = cen.array();
+        for (int i = 0; i < headers.length; i++) {
+            int pos = headers[i];
+            int nlen = u16(cen, pos + 28);
+            if (nlen == target.length && regionEquals(buf, pos + CEN_SIZE,
+                    target)) {
+                return getEntry(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the manifest entry.
+     * @return the entry, or {@code null} if not found
+     */
+    public Entry getManifestEntry() {
+        return getEntry(MANIFEST_NAME);
+    }
+
+    /**
+     * Get the first {@code META-INF/maven/**}{@code /pom.properties} entry.
+     * @return the entry, or {@code null} if not found
+     */
+    public Entry getPomPropertiesEntry() {
+        final int[] found = {-1};
+        scan(new NameVisitor() {
+            @Override
+            public void visit(final int index, final CharSequence entryName) {
+                if (found[0] < 0 && isPomProperties(entryName)) {
+                    found[0] = index;
+                }
+            }
+        });
+        return found[0] < 0 ? null : getEntry(found[0]);
+    }
+
+    /**
+     * Visit the names of all the entries in central directory order.
+     *
+     * <p>
+     * ASCII names, i.e. nearly all the names found in JAR files, are passed
+     * as a view over the central directory that is reused for all the
+     * entries, only the other names are decoded to a {@link String}.
+     * @param visitor the visitor to invoke for each entry
+     */
+    public void scan(final NameVisitor visitor) {
+        byte[] buf = cen.array();
+        AsciiName view = new AsciiName(buf);
+        for (int i = 0; i < headers.length; i++) {
+            int start = headers[i] + CEN_SIZE;
+            int end = start + u16(cen, headers[i] + 28);
+            int pos = start;
+            while (pos < end && buf[pos] >= 0) {
+                pos++;
+            }
+            if (pos == end) {
+                view.start = start;
+                view.end = end;
+                visitor.visit(i, view);
+            } else {
+                visitor.visit(i, new String(buf, start, end - start,
+                        StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Test if the given entry name is a Maven {@code pom.properties} file.
+     * @param entryName the entry name
+     * @return {@code true} if a {@code pom.properties} file,
+     * {@code false} otherwise
+     */
+    static boolean isPomProperties(final CharSequence entryName) {
+        return startsWith(entryName, MAVEN_PREFIX)
+                && endsWith(entryName, POM_PROPERTIES_SUFFIX);
+    }
+
+    /**
+     * Test if a character sequence starts with the given prefix.
+     * @param seq the character sequence
+     * @param prefix the prefix
+     * @return {@code true} if {@code seq} starts with {@code prefix},
+     * {@code false} otherwise
+     */
+    static boolean startsWith(final CharSequence seq, final String prefix) {
+        return seq.length() >= prefix.length()
+                && regionEquals(seq, 0, prefix);
+    }
+
+    /**
+     * Test if a character sequence ends with the given suffix.
+     * @param seq the character sequence
+     * @param suffix the suffix
+     * @return {@code true} if {@code seq} ends with {@code suffix},
+     * {@code false} otherwise
+     */
+    static boolean endsWith(final CharSequence seq, final String suffix) {
+        int off = seq.length() - suffix.length();
+        return off >= 0 && regionEquals(seq, off, suffix);
+    }
+
+    /**
+     * Compare a region of a character sequence with a string.
+     * @param seq the character sequence
+     * @param off the start of the region
+     * @param str the string, fully contained in {@code seq} from {@code off}
+     * @return {@code true} if the region is equal to {@code str},
+     * {@code false} otherwise
+     */
+    private static boolean regionEquals(final CharSequence seq, final int off,
+            final String str) {
+
+        for (int i = 0; i < str.length(); i++) {
+            if (seq.charAt(off + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare a region of a byte array with another byte array.
+     * @param buf the byte array
+     * @param off the start of the region
+     * @param bytes the bytes, fully contained in {@code buf} from {@code off}
+     * @return {@code true} if the region is equal to {@code bytes},
+     * {@code false} otherwise
+     */
+    private static boolean regionEquals(final byte[] buf, final int off,
+            final byte[] bytes) {
+
+        for (int i = 0; i < bytes.length; i++) {
+            if (buf[off + i] != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read the uncompressed data of an entry.
+     * @param entry the entry to read
+     * @return the data
+     * @throws ZipException if the entry is malformed
+     * @throws IOException if an error occurs while reading the entry
+     */
+    public byte[] read(final Entry entry) throws IOException {
+        if (entry.size > Integer.MAX_VALUE
+                || entry.compressedSize > Integer.MAX_VALUE) {
+            throw new ZipException("entry too large: " + entry.entryName);
+        }
+        ByteBuffer raw = readFully(dataOffset(entry),
+                (int) entry.compressedSize);
+        switch (entry.method) {
+            case STORED:
+                return raw.array();
+            case DEFLATED:
+                return inflate(entry, raw.array());
+            default:
+                throw new ZipException("unsupported compression method "
+                        + entry.method + ": " + entry.entryName);
+        }
+    }
+
+    /**
+     * Get the position of the data of an entry, after its local header.
+     * @param entry the entry
+     * @return the position of the data
+     * @throws ZipException if the local header is malformed
+     * @throws IOException if an error occurs while reading the local header
+     */
+    private long dataOffset(final Entry entry) throws IOException {
+        ByteBuffer loc = readFully(entry.offset, LOC_SIZE);
+        if (loc.getInt(0) != LOC_SIG) {
+            throw new ZipException("invalid local header: "
+                    + entry.entryName);
+        }
+        return entry.offset + LOC_SIZE + u16(loc, 26) + u16(loc, 28);
+    }
+
+    /**
+     * Get an input stream for the uncompressed data of an entry.
+     * The data of a stored entry is streamed, the data of a deflated entry
+     * is inflated in memory.
+     * @param entry the entry to read
+     * @return the input stream
+     * @throws IOException if an error occurs while reading the entry
+     */
+    public InputStream getInputStream(final Entry entry) throws IOException {
+        if (entry.method == STORED) {
+            if (entry.size != entry.compressedSize) {
+                throw new ZipException("invalid entry size: "
+                        + entry.entryName);
+            }
+            return new StoredInputStream(dataOffset(entry), entry.size);
+        }
+        return new ByteArrayInputStream(read(entry));
+    }
+
+    /**
+     * Open a JAR file nested in this one, e.g. a library of a web
+     * application archive. A stored entry is read in place: only its
+     * central directory and the entries that are read are read from this
+     * JAR file. A deflated entry is inflated in memory.
+     * The nested reader must be closed before this one.
+     * @param entry the entry of the nested JAR file
+     * @return the created reader, named after this JAR file and the entry
+     * name separated by {@link #NESTED_SEPARATOR}
+     * @throws ZipException if the entry is not a supported ZIP file
+     * @throws IOException if an error occurs while reading the entry
+     */
+    public JarReader open(final Entry entry) throws IOException {
+        String n = name + NESTED_SEPARATOR + entry.entryName;
+        if (entry.method != STORED) {
+            return open(n, read(entry));
+        }
+        if (entry.size != entry.compressedSize) {
+            throw new ZipException("invalid entry size: " + entry.entryName);
+        }
+        try {
+            return new JarReader(n, channel, data, origin + dataOffset(entry),
+                    entry.size, true);
+        } catch (EOFException ex) {
+            // truncated entry
+            ZipException zex = new ZipException(ex.getMessage());
+            zex.initCause(ex);
+            throw zex;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null && !nested) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Inflate the data of an entry.
+     * @param entry the entry
+     * @param data the compressed data
+     * @return the uncompressed data
+     * @throws ZipException if the data is malformed
+     */
+    private static byte[] inflate(final Entry entry, final byte[] data)
+            throws ZipException {
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            byte[] out = new byte[(int) entry.size];
+            int len = 0;
+            while (len < out.length) {
+                int n = inflater.inflate(out, len, out.length - len);
+                if (n == 0 && (inflater.finished()
+                        || inflater.needsInput()
+                        || inflater.needsDictionary())) {
+                    break;
+                }
+                len += n;
+            }
+            if (len != out.length) {
+                throw new ZipException("invalid entry size: "
+                        + entry.entryName);
+            }
+            return out;
+        } catch (DataFormatException ex) {
+            ZipException zex = new ZipException(ex.getMessage());
+            zex.initCause(ex);
+            throw zex;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Locate the central directory.
+     * @return the offset of the start of the archive in the file, the
+     * position and size of the central directory and the total number of
+     * entries recorded in the end of central directory record
+     * @throws IOException if an error occurs while reading the file
+     */
+    private long[] locateCentralDirectory() throws IOException {
+        if (fileSize < EOCD_SIZE) {
+            throw new ZipException("zip file is empty: " + name);
+        }
+
+        // the end of central directory record is followed by a comment of
+        // at most 64k, scan backwards for its signature
+        int tailSize = (int) Math.min(fileSize, EOCD_SIZE + MAX_COMMENT_SIZE);
+        long tailOffset = fileSize - tailSize;
+        ByteBuffer tail = readFully(tailOffset, tailSize);
+        int pos = tailSize - EOCD_SIZE;
+        while (pos >= 0 && tail.getInt(pos) != EOCD_SIG) {
+            pos--;
+        }
+        if (pos < 0) {
+            throw new ZipException("end of central directory not found: "
+                    + name);
+        }
+        long eocdOffset = tailOffset + pos;
+        long total = u16(tail, pos + 10);
+        long cenSize = u32(tail, pos + 12);
+        long cenOffset = u32(tail, pos + 16);
+
+        if (total == 0xffff || cenSize == 0xffffffffL
+                || cenOffset == 0xffffffffL) {
+            long locOffset = eocdOffset - ZIP64_LOCATOR_SIZE;
+            if (locOffset < 0) {
+                throw new ZipException("zip64 locator not found: " + name);
+            }
+            ByteBuffer loc = readFully(locOffset, ZIP64_LOCATOR_SIZE);
+            if (loc.getInt(0) == ZIP64_LOCATOR_SIG) {
+                ByteBuffer eocd64 = readFully(loc.getLong(8),
+                        ZIP64_EOCD_SIZE);
+                if (eocd64.getInt(0) != ZIP64_EOCD_SIG) {
+                    throw new ZipException("invalid zip64 end of central "
+                            + "directory: " + name);
+                }
+                eocdOffset = loc.getLong(8);
+                total = eocd64.getLong(32);
+                cenSize = eocd64.getLong(40);
+                cenOffset = eocd64.getLong(48);
+            }
+        }
+
+        if (cenSize > Integer.MAX_VALUE || cenSize > eocdOffset) {
+            throw new ZipException("invalid central directory size: "
+                    + name);
+        }
+
+        // data may be prepended to the archive (e.g. self-extracting
+        // archives), offsets are then relative to the start of the archive
+        return new long[] {eocdOffset - cenSize - cenOffset,
+                eocdOffset - cenSize, cenSize, total};
+    }
+
+    /**
+     * Validate the central directory and find its file headers.
+     * @param total the number of entries recorded in the end of central
+     * directory record, used as a hint
+     * @return the positions of the file headers
+     * @throws ZipException if the central directory is malformed
+     */
+    private int[] indexCentralDirectory(final long total) throws ZipException {
+        int cenSize = cen.capacity();
+        int[] index = new int[(int) Math.max(0,
+                Math.min(total, cenSize / CEN_SIZE))];
+        int count = 0;
+        int pos = 0;
+        while (pos + CEN_SIZE <= cenSize) {
+            if (cen.getInt(pos) != CEN_SIG) {
+                throw new ZipException("invalid central directory header: "
+                        + name);
+            }
+            int next = pos + CEN_SIZE + u16(cen, pos + 28)
+                    + u16(cen, pos + 30) + u16(cen, pos + 32);
+            if (next > cenSize) {
+                throw new ZipException("invalid central directory header: "
+                        + name);
+            }
+            if (count == index.length) {
+                index = Arrays.copyOf(index, Math.max(16, count * 2));
+            }
+            index[count++] = pos;
+            pos = next;
+        }
+        return count == index.length ? index : Arrays.copyOf(index, count);
+    }
+
+    /**
+     * A view of an ASCII entry name held in the central directory.
+     */
+    private static final class AsciiName implements CharSequence {
+
+        /**
+         * The central directory bytes.
+         */
+        private final byte[] buf;
+
+        /**
+         * The start of the name.
+         */
+        private int start;
+
+        /**
+         * The end of the name.
+         */
+        private int end;
+
+        /**
+         * Create a new {@link AsciiName} instance.
+         * @param bytes the central directory bytes
+         */
+        AsciiName(final byte[] bytes) {
+            this.buf = bytes;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return (char) buf[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int from, final int to) {
+            return toString().substring(from, to);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buf, start, end - start,
+                    StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Read bytes from the channel or the data held in memory.
+     * @param position the position to read from
+     * @param len the number of bytes to read
+     * @return a little endian buffer backed by an array
+     * @throws IOException if an error occurs or the end of file is reached
+     */
+    private ByteBuffer readFully(final long position, final int len)
+            throws IOException {
+
+        ByteBuffer buf = ByteBuffer.allocate(len)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        readFully(position, buf);
+        buf.clear();
+        return buf;
+    }
+
+    /**
+     * Read bytes from the channel or the data held in memory until the
+     * given buffer is full.
+     * @param position the position to read from
+     * @param buf the buffer to fill
+     * @throws IOException if an error occurs or the end of file is reached
+     */
+    private void readFully(final long position, final ByteBuffer buf)
+            throws IOException {
+
+        if (position < 0 || position > fileSize - buf.remaining()) {
+            throw new EOFException("unexpected end of file: " + name);
+        }
+        if (data != null) {
+            ByteBuffer src = data.duplicate();
+            src.position((int) (origin + position))
+               .limit((int) (origin + position) + buf.remaining());
+            buf.put(src);
+            return;
+        }
+        long pos = origin + position;
+        while (buf.hasRemaining()) {
+            int n = channel.read(buf, pos);
+            if (n < 0) {
+                throw new EOFException("unexpected end of file: " + name);
+            }
+            pos += n;
+        }
+    }
+
+    /**
+     * Streams the data of a stored entry.
+     */
+    private final class StoredInputStream extends InputStream {
+
+        /**
+         * The position of the next byte.
+         */
+        private long position;
+
+        /**
+         * The number of bytes left.
+         */
+        private long remaining;
+
+        /**
+         * Create a new {@link StoredInputStream} instance.
+         * @param offset the position of the data
+         * @param size the size of the data
+         */
+        StoredInputStream(final long offset, final long size) {
+            this.position = offset;
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len)
+                throws IOException {
+
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            readFully(position, ByteBuffer.wrap(b, off, n));
+            position += n;
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) {
+            long skipped = Math.max(0, Math.min(n, remaining));
+            position += skipped;
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, remaining);
+        }
+    }
+
+    /**
+     * Read an unsigned 16-bit value.
+     * @param buf the buffer to read from
+     * @param index the index to read at
+     * @return the value
+     */
+    private static int u16(final ByteBuffer buf, final int index) {
+        return buf.getShort(index) & 0xffff;
+    }
+
+    /**
+     * Read an unsigned 32-bit value.
+     * @param buf the buffer to read from
+     * @param index the index to read at
+     * @return the value
+     */
+    private static long u32(final ByteBuffer buf, final int index) {
+        return buf.getInt(index) & 0xffffffffL;
+    }
+}
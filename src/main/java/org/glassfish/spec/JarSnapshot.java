@@ -0,0 +1,916 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiPredicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.ZipException;
+
+/**
+ * Everything the spec verification needs to know about a JAR file, gathered
+ * in a single pass over the JAR entries.
+ *
+ * <p>
+ * A snapshot holds the Maven artifact described by the
+ * {@code pom.properties} file, the manifest metadata and the inventory of
+ * the packages containing classes, see {@link PackageInventory}. It does
+ * not keep a reference to the JAR file, unless the references are deferred.
+ *
+ * <p>
+ * The versioned classes of multi-release JAR files are mapped to their
+ * package, e.g. {@code META-INF/versions/11/jakarta/foo/Foo.class} is in
+ * package {@code jakarta.foo} of release {@code 11}. The packages of each
+ * release are collected in the same pass, along with the module
+ * descriptors of each release.
+ *
+ * <p>
+ * The packages referenced by the classes of selected packages can also be
+ * collected, see {@link ClassReferences}. Only the selected classes are
+ * read, the other entries are classified by name. A snapshot created from
+ * an open {@link JarReader} can defer reading them until the references
+ * are visited, see {@link #visitReferences(BiPredicate)}; the reader must
+ * then stay open until the references are visited.
+ *
+ * <p>
+ * The CRC-32 of the classes of the base release can also be collected,
+ * they are read from the central directory without inflating the entries.
+ */
+public final class JarSnapshot {
+
+    /**
+     * The file extension of class entries.
+     */
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * The entry name prefix of the versioned entries.
+     */
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+    /**
+     * The maximum number of digits of a release.
+     */
+    private static final int MAX_RELEASE_DIGITS = 4;
+
+    /**
+     * The manifest attribute of the automatic module name.
+     */
+    private static final String AUTOMATIC_MODULE_NAME =
+            "Automatic-Module-Name";
+
+    /**
+     * The manifest attribute of multi-release JAR files.
+     */
+    private static final String MULTI_RELEASE = "Multi-Release";
+
+    /**
+     * The manifest attributes read from JAR files, {@link #MULTI_RELEASE}
+     * is only required if the JAR file has versioned classes.
+     * {@code Import-Package} and {@link #AUTOMATIC_MODULE_NAME} are
+     * required, i.e. the main section is read until they are found: as
+     * optional attributes they would not be read if they come after the
+     * metadata attributes, and the package header and module checks would
+     * silently pass.
+     */
+    private static final List<String> MANIFEST_ATTRIBUTES;
+
+    static {
+        List<String> names = new ArrayList<>(Metadata.ATTRIBUTES);
+        names.add(Metadata.IMPORT_PACKAGE);
+        names.add(AUTOMATIC_MODULE_NAME);
+        MANIFEST_ATTRIBUTES = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * The JAR file name.
+     */
+    private final String name;
+
+    /**
+     * The artifact, {@code null} if the JAR file has no pom.properties.
+     */
+    private final Artifact artifact;
+
+    /**
+     * The manifest metadata.
+     */
+    private final Metadata metadata;
+
+    /**
+     * The packages containing classes and their class counts.
+     */
+    private final PackageInventory inventory;
+
+    /**
+     * The packages containing classes of each release.
+     */
+    private final Map<Integer, Set<String>> releasePackages;
+
+    /**
+     * {@code true} if the manifest declares a multi-release JAR file.
+     */
+    private final boolean multiRelease;
+
+    /**
+     * The module descriptors of each release.
+     */
+    private final Map<Integer, ModuleInfo> modules;
+
+    /**
+     * The automatic module name declared by the manifest, may be
+     * {@code null}.
+     */
+    private final String automaticModuleName;
+
+    /**
+     * The packages referenced by the classes of the selected packages
+     * scanned so far.
+     */
+    private final Map<String, Set<String>> references;
+
+    /**
+     * The classes of the selected packages not scanned yet, {@code null}
+     * once all the references are collected.
+     */
+    private DeferredReferences deferred;
+
+    /**
+     * The CRC-32 of the classes of the base release, keyed by entry name.
+     */
+    private final Map<String, Long> classCrcs;
+
+    /**
+     * Create a new {@link JarSnapshot} instance.
+     * @param n the JAR file name
+     * @param a the artifact, may be {@code null}
+     * @param attrs the manifest attributes
+     * @param pkgs the packages containing classes
+     * @param mods the module descriptors of each release
+     * @param refs the packages referenced by the classes of the selected
+     * packages
+     * @param crcs the CRC-32 of the classes of the base release
+     */
+    private JarSnapshot(final String n, final Artifact a,
+            final Map<String, String> attrs,
+            final PackageCollector pkgs, final Map<Integer, ModuleInfo> mods,
+            final Map<String, Set<String>> refs, final Map<String, Long> crcs) {
+
+        this.name = n;
+        this.artifact = a;
+        this.metadata = Metadata.fromAttributes(attrs);
+        this.multiRelease = Boolean.parseBoolean(attrs.get(MULTI_RELEASE));
+        this.automaticModuleName = attrs.get(AUTOMATIC_MODULE_NAME);
+        this.modules = Collections.unmodifiableMap(mods);
+        this.inventory = pkgs.toInventory();
+        Map<Integer, Set<String>> releases = new TreeMap<>();
+        for (int release : inventory.getReleases()) {
+            releases.put(release, inventory.getPackages(release));
+        }
+        this.releasePackages = Collections.unmodifiableMap(releases);
+        this.references = refs;
+        this.classCrcs = Collections.unmodifiableMap(crcs);
+    }
+
+    /**
+     * Create a snapshot of a JAR file.
+     * @param jar the JAR file to process
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final JarReader jar) throws IOException {
+        return of(jar, null);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, including the packages referenced by
+     * the classes of the selected packages.
+     * @param jar the JAR file to process
+     * @param referencesFrom the packages whose class references are
+     * collected, {@code null} to collect none
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final JarReader jar,
+            final PackageMatcher referencesFrom) throws IOException {
+
+        return of(jar, referencesFrom, false);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, including the packages referenced by
+     * the classes of the selected packages and optionally the CRC-32 of the
+     * classes.
+     * @param jar the JAR file to process
+     * @param referencesFrom the packages whose class references are
+     * collected, {@code null} to collect none
+     * @param collectCrcs {@code true} to collect the CRC-32 of the classes
+     * of the base release
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final JarReader jar,
+            final PackageMatcher referencesFrom, final boolean collectCrcs)
+            throws IOException {
+
+        return of(jar, referencesFrom, collectCrcs, false);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, including the packages referenced by
+     * the classes of the selected packages and optionally the CRC-32 of the
+     * classes. The classes of the selected packages can be read when the
+     * references are visited, the given reader must then stay open until
+     * the references are visited.
+     * @param jar the JAR file to process
+     * @param referencesFrom the packages whose class references are
+     * collected, {@code null} to collect none
+     * @param collectCrcs {@code true} to collect the CRC-32 of the classes
+     * of the base release
+     * @param deferReferences {@code true} to read the classes of the
+     * selected packages when the references are visited
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final JarReader jar,
+            final PackageMatcher referencesFrom, final boolean collectCrcs,
+            final boolean deferReferences) throws IOException {
+
+        final PackageCollector pkgs = new PackageCollector();
+        final int[] found = {-1, -1};
+        final List<Integer> classes = new ArrayList<>();
+        final List<String> classPkgs = new ArrayList<>();
+        final Map<Integer, Integer> moduleInfos = new TreeMap<>();
+        final Map<String, Long> crcs = new LinkedHashMap<>();
+        jar.scan(new JarReader.NameVisitor() {
+            @Override
+            public void visit(final int index, final CharSequence entryName) {
+                String pkg = pkgs.add(entryName);
+                if (pkg != null) {
+                    if (collectCrcs && pkgs.lastRelease == 0) {
+                        crcs.put(entryName.toString(), jar.getCrc(index));
+                    }
+                    if (referencesFrom != null
+                            && referencesFrom.matches(pkg)) {
+                        classes.add(index);
+                        classPkgs.add(pkg);
+                    }
+                    return;
+                }
+                int release = PackageCollector.moduleRelease(entryName);
+                if (release >= 0) {
+                    moduleInfos.put(release, index);
+                } else if (found[0] < 0
+                        && JarReader.MANIFEST_NAME.contentEquals(entryName)) {
+                    found[0] = index;
+                } else if (found[1] < 0
+                        && JarReader.isPomProperties(entryName)) {
+                    found[1] = index;
+                }
+            }
+        });
+        JarReader.Entry manifest = found[0] < 0 ? null : jar.getEntry(found[0]);
+        JarReader.Entry pomProps = found[1] < 0 ? null : jar.getEntry(found[1]);
+
+        Artifact a = null;
+        if (pomProps != null) {
+            try (InputStream is = jar.getInputStream(pomProps)) {
+                a = Artifact.fromPomProperties(is);
+            }
+        }
+        Map<String, String> attrs = Collections.emptyMap();
+        if (manifest != null) {
+            try (InputStream is = jar.getInputStream(manifest)) {
+                attrs = readManifest(is, pkgs.hasVersionedClasses());
+            }
+        }
+
+        Map<Integer, ModuleInfo> mods = new TreeMap<>();
+        for (Map.Entry<Integer, Integer> mi : moduleInfos.entrySet()) {
+            JarReader.Entry e = jar.getEntry(mi.getValue());
+            mods.put(mi.getKey(), ModuleInfo.parse(e.getName(), jar.read(e)));
+        }
+        JarSnapshot snapshot = new JarSnapshot(jar.getName(), a, attrs, pkgs,
+                mods, new LinkedHashMap<String, Set<String>>(), crcs);
+        if (!classes.isEmpty()) {
+            snapshot.deferred = new DeferredReferences(jar, classes,
+                    classPkgs);
+        }
+        if (!deferReferences) {
+            snapshot.scanReferences();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Create a snapshot of a JAR file.
+     * @param jar the JAR file to process
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final JarFile jar) throws IOException {
+        return of(jar, null);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, including the packages referenced by
+     * the classes of the selected packages.
+     * @param jar the JAR file to process
+     * @param referencesFrom the packages whose class references are
+     * collected, {@code null} to collect none
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final JarFile jar,
+            final PackageMatcher referencesFrom) throws IOException {
+
+        return of(jar, referencesFrom, false);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, including the packages referenced by
+     * the classes of the selected packages and optionally the CRC-32 of the
+     * classes.
+     * @param jar the JAR file to process
+     * @param referencesFrom the packages whose class references are
+     * collected, {@code null} to collect none
+     * @param collectCrcs {@code true} to collect the CRC-32 of the classes
+     * of the base release
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final JarFile jar,
+            final PackageMatcher referencesFrom, final boolean collectCrcs)
+            throws IOException {
+
+        JarEntry pomProps = null;
+        JarEntry manifest = null;
+        PackageCollector pkgs = new PackageCollector();
+        Map<Integer, ModuleInfo> mods = new TreeMap<>();
+        Map<String, Set<String>> refs = new LinkedHashMap<>();
+        Map<String, Long> crcs = new LinkedHashMap<>();
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry e = entries.nextElement();
+            String entryName = e.getName();
+            String pkg = pkgs.add(entryName);
+            if (pkg != null) {
+                if (collectCrcs && pkgs.lastRelease == 0) {
+                    crcs.put(entryName, e.getCrc());
+                }
+                if (referencesFrom != null && referencesFrom.matches(pkg)) {
+                    try (InputStream is = jar.getInputStream(e)) {
+                        ClassReferences.collect(entryName, readAll(is),
+                                referencesOf(refs, pkg));
+                    }
+                }
+            } else if (PackageCollector.moduleRelease(entryName) >= 0) {
+                try (InputStream is = jar.getInputStream(e)) {
+                    mods.put(PackageCollector.moduleRelease(entryName),
+                            ModuleInfo.parse(entryName, readAll(is)));
+                }
+            } else if (manifest == null
+                    && entryName.equals(JarReader.MANIFEST_NAME)) {
+                manifest = e;
+            } else if (pomProps == null
+                    && JarReader.isPomProperties(entryName)) {
+                pomProps = e;
+            }
+        }
+
+        Artifact a = null;
+        if (pomProps != null) {
+            try (InputStream is = jar.getInputStream(pomProps)) {
+                a = Artifact.fromPomProperties(is);
+            }
+        }
+        Map<String, String> attrs = Collections.emptyMap();
+        if (manifest != null) {
+            try (InputStream is = jar.getInputStream(manifest)) {
+                attrs = readManifest(is, pkgs.hasVersionedClasses());
+            }
+        }
+        return new JarSnapshot(jar.getName(), a, attrs, pkgs, mods, refs,
+                crcs);
+    }
+
+    /**
+     * Read the manifest attributes of a JAR file, stopping as soon as the
+     * attributes used by the verification are all found.
+     * @param is the manifest stream
+     * @param versioned {@code true} if the JAR file has versioned classes
+     * @return the values of the attributes found, keyed by name
+     * @throws IOException if an error occurs while reading the manifest
+     */
+    private static Map<String, String> readManifest(final InputStream is,
+            final boolean versioned) throws IOException {
+
+        List<String> multiRelease = Collections.singletonList(MULTI_RELEASE);
+        if (!versioned) {
+            return ManifestReader.read(is, MANIFEST_ATTRIBUTES, multiRelease);
+        }
+        List<String> names = new ArrayList<>(MANIFEST_ATTRIBUTES);
+        names.addAll(multiRelease);
+        return ManifestReader.read(is, names);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, using {@link JarReader} or
+     * {@link JarFile} if the file is not supported by {@link JarReader}.
+     * @param file the JAR file to process
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final File file) throws IOException {
+        return of(file, null);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, including the packages referenced by
+     * the classes of the selected packages, using {@link JarReader} or
+     * {@link JarFile} if the file is not supported by {@link JarReader}.
+     * @param file the JAR file to process
+     * @param referencesFrom the packages whose class references are
+     * collected, {@code null} to collect none
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final File file,
+            final PackageMatcher referencesFrom) throws IOException {
+
+        return of(file, referencesFrom, false);
+    }
+
+    /**
+     * Create a snapshot of a JAR file, including the packages referenced by
+     * the classes of the selected packages and optionally the CRC-32 of the
+     * classes, using {@link JarReader} or {@link JarFile} if the file is not
+     * supported by {@link JarReader}.
+     * @param file the JAR file to process
+     * @param referencesFrom the packages whose class references are
+     * collected, {@code null} to collect none
+     * @param collectCrcs {@code true} to collect the CRC-32 of the classes
+     * of the base release
+     * @return the created snapshot
+     * @throws IOException if an error occurs while reading the JAR file
+     */
+    public static JarSnapshot of(final File file,
+            final PackageMatcher referencesFrom, final boolean collectCrcs)
+            throws IOException {
+
+        try (JarReader jar = JarReader.open(file)) {
+            return of(jar, referencesFrom, collectCrcs);
+        } catch (ZipException ex) {
+            try (JarFile jar = new JarFile(file)) {
+                return of(jar, referencesFrom, collectCrcs);
+            }
+        }
+    }
+
+    /**
+     * Get the set of packages referenced by the classes of a package,
+     * creating it if needed.
+     * @param refs the references keyed by package
+     * @param pkg the package
+     * @return the set of referenced packages
+     */
+    private static Set<String> referencesOf(
+            final Map<String, Set<String>> refs, final String pkg) {
+
+        Set<String> set = refs.get(pkg);
+        if (set == null) {
+            set = new LinkedHashSet<>();
+            refs.put(pkg, set);
+        }
+        return set;
+    }
+
+    /**
+     * Read an input stream fully.
+     * @param is the input stream
+     * @return the bytes read
+     * @throws IOException if an error occurs while reading
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static byte[] readAll(final InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[8192];
+        int n;
+        while ((n = is.read(buf)) > 0) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Get the JAR file name.
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the artifact described by the {@code pom.properties} file.
+     * @return the artifact, or {@code null} if the JAR file has no
+     * {@code pom.properties} file
+     */
+    public Artifact getArtifact() {
+        return artifact;
+    }
+
+    /**
+     * Get the manifest metadata.
+     * @return the metadata
+     */
+    public Metadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Get the names of the packages containing classes, in all the
+     * releases.
+     * @return the unmodifiable set of package names, in entry order
+     */
+    public Set<String> getPackages() {
+        return inventory.getPackages();
+    }
+
+    /**
+     * Get the inventory of the packages containing classes, with the
+     * number of classes of each package in each release.
+     * @return the package inventory
+     */
+    public PackageInventory getInventory() {
+        return inventory;
+    }
+
+    /**
+     * Get the names of the packages containing classes of each release.
+     * The base release, i.e. the classes outside of
+     * {@code META-INF/versions}, is {@code 0}.
+     * @return the unmodifiable map of the unmodifiable sets of package
+     * names, in entry order, keyed by increasing release
+     */
+    public Map<Integer, Set<String>> getReleasePackages() {
+        return releasePackages;
+    }
+
+    /**
+     * Test if the manifest declares a multi-release JAR file.
+     * The attribute is only looked up in the whole main section of the
+     * manifest if the JAR file has versioned classes.
+     * @return {@code true} if {@code Multi-Release} is {@code true},
+     * {@code false} otherwise
+     */
+    public boolean isMultiRelease() {
+        return multiRelease;
+    }
+
+    /**
+     * Get the module descriptors of each release.
+     * The base release, i.e. {@code module-info.class} at the root of the
+     * JAR file, is {@code 0}.
+     * @return the unmodifiable map of module descriptors, keyed by
+     * increasing release
+     */
+    public Map<Integer, ModuleInfo> getModules() {
+        return modules;
+    }
+
+    /**
+     * Get the {@code Automatic-Module-Name} declared by the manifest.
+     * @return the automatic module name, or {@code null} if not declared
+     */
+    public String getAutomaticModuleName() {
+        return automaticModuleName;
+    }
+
+    /**
+     * Get the packages referenced by the classes of each package, only
+     * collected for the packages selected when the snapshot was created.
+     * The sets include the referencing package if its classes reference
+     * each other.
+     * @return the unmodifiable map of referenced packages keyed by
+     * referencing package, in entry order
+     */
+    public Map<String, Set<String>> getReferences() {
+        try {
+            scanReferences();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return Collections.unmodifiableMap(references);
+    }
+
+    /**
+     * Test if the packages referenced by the classes of the selected
+     * packages were collected or are deferred.
+     * @return {@code true} if selected classes were found, {@code false}
+     * otherwise
+     */
+    public boolean hasReferences() {
+        return deferred != null || !references.isEmpty();
+    }
+
+    /**
+     * Visit the packages referenced by the classes of the selected packages,
+     * the classes not read yet are read in entry order and the visit stops
+     * as soon as the visitor returns {@code false}, leaving the remaining
+     * classes unread.
+     * @param visitor called with a referencing package and packages it
+     * references, a package may be visited more than once
+     * @return {@code true} if all the references were visited,
+     * {@code false} if the visitor stopped the visit
+     * @throws IOException if an error occurs while reading a class
+     */
+    public boolean visitReferences(
+            final BiPredicate<String, Set<String>> visitor)
+            throws IOException {
+
+        for (Map.Entry<String, Set<String>> e : references.entrySet()) {
+            if (!visitor.test(e.getKey(),
+                    Collections.unmodifiableSet(e.getValue()))) {
+                return false;
+            }
+        }
+        while (deferred != null) {
+            String pkg = deferred.pkgs.get(deferred.next);
+            Set<String> refs = new LinkedHashSet<>();
+            JarReader.Entry e = deferred.jar.getEntry(
+                    deferred.classes.get(deferred.next));
+            ClassReferences.collect(e.getName(), deferred.jar.read(e), refs);
+            referencesOf(references, pkg).addAll(refs);
+            if (++deferred.next == deferred.classes.size()) {
+                deferred = null;
+            }
+            if (!visitor.test(pkg, Collections.unmodifiableSet(refs))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read the classes of the selected packages not read yet.
+     * @throws IOException if an error occurs while reading a class
+     */
+    private void scanReferences() throws IOException {
+        if (deferred != null) {
+            visitReferences((pkg, refs) -> true);
+        }
+    }
+
+    /**
+     * Get the CRC-32 of the classes of the base release, as recorded in the
+     * central directory. Only collected if requested when the snapshot was
+     * created.
+     * @return the unmodifiable map of CRC-32 keyed by entry name, in entry
+     * order
+     */
+    public Map<String, Long> getClassCrcs() {
+        return classCrcs;
+    }
+
+    /**
+     * The classes of the selected packages of a JAR file not read yet.
+     */
+    private static final class DeferredReferences {
+
+        /**
+         * The JAR file.
+         */
+        private final JarReader jar;
+
+        /**
+         * The entry indexes of the classes, in entry order.
+         */
+        private final List<Integer> classes;
+
+        /**
+         * The package of each class.
+         */
+        private final List<String> pkgs;
+
+        /**
+         * The index of the next class to read.
+         */
+        private int next;
+
+        /**
+         * Create a new {@link DeferredReferences} instance.
+         * @param reader the JAR file
+         * @param entries the entry indexes of the classes, in entry order
+         * @param packages the package of each class
+         */
+        DeferredReferences(final JarReader reader,
+                final List<Integer> entries, final List<String> packages) {
+
+            this.jar = reader;
+            this.classes = entries;
+            this.pkgs = packages;
+        }
+    }
+
+    /**
+     * Collects the packages of class entries and counts their classes.
+     *
+     * <p>
+     * Entry names are compared in place against the packages already
+     * collected, a package name is only created for the first class of each
+     * package.
+     */
+    private static final class PackageCollector {
+
+        /**
+         * The initial length of the class count arrays.
+         */
+        private static final int INITIAL_CAPACITY = 32;
+
+        /**
+         * The collected package names, in entry order.
+         */
+        private final PackageTable names = new PackageTable();
+
+        /**
+         * The class counts of each release, indexed like {@link #names}.
+         */
+        private final Map<Integer, int[]> releases = new TreeMap<>();
+
+        /**
+         * The package index of the last class entry, {@code -1} if none.
+         */
+        private int last = -1;
+
+        /**
+         * The release of the last class entry.
+         */
+        private int lastRelease = 0;
+
+        /**
+         * The class counts of the release of the last class entry.
+         */
+        private int[] lastCounts = null;
+
+        /**
+         * Process an entry name.
+         * @param entryName the entry name
+         * @return the package if the entry is a class, {@code null}
+         * otherwise or if the entry is a module descriptor
+         */
+        String add(final CharSequence entryName) {
+            if (!JarReader.endsWith(entryName, CLASS_SUFFIX)) {
+                return null;
+            }
+            int start = nameStart(entryName);
+            int release = release(entryName, start);
+            int end = entryName.length() - CLASS_SUFFIX.length();
+            while (end > start && entryName.charAt(end - 1) != '/') {
+                end--;
+            }
+            if (end == start && entryName.length() - end
+                    == ModuleInfo.MODULE_INFO_CLASS.length()
+                    && JarReader.endsWith(entryName,
+                            ModuleInfo.MODULE_INFO_CLASS)) {
+                return null;
+            }
+            // strip the trailing slash, the default package is empty
+            end = Math.max(start, end - 1);
+
+            // entries are usually grouped by directory
+            if (last >= 0 && release == lastRelease
+                    && PackageTable.isPackage(names.getName(last), entryName,
+                            start, end)) {
+                lastCounts[last]++;
+                return names.getName(last);
+            }
+            int p = names.add(entryName, start, end);
+            int[] counts = releases.get(release);
+            if (counts == null || counts.length <= p) {
+                int length = Math.max(INITIAL_CAPACITY, names.size() * 2);
+                counts = counts == null ? new int[length]
+                        : Arrays.copyOf(counts, length);
+                releases.put(release, counts);
+            }
+            counts[p]++;
+            last = p;
+            lastRelease = release;
+            lastCounts = counts;
+            return names.getName(last);
+        }
+
+        /**
+         * Test if versioned classes were collected.
+         * @return {@code true} if classes of a release other than the base
+         * release were collected, {@code false} otherwise
+         */
+        boolean hasVersionedClasses() {
+            return releases.size() > 1
+                    || releases.size() == 1 && !releases.containsKey(0);
+        }
+
+        /**
+         * Create the inventory of the collected packages.
+         * @return the created inventory
+         */
+        PackageInventory toInventory() {
+            int[] rels = new int[releases.size()];
+            int[][] counts = new int[rels.length][];
+            int r = 0;
+            for (Map.Entry<Integer, int[]> e : releases.entrySet()) {
+                rels[r] = e.getKey();
+                counts[r++] = Arrays.copyOf(e.getValue(), names.size());
+            }
+            return new PackageInventory(names, rels, counts);
+        }
+
+        /**
+         * Get the release of a module descriptor entry.
+         * @param entryName the entry name
+         * @return the release, {@code 0} for the base release, or
+         * {@code -1} if the entry is not a module descriptor
+         */
+        static int moduleRelease(final CharSequence entryName) {
+            if (!JarReader.endsWith(entryName, ModuleInfo.MODULE_INFO_CLASS)) {
+                return -1;
+            }
+            int start = nameStart(entryName);
+            if (entryName.length() - start
+                    != ModuleInfo.MODULE_INFO_CLASS.length()) {
+                return -1;
+            }
+            return release(entryName, start);
+        }
+
+        /**
+         * Get the start of the name of an entry relative to its release
+         * directory.
+         * @param entryName the entry name
+         * @return the index following {@code META-INF/versions/<N>/} for
+         * versioned entries, {@code 0} otherwise
+         */
+        private static int nameStart(final CharSequence entryName) {
+            if (!JarReader.startsWith(entryName, VERSIONS_PREFIX)) {
+                return 0;
+            }
+            int i = VERSIONS_PREFIX.length();
+            while (i < entryName.length()
+                    && i - VERSIONS_PREFIX.length() < MAX_RELEASE_DIGITS
+                    && Character.isDigit(entryName.charAt(i))) {
+                i++;
+            }
+            if (i > VERSIONS_PREFIX.length() && i < entryName.length()
+                    && entryName.charAt(i) == '/') {
+                return i + 1;
+            }
+            return 0;
+        }
+
+        /**
+         * Get the release of an entry.
+         * @param entryName the entry name
+         * @param start the start of the name relative to the release
+         * directory, see {@link #nameStart(CharSequence)}
+         * @return the release, {@code 0} for the base release
+         */
+        @SuppressWarnings("checkstyle:MagicNumber")
+        private static int release(final CharSequence entryName,
+                final int start) {
+
+            int release = 0;
+            for (int i = VERSIONS_PREFIX.length(); i < start - 1; i++) {
+                release = release * 10 + entryName.charAt(i) - '0';
+            }
+            return release;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads selected attributes of the main section of a manifest.
+ *
+ * <p>
+ * The manifest is streamed, only the values of the requested attributes
+ * are decoded and reading stops as soon as the required ones are all
+ * found, or at the end of the main section. Optional attributes are only
+ * read if they come before the last required attribute. The other
+ * attributes are skipped without being materialized, however long they
+ * are, e.g. the {@code Private-Package} and {@code Include-Resource}
+ * headers of OSGi bundles.
+ *
+ * <p>
+ * Attribute names are compared ignoring the case, like
+ * {@link java.util.jar.Attributes.Name}. Values may be split on
+ * continuation lines, i.e. lines starting with a single space, and lines
+ * may end with {@code CR LF}, {@code LF} or {@code CR}.
+ *
+ * <p>
+ * The first occurrence of an attribute wins, whereas
+ * {@link java.util.jar.Manifest} keeps the last one and logs a warning
+ * that the manifest has duplicate entries. Reading stops at the last
+ * required attribute, so the occurrences after it cannot be known.
+ *
+ * @see <a href="https://docs.oracle.com/en/java/javase/21/docs/specs/jar/jar.html#jar-manifest">
+ * JAR Manifest</a>
+ */
+public final class ManifestReader {
+
+    /**
+     * The size of the read buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The initial size of the name and value buffers.
+     */
+    private static final int INITIAL_SIZE = 128;
+
+    /**
+     * The mask of an unsigned byte.
+     */
+    private static final int BYTE_MASK = 0xff;
+
+    /**
+     * The manifest stream.
+     */
+    private final InputStream in;
+
+    /**
+     * The read buffer.
+     */
+    private final byte[] buf = new byte[BUFFER_SIZE];
+
+    /**
+     * The position of the next byte in the read buffer.
+     */
+    private int pos;
+
+    /**
+     * The number of bytes in the read buffer.
+     */
+    private int limit;
+
+    /**
+     * The bytes of the attribute name or value being read.
+     */
+    private byte[] token = new byte[INITIAL_SIZE];
+
+    /**
+     * The number of bytes in {@link #token}.
+     */
+    private int length;
+
+    /**
+     * Create a new {@link ManifestReader} instance.
+     * @param is the manifest stream
+     */
+    private ManifestReader(final InputStream is) {
+        this.in = is;
+    }
+
+    /**
+     * Read attributes of the main section of a manifest.
+     * The stream is not closed, it is read in chunks and may be read beyond
+     * the last attribute read.
+     * @param is the manifest stream
+     * @param names the names of the attributes to read
+     * @return the values of the attributes found, keyed by the requested
+     * names
+     * @throws IOException if an error occurs while reading the stream or if
+     * the manifest is malformed
+     */
+    public static Map<String, String> read(final InputStream is,
+            final Collection<String> names) throws IOException {
+
+        return read(is, names, Collections.<String>emptyList());
+    }
+
+    /**
+     * Read attributes of the main section of a manifest, stopping as soon as
+     * the required attributes are all found.
+     * The stream is not closed, it is read in chunks and may be read beyond
+     * the last attribute read.
+     * @param is the manifest stream
+     * @param required the names of the attributes to read
+     * @param optional the names of the attributes to read if found before
+     * the required attributes
+     * @return the values of the attributes found, keyed by the requested
+     * names
+     * @throws IOException if an error occurs while reading the stream or if
+     * the manifest is malformed
+     */
+    public static Map<String, String> read(final InputStream is,
+            final Collection<String> required,
+            final Collection<String> optional) throws IOException {
+
+        String[] names = new String[required.size() + optional.size()];
+        int i = 0;
+        for (String name : required) {
+            names[i++] = name;
+        }
+        for (String name : optional) {
+            names[i++] = name;
+        }
+        return new ManifestReader(is).readMain(names, required.size());
+    }
+
+    /**
+     * Read the requested attributes of the main section.
+     * @param names the names of the attributes to read, the required names
+     * first
+     * @param required the number of required names
+     * @return the values of the attributes found, keyed by name
+     * @throws IOException if an error occurs while reading the stream or if
+     * the manifest is malformed
+     */
+    private Map<String, String> readMain(final String[] names,
+            final int required) throws IOException {
+
+        Map<String, String> values = new HashMap<>();
+        int remaining = required;
+        while (remaining > 0) {
+            int c = peek();
+            if (c < 0 || c == '\r' || c == '\n') {
+                // end of the main section
+                break;
+            }
+            int index = match(names, readName());
+            if (index < 0 || values.containsKey(names[index])) {
+                skipValue();
+                continue;
+            }
+            values.put(names[index], readValue());
+            if (index < required) {
+                remaining--;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Read the name of an attribute and the separator.
+     * @return the number of bytes of the name, in {@link #token}
+     * @throws IOException if an error occurs while reading the stream or if
+     * the header is malformed
+     */
+    private int readName() throws IOException {
+        length = 0;
+        int c;
+        while ((c = read()) >= 0 && c != ':' && c != '\r' && c != '\n') {
+            append(c);
+        }
+        if (c != ':' || length == 0 || read() != ' ') {
+            throw new IOException("invalid header field in manifest");
+        }
+        return length;
+    }
+
+    /**
+     * Find the requested name equal to the name in {@link #token}, ignoring
+     * the case.
+     * @param names the requested names
+     * @param nameLength the number of bytes of the name
+     * @return the index of the requested name, or {@code -1} if not
+     * requested
+     */
+    private int match(final String[] names, final int nameLength) {
+        for (int n = 0; n < names.length; n++) {
+            String name = names[n];
+            if (name.length() != nameLength) {
+                continue;
+            }
+            int i = 0;
+            while (i < nameLength && Character.toLowerCase(name.charAt(i))
+                    == Character.toLowerCase((char) (token[i] & BYTE_MASK))) {
+                i++;
+            }
+            if (i == nameLength) {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Read a value, including its continuation lines.
+     * @return the decoded value
+     * @throws IOException if an error occurs while reading the stream
+     */
+    private String readValue() throws IOException {
+        length = 0;
+        do {
+            endLine(readLine(true));
+        } while (continuation());
+        return new String(token, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Skip a value, including its continuation lines.
+     * @throws IOException if an error occurs while reading the stream
+     */
+    private void skipValue() throws IOException {
+        do {
+            endLine(readLine(false));
+        } while (continuation());
+    }
+
+    /**
+     * Read the rest of the current line, scanning the read buffer in bulk.
+     * @param keep {@code true} to append the bytes to {@link #token},
+     * {@code false} to skip them
+     * @return the line terminator, or {@code -1} at the end of the stream
+     * @throws IOException if an error occurs while reading the stream
+     */
+    private int readLine(final boolean keep) throws IOException {
+        while (peek() >= 0) {
+            int start = pos;
+            int end = start;
+            while (end < limit && buf[end] != '\r' && buf[end] != '\n') {
+                end++;
+            }
+            if (keep) {
+                if (length + end - start > token.length) {
+                    token = Arrays.copyOf(token,
+                            Math.max(token.length * 2, length + end - start));
+                }
+                System.arraycopy(buf, start, token, length, end - start);
+                length += end - start;
+            }
+            pos = end;
+            if (end < limit) {
+                return buf[pos++];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Consume the {@code LF} following a {@code CR}.
+     * @param c the line terminator read
+     * @throws IOException if an error occurs while reading the stream
+     */
+    private void endLine(final int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            pos++;
+        }
+    }
+
+    /**
+     * Consume the space starting a continuation line.
+     * @return {@code true} if the next line is a continuation line,
+     * {@code false} otherwise
+     * @throws IOException if an error occurs while reading the stream
+     */
+    private boolean continuation() throws IOException {
+        if (peek() == ' ') {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Append a byte to {@link #token}.
+     * @param c the byte to append
+     */
+    private void append(final int c) {
+        if (length == token.length) {
+            token = Arrays.copyOf(token, length * 2);
+        }
+        token[length++] = (byte) c;
+    }
+
+    /**
+     * Get the next byte without consuming it.
+     * @return the next byte, or {@code -1} at the end of the stream
+     * @throws IOException if an error occurs while reading the stream
+     */
+    private int peek() throws IOException {
+        if (pos == limit) {
+            int n = in.read(buf);
+            if (n <= 0) {
+                return -1;
+            }
+            pos = 0;
+            limit = n;
+        }
+        return buf[pos] & BYTE_MASK;
+    }
+
+    /**
+     * Read the next byte.
+     * @return the next byte, or {@code -1} at the end of the stream
+     * @throws IOException if an error occurs while reading the stream
+     */
+    private int read() throws IOException {
+        int c = peek();
+        if (c >= 0) {
+            pos++;
+        }
+        return c;
+    }
+}
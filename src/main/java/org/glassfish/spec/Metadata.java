@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2013-2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -16,18 +17,28 @@
 
 package org.glassfish.spec;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Properties;
 import java.util.jar.JarFile;
-import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 
 /**
  * Represents an API JAR {@code MANIFEST.MF} entries.
+ *
+ * <p>
+ * Instances are immutable. The properties are only created on request and
+ * the instances without errors share the same empty list, the metadata of
+ * many JAR files can be kept in memory.
+ *
  * @author Romain Grecourt
  */
 public final class Metadata {
@@ -35,37 +46,42 @@ public final class Metadata {
     /**
      * Bundle Symbolic Name.
      */
-    private String bundleSymbolicName;
+    private final String bundleSymbolicName;
 
     /**
      * Bundle Spec Version.
      */
-    private String bundleSpecVersion;
+    private final String bundleSpecVersion;
 
     /**
      * Bundle Version.
      */
-    private String bundleVersion;
+    private final String bundleVersion;
 
     /**
      * Jar Extension Name.
      */
-    private String jarExtensionName;
+    private final String jarExtensionName;
 
     /**
      * Jar Specification Version.
      */
-    private String jarSpecificationVersion;
+    private final String jarSpecificationVersion;
 
     /**
      * Jar Implementation Version.
      */
-    private String jarImplementationVersion;
+    private final String jarImplementationVersion;
+
+    /**
+     * The exported packages.
+     */
+    private final OsgiHeader exportPackage;
 
     /**
-     * Properties.
+     * The imported packages.
      */
-    private Properties properties = null;
+    private final OsgiHeader importPackage;
 
     /**
      * Entry name for Bundle Symbolic Name.
@@ -100,7 +116,18 @@ public final class Metadata {
             "Implementation-Version";
 
     /**
-     * List of collected errors.
+     * Entry name for the exported packages, the source of the bundle spec
+     * version.
+     */
+    public static final String EXPORT_PACKAGE = "Export-Package";
+
+    /**
+     * Entry name for the imported packages.
+     */
+    public static final String IMPORT_PACKAGE = "Import-Package";
+
+    /**
+     * List of collected errors, the shared empty list if none.
      */
     private final List<String> errors;
 
@@ -116,42 +143,49 @@ public final class Metadata {
         JAR_IMPLEMENTATION_VERSION
     };
 
+    /**
+     * The manifest attributes read from JAR files, all the metadata entries
+     * but {@link #BUNDLE_SPEC_VERSION} that is not a manifest attribute, and
+     * the {@link #EXPORT_PACKAGE} OSGi header. The {@link #IMPORT_PACKAGE}
+     * header is only read by {@link JarSnapshot}, for its verification.
+     */
+    static final List<String> ATTRIBUTES = Collections.unmodifiableList(
+            Arrays.asList(
+                    BUNDLE_SYMBOLIC_NAME,
+                    BUNDLE_VERSION,
+                    JAR_EXTENSION_NAME,
+                    JAR_SPECIFICATION_VERSION,
+                    JAR_IMPLEMENTATION_VERSION,
+                    EXPORT_PACKAGE));
+
     /**
      * Create a new {@link Metadata} instance.
-     * @param bsn bundle symbolic name
-     * @param bsv bundle spec version
-     * @param bv bundle version
-     * @param jen jar extension name
-     * @param jsv jar spec version
-     * @param jiv jar implementation version
+     * @param values the entry values indexed like {@link #KEYS}, a
+     * {@code null} value is empty
+     * @param exports the exported packages
+     * @param imports the imported packages
      * @param errs errors
      */
-    Metadata(final String bsn, final String bsv, final String bv,
-            final String jen, final String jsv, final String jiv,
-            final List<String> errs) {
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private Metadata(final String[] values, final OsgiHeader exports,
+            final OsgiHeader imports, final List<String> errs) {
 
         this.bundleSymbolicName =
-                bsn != null ? bsn : "";
+                values[0] != null ? values[0] : "";
         this.bundleSpecVersion =
-                bsv != null ? bsv : "";
+                values[1] != null ? values[1] : "";
         this.bundleVersion =
-                bv != null ? bv : "";
+                values[2] != null ? values[2] : "";
         this.jarExtensionName =
-                jen != null ? jen : "";
+                values[3] != null ? values[3] : "";
         this.jarSpecificationVersion =
-                jsv != null ? jsv : "";
+                values[4] != null ? values[4] : "";
         this.jarImplementationVersion =
-                jiv != null ? jiv : "";
-
-        Objects.requireNonNull(errs, "errors in null");
-        this.errors = errs;
-        this.properties = new Properties();
-        properties.put("spec.bundle.symbolic-name", bundleSymbolicName);
-        properties.put("spec.bundle.spec.version", bundleSpecVersion);
-        properties.put("spec.bundle.version", bundleVersion);
-        properties.put("spec.extension.name", jarExtensionName);
-        properties.put("spec.specification.version", jarSpecificationVersion);
-        properties.put("spec.implementation.version", jarImplementationVersion);
+                values[5] != null ? values[5] : "";
+        this.exportPackage = exports;
+        this.importPackage = imports;
+        this.errors = errs.isEmpty() ? Collections.<String>emptyList()
+                : Collections.unmodifiableList(errs);
     }
 
     /**
@@ -166,29 +200,84 @@ public final class Metadata {
     Metadata(final String bsn, final String bsv, final String bv,
             final String jen, final String jsv, final String jiv) {
 
-        this(bsn, bsv, bv, jen, jsv, jiv, new LinkedList<String>());
+        this(new String[] {bsn, bsv, bv, jen, jsv, jiv}, OsgiHeader.EMPTY,
+                OsgiHeader.EMPTY, Collections.<String>emptyList());
     }
 
     /**
      * Create a new {@link Metadata} instance from a JAR file.
+     * Only the needed attributes of the manifest are read, see
+     * {@link ManifestReader}, the {@code Import-Package} header is not read.
      * @param jar the JAR file to process
      * @return the created {@link Metadata} instance
      * @throws IOException if an error occurs while reading JAR entries
      */
-    @SuppressWarnings("checkstyle:MagicNumber")
     public static Metadata fromJar(final JarFile jar) throws IOException {
-        ZipEntry e = jar.getEntry("META-INF/MANIFEST.MF");
-        InputStream is = jar.getInputStream(e);
-        Manifest manifest = new Manifest(is);
+        ZipEntry e = jar.getEntry(JarReader.MANIFEST_NAME);
+        if (e == null) {
+            return fromAttributes(Collections.<String, String>emptyMap());
+        }
+        try (InputStream is = jar.getInputStream(e)) {
+            return fromAttributes(ManifestReader.read(is, ATTRIBUTES));
+        }
+    }
 
-        List<String> errors = new LinkedList<String>();
+    /**
+     * Create a new {@link Metadata} instance from a JAR file.
+     * Only the central directory and the needed attributes of the manifest
+     * are read, see {@link ManifestReader}, the {@code Import-Package} header
+     * is not read.
+     * @param jar the JAR file to process
+     * @return the created {@link Metadata} instance
+     * @throws IOException if an error occurs while reading JAR entries
+     */
+    public static Metadata fromJar(final JarReader jar) throws IOException {
+        JarReader.Entry e = jar.getManifestEntry();
+        if (e == null) {
+            return fromAttributes(Collections.<String, String>emptyMap());
+        }
+        try (InputStream is = jar.getInputStream(e)) {
+            return fromAttributes(ManifestReader.read(is, ATTRIBUTES));
+        }
+    }
+
+    /**
+     * Create a new {@link Metadata} instance from a JAR file, using
+     * {@link JarReader} or {@link JarFile} if the file is not supported by
+     * {@link JarReader}.
+     * @param file the JAR file to process
+     * @return the created {@link Metadata} instance
+     * @throws IOException if an error occurs while reading JAR entries
+     */
+    public static Metadata fromFile(final File file) throws IOException {
+        try (JarReader jar = JarReader.open(file)) {
+            return fromJar(jar);
+        } catch (ZipException ex) {
+            try (JarFile jar = new JarFile(file)) {
+                return fromJar(jar);
+            }
+        }
+    }
+
+    /**
+     * Create a new {@link Metadata} instance from the main attributes of a
+     * manifest.
+     * The bundle spec version is left empty, it is the {@code version}
+     * attribute of the {@code Export-Package} clause of the API package
+     * that is only known by the {@link Spec}.
+     * @param attrs the attribute values keyed by the names of
+     * {@link #ATTRIBUTES} and optionally {@link #IMPORT_PACKAGE}
+     * @return the created {@link Metadata} instance
+     */
+    static Metadata fromAttributes(final Map<String, String> attrs) {
+        List<String> errors = new ArrayList<>();
         String[] mdata = new String[KEYS.length];
         for (int i = 0; i < KEYS.length; i++) {
             if (KEYS[i].equals(BUNDLE_SPEC_VERSION)) {
                 // skip bundleSpecVersion
                 continue;
             }
-            mdata[i] = manifest.getMainAttributes().getValue(KEYS[i]);
+            mdata[i] = attrs.get(KEYS[i]);
             if (mdata[i] == null) {
                 errors.add(new StringBuilder()
                         .append("ERROR: ")
@@ -198,9 +287,31 @@ public final class Metadata {
             }
         }
 
-        // TODO parse exported-packages to resolve bundleSpecVersion
-        return new Metadata(mdata[0], mdata[1], mdata[2], mdata[3], mdata[4],
-                mdata[5], errors);
+        OsgiHeader exports = parseHeader(attrs, EXPORT_PACKAGE, errors);
+        OsgiHeader imports = parseHeader(attrs, IMPORT_PACKAGE, errors);
+        return new Metadata(mdata, exports, imports, errors);
+    }
+
+    /**
+     * Parse an OSGi header.
+     * @param attrs the attribute values
+     * @param name the header name
+     * @param errors the list of errors to update if the header is malformed
+     * @return the parsed header, empty if not found or malformed
+     */
+    private static OsgiHeader parseHeader(final Map<String, String> attrs,
+            final String name, final List<String> errors) {
+
+        String value = attrs.get(name);
+        if (value == null) {
+            return OsgiHeader.EMPTY;
+        }
+        try {
+            return OsgiHeader.parse(value);
+        } catch (IllegalArgumentException ex) {
+            errors.add("ERROR: " + name + " is malformed, " + ex.getMessage());
+            return OsgiHeader.EMPTY;
+        }
     }
 
     /**
@@ -253,17 +364,61 @@ public final class Metadata {
         return jarImplementationVersion;
     }
 
+    /**
+     * Get the exported packages.
+     * @return the {@code Export-Package} header, empty if not read from a
+     * JAR file
+     */
+    public OsgiHeader getExportPackage() {
+        return exportPackage;
+    }
+
+    /**
+     * Get the imported packages.
+     * @return the {@code Import-Package} header, empty if not read from a
+     * {@link JarSnapshot}
+     */
+    public OsgiHeader getImportPackage() {
+        return importPackage;
+    }
+
+    /**
+     * Get the manifest attributes, i.e. all the entries but
+     * {@link #BUNDLE_SPEC_VERSION} that is the version of the exported API
+     * package.
+     * The map is created on each call.
+     * @return the attribute values keyed by name
+     */
+    public Map<String, String> getManifestAttributes() {
+        Map<String, String> attrs = new LinkedHashMap<>();
+        attrs.put(BUNDLE_SYMBOLIC_NAME, bundleSymbolicName);
+        attrs.put(BUNDLE_VERSION, bundleVersion);
+        attrs.put(JAR_EXTENSION_NAME, jarExtensionName);
+        attrs.put(JAR_SPECIFICATION_VERSION, jarSpecificationVersion);
+        attrs.put(JAR_IMPLEMENTATION_VERSION, jarImplementationVersion);
+        return attrs;
+    }
+
     /**
      * Get the metadata properties.
+     * The properties are created on each call, they are not kept by this
+     * instance.
      * @return metadata properties
      */
     public Properties getProperties() {
+        Properties properties = new Properties();
+        properties.put("spec.bundle.symbolic-name", bundleSymbolicName);
+        properties.put("spec.bundle.spec.version", bundleSpecVersion);
+        properties.put("spec.bundle.version", bundleVersion);
+        properties.put("spec.extension.name", jarExtensionName);
+        properties.put("spec.specification.version", jarSpecificationVersion);
+        properties.put("spec.implementation.version", jarImplementationVersion);
         return properties;
     }
 
     /**
      * Get the metadata errors.
-     * @return the list of errors
+     * @return the unmodifiable list of errors
      */
     public List<String> getErrors() {
         return errors;
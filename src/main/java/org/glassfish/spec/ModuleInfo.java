@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The name and exported packages of a module descriptor.
+ *
+ * <p>
+ * Only the constant pool and the {@code Module} attribute of
+ * {@code module-info.class} are read, the requires, opens, uses and
+ * provides directives are skipped.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se21/html/jvms-4.html#jvms-4.7.25">
+ * The Module Attribute</a>
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class ModuleInfo {
+
+    /**
+     * The entry name of the module descriptor.
+     */
+    public static final String MODULE_INFO_CLASS = "module-info.class";
+
+    /**
+     * The name of the {@code Module} attribute.
+     */
+    private static final String MODULE_ATTRIBUTE = "Module";
+
+    /**
+     * The module name.
+     */
+    private final String name;
+
+    /**
+     * The packages exported to all modules.
+     */
+    private final Set<String> exports;
+
+    /**
+     * The packages exported to specific modules.
+     */
+    private final Set<String> qualifiedExports;
+
+    /**
+     * Create a new {@link ModuleInfo} instance.
+     * @param n the module name
+     * @param exps the packages exported to all modules
+     * @param qexps the packages exported to specific modules
+     */
+    private ModuleInfo(final String n, final Set<String> exps,
+            final Set<String> qexps) {
+
+        this.name = n;
+        this.exports = Collections.unmodifiableSet(exps);
+        this.qualifiedExports = Collections.unmodifiableSet(qexps);
+    }
+
+    /**
+     * Parse a module descriptor.
+     * @param entryName the entry name of the descriptor, used in error
+     * messages
+     * @param classFile the content of {@code module-info.class}
+     * @return the created instance
+     * @throws IOException if the descriptor is malformed
+     */
+    public static ModuleInfo parse(final String entryName,
+            final byte[] classFile) throws IOException {
+
+        try {
+            return parse(new ConstantPool(classFile));
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IOException("malformed module descriptor: "
+                    + entryName, ex);
+        } catch (IllegalStateException ex) {
+            throw new IOException(ex.getMessage() + ": " + entryName, ex);
+        }
+    }
+
+    /**
+     * Parse a module descriptor.
+     * @param cp the constant pool of the descriptor
+     * @return the created instance
+     * @throws IOException if a constant cannot be decoded
+     */
+    private static ModuleInfo parse(final ConstantPool cp)
+            throws IOException {
+
+        // skip access flags, this class, super class and interfaces
+        int pos = cp.end() + 6;
+        pos += 2 + 2 * cp.u2(pos);
+        // skip fields and methods
+        for (int members = 0; members < 2; members++) {
+            int n = cp.u2(pos);
+            pos += 2;
+            for (int i = 0; i < n; i++) {
+                int attrs = cp.u2(pos + 6);
+                pos += 8;
+                for (int j = 0; j < attrs; j++) {
+                    pos += 6 + cp.u4(pos + 2);
+                }
+            }
+        }
+        int attrs = cp.u2(pos);
+        pos += 2;
+        for (int i = 0; i < attrs; i++) {
+            int len = cp.u4(pos + 2);
+            if (MODULE_ATTRIBUTE.equals(cp.utf8(cp.u2(pos)))) {
+                return parseModule(cp, pos + 6);
+            }
+            pos += 6 + len;
+        }
+        throw new IllegalStateException("module attribute not found");
+    }
+
+    /**
+     * Parse the {@code Module} attribute.
+     * @param cp the constant pool of the descriptor
+     * @param offset the offset of the attribute content
+     * @return the created instance
+     * @throws IOException if a constant cannot be decoded
+     */
+    private static ModuleInfo parseModule(final ConstantPool cp,
+            final int offset) throws IOException {
+
+        String moduleName = cp.name(cp.u2(offset), ConstantPool.MODULE);
+        // skip flags and version
+        int pos = offset + 6;
+        // skip requires
+        pos += 2 + 6 * cp.u2(pos);
+        int count = cp.u2(pos);
+        pos += 2;
+        Set<String> exps = new LinkedHashSet<>();
+        Set<String> qexps = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            String pkg = cp.name(cp.u2(pos), ConstantPool.PACKAGE)
+                    .replace('/', '.');
+            int targets = cp.u2(pos + 4);
+            if (targets == 0) {
+                exps.add(pkg);
+            } else {
+                qexps.add(pkg);
+            }
+            pos += 6 + 2 * targets;
+        }
+        return new ModuleInfo(moduleName, exps, qexps);
+    }
+
+    /**
+     * Get the module name.
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the packages exported to all modules.
+     * @return the unmodifiable set of dotted package names
+     */
+    public Set<String> getExports() {
+        return exports;
+    }
+
+    /**
+     * Get the packages only exported to specific modules.
+     * @return the unmodifiable set of dotted package names
+     */
+    public Set<String> getQualifiedExports() {
+        return qualifiedExports;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
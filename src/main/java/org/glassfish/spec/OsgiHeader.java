@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A parsed OSGi manifest header, e.g. {@code Export-Package}.
+ *
+ * <p>
+ * The header is tokenized in a single pass over its characters. Only the
+ * paths, i.e. the package names, are copied; the parameters are recorded as
+ * offsets in the header value and an attribute or directive value is only
+ * materialized when looked up. The {@code uses:=} directives that make most
+ * of a large {@code Export-Package} header are never copied.
+ *
+ * <p>
+ * Paths are indexed by a hash table, looking up the parameters of a path
+ * does not depend on the header size. Instances are immutable.
+ *
+ * @see <a href="https://docs.osgi.org/specification/osgi.core/8.0.0/framework.module.html">
+ * OSGi Common Header Syntax</a>
+ */
+public final class OsgiHeader {
+
+    /**
+     * A header without clauses.
+     */
+    public static final OsgiHeader EMPTY = parse("");
+
+    /**
+     * The offset of the name start in a parameter record.
+     */
+    private static final int NAME_START = 0;
+
+    /**
+     * The offset of the name end in a parameter record.
+     */
+    private static final int NAME_END = 1;
+
+    /**
+     * The offset of the value start in a parameter record.
+     */
+    private static final int VALUE_START = 2;
+
+    /**
+     * The offset of the value end in a parameter record.
+     */
+    private static final int VALUE_END = 3;
+
+    /**
+     * The offset of the flags in a parameter record.
+     */
+    private static final int FLAGS = 4;
+
+    /**
+     * The size of a parameter record.
+     */
+    private static final int PARAM_SIZE = 5;
+
+    /**
+     * Flag of the directive parameters.
+     */
+    private static final int DIRECTIVE = 1;
+
+    /**
+     * Flag of the quoted values that contain escaped characters.
+     */
+    private static final int ESCAPED = 2;
+
+    /**
+     * The header value.
+     */
+    private final String header;
+
+    /**
+     * The paths, in header order.
+     */
+    private final String[] paths;
+
+    /**
+     * The clause of each path, indexed like {@link #paths}.
+     */
+    private final int[] clauses;
+
+    /**
+     * The index of the first parameter of each clause, plus the number of
+     * parameters.
+     */
+    private final int[] clauseParams;
+
+    /**
+     * The parameter records.
+     */
+    private final int[] params;
+
+    /**
+     * The index of the first occurrence of each path.
+     */
+    private final Map<String, Integer> index;
+
+    /**
+     * Create a new {@link OsgiHeader} instance.
+     * @param value the header value
+     * @param pths the paths
+     * @param pathClauses the clause of each path
+     * @param paramIndexes the index of the first parameter of each clause,
+     * plus the number of parameters
+     * @param paramRecords the parameter records
+     */
+    private OsgiHeader(final String value, final String[] pths,
+            final int[] pathClauses, final int[] paramIndexes,
+            final int[] paramRecords) {
+
+        this.header = value;
+        this.paths = pths;
+        this.clauses = pathClauses;
+        this.clauseParams = paramIndexes;
+        this.params = paramRecords;
+        this.index = new HashMap<>(pths.length * 2);
+        for (int i = 0; i < pths.length; i++) {
+            index.putIfAbsent(pths[i], i);
+        }
+    }
+
+    /**
+     * Parse an OSGi header.
+     * @param value the header value
+     * @return the parsed header
+     * @throws IllegalArgumentException if the header is malformed
+     */
+    public static OsgiHeader parse(final String value) {
+        return new Parser(value).parse();
+    }
+
+    /**
+     * Get the number of paths.
+     * @return number of paths
+     */
+    public int size() {
+        return paths.length;
+    }
+
+    /**
+     * Get a path.
+     * @param idx the path index
+     * @return the path
+     */
+    public String getPath(final int idx) {
+        return paths[idx];
+    }
+
+    /**
+     * Get the paths.
+     * @return the unmodifiable list of paths, in header order
+     */
+    public List<String> getPaths() {
+        return Collections.unmodifiableList(Arrays.asList(paths));
+    }
+
+    /**
+     * Get the index of a path.
+     * @param path the path to look up
+     * @return the index of the first occurrence of the path, or {@code -1}
+     * if not found
+     */
+    public int indexOf(final String path) {
+        Integer idx = index.get(path);
+        return idx != null ? idx : -1;
+    }
+
+    /**
+     * Get an attribute of the clause of a path.
+     * @param idx the path index
+     * @param name the attribute name
+     * @return the attribute value, or {@code null} if not found
+     */
+    public String getAttribute(final int idx, final String name) {
+        return find(idx, name, 0);
+    }
+
+    /**
+     * Get a directive of the clause of a path.
+     * @param idx the path index
+     * @param name the directive name
+     * @return the directive value, or {@code null} if not found
+     */
+    public String getDirective(final int idx, final String name) {
+        return find(idx, name, DIRECTIVE);
+    }
+
+    /**
+     * Find a parameter of the clause of a path.
+     * @param idx the path index
+     * @param name the parameter name
+     * @param kind {@link #DIRECTIVE} or {@code 0} for an attribute
+     * @return the parameter value, or {@code null} if not found
+     */
+    private String find(final int idx, final String name, final int kind) {
+        int clause = clauses[idx];
+        int end = clauseParams[clause + 1] * PARAM_SIZE;
+        for (int p = clauseParams[clause] * PARAM_SIZE; p < end;
+                p += PARAM_SIZE) {
+            int flags = params[p + FLAGS];
+            if ((flags & DIRECTIVE) == kind
+                    && params[p + NAME_END] - params[p + NAME_START]
+                            == name.length()
+                    && header.regionMatches(params[p + NAME_START], name, 0,
+                            name.length())) {
+                String value = header.substring(params[p + VALUE_START],
+                        params[p + VALUE_END]);
+                return (flags & ESCAPED) != 0 ? unescape(value) : value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove the backslashes of the escaped characters of a quoted value.
+     * @param value the quoted value, without the quotes
+     * @return the unescaped value
+     */
+    private static String unescape(final String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                c = value.charAt(++i);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return header;
+    }
+
+    /**
+     * The header tokenizer.
+     */
+    private static final class Parser {
+
+        /**
+         * The initial size of the arrays.
+         */
+        private static final int INITIAL_SIZE = 16;
+
+        /**
+         * The header value.
+         */
+        private final String str;
+
+        /**
+         * The position of the next character.
+         */
+        private int pos;
+
+        /**
+         * The paths.
+         */
+        private final List<String> paths = new ArrayList<>();
+
+        /**
+         * The clause of each path.
+         */
+        private int[] clauses = new int[INITIAL_SIZE];
+
+        /**
+         * The index of the first parameter of each clause.
+         */
+        private int[] clauseParams = new int[INITIAL_SIZE];
+
+        /**
+         * The number of clauses.
+         */
+        private int clauseCount;
+
+        /**
+         * The parameter records.
+         */
+        private int[] params = new int[INITIAL_SIZE * PARAM_SIZE];
+
+        /**
+         * The number of parameters.
+         */
+        private int paramCount;
+
+        /**
+         * Create a new {@link Parser} instance.
+         * @param value the header value
+         */
+        Parser(final String value) {
+            this.str = value;
+        }
+
+        /**
+         * Parse the header.
+         * @return the parsed header
+         * @throws IllegalArgumentException if the header is malformed
+         */
+        OsgiHeader parse() {
+            skipWhitespace();
+            while (pos < str.length()) {
+                clauseParams = grow(clauseParams, clauseCount + 2);
+                clauseParams[clauseCount] = paramCount;
+                parseClause();
+                clauseCount++;
+                if (pos < str.length()) {
+                    // skip ','
+                    pos++;
+                    skipWhitespace();
+                    if (pos == str.length()) {
+                        throw error("expected a clause");
+                    }
+                }
+            }
+            clauseParams[clauseCount] = paramCount;
+            return new OsgiHeader(str, paths.toArray(new String[0]),
+                    Arrays.copyOf(clauses, paths.size()),
+                    Arrays.copyOf(clauseParams, clauseCount + 1),
+                    Arrays.copyOf(params, paramCount * PARAM_SIZE));
+        }
+
+        /**
+         * Parse a clause, stop at the next {@code ','} or at the end of the
+         * header.
+         * @throws IllegalArgumentException if the clause is malformed
+         */
+        private void parseClause() {
+            int firstPath = paths.size();
+            while (true) {
+                int start = pos;
+                int end = scanName();
+                if (start == end) {
+                    throw error("expected a name");
+                }
+                skipWhitespace();
+                char c = pos < str.length() ? str.charAt(pos) : ',';
+                if (c == '=' || c == ':') {
+                    if (paths.size() == firstPath) {
+                        throw error("expected a path");
+                    }
+                    parseParameter(start, end);
+                } else {
+                    if (paramCount > clauseParams[clauseCount]) {
+                        throw error("expected a parameter");
+                    }
+                    clauses = grow(clauses, paths.size() + 1);
+                    clauses[paths.size()] = clauseCount;
+                    paths.add(str.substring(start, end));
+                }
+                if (pos == str.length() || str.charAt(pos) == ',') {
+                    return;
+                }
+                if (str.charAt(pos) != ';') {
+                    throw error("expected ';' or ','");
+                }
+                pos++;
+                skipWhitespace();
+            }
+        }
+
+        /**
+         * Parse the value of a parameter, the position is at the
+         * {@code '='} or {@code ':'} following its name.
+         * @param nameStart the start of the parameter name
+         * @param nameEnd the end of the parameter name
+         * @throws IllegalArgumentException if the parameter is malformed
+         */
+        private void parseParameter(final int nameStart, final int nameEnd) {
+            int flags = 0;
+            if (str.charAt(pos) == ':') {
+                pos++;
+                if (pos < str.length() && str.charAt(pos) == '=') {
+                    flags = DIRECTIVE;
+                } else {
+                    // typed attribute, e.g. version:Version="1.0"
+                    skipWhitespace();
+                    scanName();
+                    skipWhitespace();
+                    if (pos == str.length() || str.charAt(pos) != '=') {
+                        throw error("expected '='");
+                    }
+                }
+            }
+            // skip '='
+            pos++;
+            skipWhitespace();
+            int valueStart;
+            int valueEnd;
+            if (pos < str.length() && str.charAt(pos) == '"') {
+                valueStart = ++pos;
+                while (true) {
+                    if (pos >= str.length()) {
+                        throw error("unterminated quoted string");
+                    }
+                    char c = str.charAt(pos);
+                    if (c == '"') {
+                        break;
+                    }
+                    if (c == '\\') {
+                        flags |= ESCAPED;
+                        pos++;
+                    }
+                    pos++;
+                }
+                valueEnd = pos++;
+            } else {
+                valueStart = pos;
+                while (pos < str.length() && !isDelimiter(str.charAt(pos))
+                        && !isWhitespace(str.charAt(pos))) {
+                    pos++;
+                }
+                valueEnd = pos;
+                if (valueStart == valueEnd) {
+                    throw error("expected a value");
+                }
+            }
+            skipWhitespace();
+            params = grow(params, (paramCount + 1) * PARAM_SIZE);
+            int p = paramCount * PARAM_SIZE;
+            params[p + NAME_START] = nameStart;
+            params[p + NAME_END] = nameEnd;
+            params[p + VALUE_START] = valueStart;
+            params[p + VALUE_END] = valueEnd;
+            params[p + FLAGS] = flags;
+            paramCount++;
+        }
+
+        /**
+         * Advance to the end of a path or parameter name.
+         * @return the end of the name
+         */
+        private int scanName() {
+            while (pos < str.length()) {
+                char c = str.charAt(pos);
+                if (isDelimiter(c) || isWhitespace(c) || c == '='
+                        || c == ':' || c == '"') {
+                    break;
+                }
+                pos++;
+            }
+            return pos;
+        }
+
+        /**
+         * Advance to the next non whitespace character.
+         */
+        private void skipWhitespace() {
+            while (pos < str.length() && isWhitespace(str.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        /**
+         * Create the exception thrown for a malformed header.
+         * @param msg the error message
+         * @return the exception
+         */
+        private IllegalArgumentException error(final String msg) {
+            return new IllegalArgumentException(String.format(
+                    "invalid OSGi header, %s at index %d", msg, pos));
+        }
+
+        /**
+         * Test if a character separates clauses or parameters.
+         * @param c the character to test
+         * @return {@code true} if the character is {@code ';'} or
+         * {@code ','}
+         */
+        private static boolean isDelimiter(final char c) {
+            return c == ';' || c == ',';
+        }
+
+        /**
+         * Test if a character is a whitespace.
+         * @param c the character to test
+         * @return {@code true} if the character is a space, a tab or a line
+         * terminator
+         */
+        private static boolean isWhitespace(final char c) {
+            return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+        }
+
+        /**
+         * Grow an array to hold at least the given number of elements.
+         * @param array the array to grow
+         * @param size the number of elements
+         * @return the given array or a larger copy
+         */
+        private static int[] grow(final int[] array, final int size) {
+            if (size <= array.length) {
+                return array;
+            }
+            return Arrays.copyOf(array, Math.max(size, array.length * 2));
+        }
+    }
+}
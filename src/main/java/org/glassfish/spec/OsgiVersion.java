@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+/**
+ * An OSGi version, {@code major[.minor[.micro[.qualifier]]]}.
+ *
+ * <p>
+ * Missing components are {@code 0}, or empty for the qualifier, so that
+ * {@code 2.0} and {@code 2.0.0} are equal. Versions are ordered by their
+ * numeric components then by their qualifiers. Instances are immutable.
+ *
+ * @see <a href="https://docs.osgi.org/specification/osgi.core/8.0.0/framework.module.html#i2655136">
+ * OSGi Version</a>
+ */
+public final class OsgiVersion implements Comparable<OsgiVersion> {
+
+    /**
+     * The major component.
+     */
+    private final int major;
+
+    /**
+     * The minor component.
+     */
+    private final int minor;
+
+    /**
+     * The micro component.
+     */
+    private final int micro;
+
+    /**
+     * The qualifier, may be empty.
+     */
+    private final String qualifier;
+
+    /**
+     * Create a new {@link OsgiVersion} instance.
+     * @param maj the major component
+     * @param min the minor component
+     * @param mic the micro component
+     * @param qual the qualifier, may be empty
+     */
+    public OsgiVersion(final int maj, final int min, final int mic,
+            final String qual) {
+
+        this.major = maj;
+        this.minor = min;
+        this.micro = mic;
+        this.qualifier = qual;
+    }
+
+    /**
+     * Parse an OSGi version.
+     * @param version the version to parse, surrounding whitespace is ignored
+     * @return the parsed version
+     * @throws IllegalArgumentException if the version is malformed
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    public static OsgiVersion parse(final String version) {
+        String v = version.trim();
+        int[] nums = new int[3];
+        int pos = 0;
+        for (int i = 0; i < nums.length; i++) {
+            int end = pos;
+            while (end < v.length() && v.charAt(end) != '.') {
+                end++;
+            }
+            nums[i] = parseNumber(v, pos, end, version);
+            if (end == v.length()) {
+                return new OsgiVersion(nums[0], nums[1], nums[2], "");
+            }
+            pos = end + 1;
+        }
+        String qual = v.substring(pos);
+        for (int i = 0; i < qual.length(); i++) {
+            char c = qual.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+                    || c >= '0' && c <= '9' || c == '_' || c == '-')) {
+                throw invalid(version);
+            }
+        }
+        if (qual.isEmpty()) {
+            throw invalid(version);
+        }
+        return new OsgiVersion(nums[0], nums[1], nums[2], qual);
+    }
+
+    /**
+     * Parse a numeric version component.
+     * @param str the string to parse
+     * @param start the start of the component
+     * @param end the end of the component, exclusive
+     * @param version the version being parsed, for the error message
+     * @return the component value
+     * @throws IllegalArgumentException if the component is not a number
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static int parseNumber(final String str, final int start,
+            final int end, final String version) {
+
+        if (start == end || end - start > 9) {
+            throw invalid(version);
+        }
+        int n = 0;
+        for (int i = start; i < end; i++) {
+            char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalid(version);
+            }
+            n = n * 10 + (c - '0');
+        }
+        return n;
+    }
+
+    /**
+     * Create the exception thrown for a malformed version.
+     * @param version the malformed version
+     * @return the exception
+     */
+    private static IllegalArgumentException invalid(final String version) {
+        return new IllegalArgumentException(
+                "invalid OSGi version: " + version);
+    }
+
+    /**
+     * Get the major component.
+     * @return major component
+     */
+    public int getMajor() {
+        return major;
+    }
+
+    /**
+     * Get the minor component.
+     * @return minor component
+     */
+    public int getMinor() {
+        return minor;
+    }
+
+    /**
+     * Get the micro component.
+     * @return micro component
+     */
+    public int getMicro() {
+        return micro;
+    }
+
+    /**
+     * Get the qualifier.
+     * @return qualifier, empty if none
+     */
+    public String getQualifier() {
+        return qualifier;
+    }
+
+    @Override
+    public int compareTo(final OsgiVersion other) {
+        int res = Integer.compare(major, other.major);
+        if (res == 0) {
+            res = Integer.compare(minor, other.minor);
+        }
+        if (res == 0) {
+            res = Integer.compare(micro, other.micro);
+        }
+        if (res == 0) {
+            res = qualifier.compareTo(other.qualifier);
+        }
+        return res;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof OsgiVersion)) {
+            return false;
+        }
+        return compareTo((OsgiVersion) obj) == 0;
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:MagicNumber")
+    public int hashCode() {
+        return ((major * 31 + minor) * 31 + micro) * 31 + qualifier.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String str = major + "." + minor + "." + micro;
+        return qualifier.isEmpty() ? str : str + "." + qualifier;
+    }
+}
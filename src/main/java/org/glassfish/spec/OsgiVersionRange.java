@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+/**
+ * An OSGi version range, e.g. {@code [2.0,3)}.
+ *
+ * <p>
+ * A single version {@code v} is the range of the versions greater than or
+ * equal to {@code v}, without ceiling. Instances are immutable.
+ *
+ * @see <a href="https://docs.osgi.org/specification/osgi.core/8.0.0/framework.module.html">
+ * OSGi Version Ranges</a>
+ */
+public final class OsgiVersionRange {
+
+    /**
+     * The range as parsed.
+     */
+    private final String range;
+
+    /**
+     * The floor version.
+     */
+    private final OsgiVersion floor;
+
+    /**
+     * {@code true} if the floor version is in the range.
+     */
+    private final boolean floorInclusive;
+
+    /**
+     * The ceiling version, {@code null} if the range has no ceiling.
+     */
+    private final OsgiVersion ceiling;
+
+    /**
+     * {@code true} if the ceiling version is in the range.
+     */
+    private final boolean ceilingInclusive;
+
+    /**
+     * Create a new {@link OsgiVersionRange} instance.
+     * @param value the range as parsed
+     * @param min the floor version
+     * @param minInclusive {@code true} if the floor version is in the range
+     * @param max the ceiling version, {@code null} if none
+     * @param maxInclusive {@code true} if the ceiling version is in the
+     * range
+     */
+    private OsgiVersionRange(final String value, final OsgiVersion min,
+            final boolean minInclusive, final OsgiVersion max,
+            final boolean maxInclusive) {
+
+        this.range = value;
+        this.floor = min;
+        this.floorInclusive = minInclusive;
+        this.ceiling = max;
+        this.ceilingInclusive = maxInclusive;
+    }
+
+    /**
+     * Parse an OSGi version range.
+     * @param value the range to parse, surrounding whitespace is ignored
+     * @return the parsed range
+     * @throws IllegalArgumentException if the range is malformed
+     */
+    public static OsgiVersionRange parse(final String value) {
+        String str = value.trim();
+        if (str.isEmpty()) {
+            throw invalid(value);
+        }
+        char first = str.charAt(0);
+        char last = str.charAt(str.length() - 1);
+        int comma = str.indexOf(',');
+        try {
+            if (first != '[' && first != '(') {
+                return new OsgiVersionRange(value, OsgiVersion.parse(str),
+                        true, null, false);
+            }
+            if (str.length() < 2 || (last != ']' && last != ')')
+                    || comma < 0) {
+                throw invalid(value);
+            }
+            return new OsgiVersionRange(value,
+                    OsgiVersion.parse(str.substring(1, comma)), first == '[',
+                    OsgiVersion.parse(str.substring(comma + 1,
+                            str.length() - 1)),
+                    last == ']');
+        } catch (IllegalArgumentException ex) {
+            throw invalid(value);
+        }
+    }
+
+    /**
+     * Create the exception thrown for a malformed range.
+     * @param value the malformed range
+     * @return the exception
+     */
+    private static IllegalArgumentException invalid(final String value) {
+        return new IllegalArgumentException(
+                "invalid OSGi version range: " + value);
+    }
+
+    /**
+     * Get the floor version.
+     * @return floor version
+     */
+    public OsgiVersion getFloor() {
+        return floor;
+    }
+
+    /**
+     * Test if the floor version is in the range.
+     * @return {@code true} if the floor version is in the range
+     */
+    public boolean isFloorInclusive() {
+        return floorInclusive;
+    }
+
+    /**
+     * Get the ceiling version.
+     * @return ceiling version, {@code null} if the range has no ceiling
+     */
+    public OsgiVersion getCeiling() {
+        return ceiling;
+    }
+
+    /**
+     * Test if the ceiling version is in the range.
+     * @return {@code true} if the ceiling version is in the range
+     */
+    public boolean isCeilingInclusive() {
+        return ceilingInclusive;
+    }
+
+    /**
+     * Test if the range contains a version.
+     * @param version the version to test
+     * @return {@code true} if the version is in the range
+     */
+    public boolean includes(final OsgiVersion version) {
+        int min = version.compareTo(floor);
+        if (min < 0 || min == 0 && !floorInclusive) {
+            return false;
+        }
+        if (ceiling == null) {
+            return true;
+        }
+        int max = version.compareTo(ceiling);
+        return max < 0 || max == 0 && ceilingInclusive;
+    }
+
+    /**
+     * Test if the range contains no version.
+     * @return {@code true} if the range is empty
+     */
+    public boolean isEmpty() {
+        if (ceiling == null) {
+            return false;
+        }
+        int res = floor.compareTo(ceiling);
+        return res > 0 || res == 0 && !(floorInclusive && ceilingInclusive);
+    }
+
+    @Override
+    public String toString() {
+        return range;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The packages of a JAR file and the number of classes of each package, per
+ * release.
+ *
+ * <p>
+ * An inventory is built once while scanning the JAR entries, see
+ * {@link JarSnapshot#getInventory()}, and shared by all the verification
+ * rules. Package names are stored once, in entry order, the class counts
+ * are packed in one array per release and the names are indexed by the
+ * {@link PackageTable} built while scanning; lookups do not allocate.
+ *
+ * <p>
+ * The base release, i.e. the classes outside of {@code META-INF/versions},
+ * is {@code 0}. Instances are immutable.
+ */
+public final class PackageInventory {
+
+    /**
+     * The package names, in entry order.
+     */
+    private final PackageTable names;
+
+    /**
+     * The releases, in increasing order.
+     */
+    private final int[] releases;
+
+    /**
+     * The class counts of each release, indexed like {@link #releases} then
+     * like {@link #names}.
+     */
+    private final int[][] counts;
+
+    /**
+     * The view of all the package names.
+     */
+    private final Set<String> packages;
+
+    /**
+     * Create a new {@link PackageInventory} instance.
+     * @param pkgs the package names, in entry order, not modified afterwards
+     * @param rels the releases, in increasing order
+     * @param classCounts the class counts of each release, indexed like
+     * {@code rels} then like {@code pkgs}
+     */
+    PackageInventory(final PackageTable pkgs, final int[] rels,
+            final int[][] classCounts) {
+
+        this.names = pkgs;
+        this.releases = rels;
+        this.counts = classCounts;
+        this.packages = new PackageSet(-1);
+    }
+
+    /**
+     * Get the number of packages.
+     * @return the number of packages, in all the releases
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Get the name of a package.
+     * @param index the package index, in entry order
+     * @return the dotted package name, empty for the default package
+     */
+    public String getName(final int index) {
+        return names.getName(index);
+    }
+
+    /**
+     * Get the index of a package.
+     * @param pkg the dotted package name
+     * @return the package index, or {@code -1} if the JAR file has no
+     * class in this package
+     */
+    public int indexOf(final String pkg) {
+        return names.indexOf(pkg);
+    }
+
+    /**
+     * Test if the JAR file has classes in a package, in any release.
+     * @param pkg the dotted package name
+     * @return {@code true} if the package has classes, {@code false}
+     * otherwise
+     */
+    public boolean contains(final String pkg) {
+        return indexOf(pkg) >= 0;
+    }
+
+    /**
+     * Get the releases that have classes.
+     * @return a new array of the releases, in increasing order
+     */
+    public int[] getReleases() {
+        return releases.clone();
+    }
+
+    /**
+     * Get the number of classes of a package, in all the releases.
+     * @param index the package index
+     * @return the number of classes
+     */
+    public int getClassCount(final int index) {
+        int count = 0;
+        for (int[] releaseCounts : counts) {
+            count += releaseCounts[index];
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of classes of a package in a release.
+     * @param index the package index
+     * @param release the release
+     * @return the number of classes, {@code 0} if the release has no
+     * classes in the package
+     */
+    public int getClassCount(final int index, final int release) {
+        int r = Arrays.binarySearch(releases, release);
+        return r < 0 ? 0 : counts[r][index];
+    }
+
+    /**
+     * Get the number of classes of a package, in all the releases.
+     * @param pkg the dotted package name
+     * @return the number of classes, {@code 0} if the JAR file has no
+     * class in this package
+     */
+    public int getClassCount(final String pkg) {
+        int index = indexOf(pkg);
+        return index < 0 ? 0 : getClassCount(index);
+    }
+
+    /**
+     * Test if a package has classes visible to a release, i.e. in the
+     * release or in a lower release.
+     * @param pkg the dotted package name
+     * @param release the release
+     * @return {@code true} if the package has visible classes,
+     * {@code false} otherwise
+     */
+    public boolean isVisible(final String pkg, final int release) {
+        int index = indexOf(pkg);
+        if (index < 0) {
+            return false;
+        }
+        for (int r = 0; r < releases.length && releases[r] <= release; r++) {
+            if (counts[r][index] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the names of all the packages.
+     * @return an unmodifiable view of the package names, in entry order
+     */
+    public Set<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * Get the names of the packages that have classes in a release.
+     * @param release the release
+     * @return an unmodifiable view of the package names, in entry order,
+     * empty if the release has no classes
+     */
+    public Set<String> getPackages(final int release) {
+        int r = Arrays.binarySearch(releases, release);
+        return r < 0 ? Collections.<String>emptySet()
+                : new PackageSet(r);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int p = 0; p < names.size(); p++) {
+            if (p > 0) {
+                sb.append(", ");
+            }
+            sb.append(names.getName(p)).append('=').append(getClassCount(p));
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * A view of the package names of a release, or of all the releases.
+     */
+    private final class PackageSet extends AbstractSet<String> {
+
+        /**
+         * The release index, {@code -1} for all the releases.
+         */
+        private final int release;
+
+        /**
+         * The number of packages.
+         */
+        private final int size;
+
+        /**
+         * Create a new {@link PackageSet} instance.
+         * @param r the release index, {@code -1} for all the releases
+         */
+        PackageSet(final int r) {
+            this.release = r;
+            int n = 0;
+            for (int p = 0; p < names.size(); p++) {
+                if (includes(p)) {
+                    n++;
+                }
+            }
+            this.size = n;
+        }
+
+        /**
+         * Test if a package is in this view.
+         * @param index the package index
+         * @return {@code true} if included, {@code false} otherwise
+         */
+        private boolean includes(final int index) {
+            return release < 0 || counts[release][index] > 0;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (!(o instanceof String)) {
+                return false;
+            }
+            int index = indexOf((String) o);
+            return index >= 0 && includes(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<String>() {
+
+                /**
+                 * The index of the next package.
+                 */
+                private int next = advance(0);
+
+                /**
+                 * Find the next included package.
+                 * @param from the index to start from
+                 * @return the index of the next included package, or the
+                 * number of packages if none
+                 */
+                private int advance(final int from) {
+                    int p = from;
+                    while (p < names.size() && !includes(p)) {
+                        p++;
+                    }
+                    return p;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < names.size();
+                }
+
+                @Override
+                public String next() {
+                    if (next >= names.size()) {
+                        throw new NoSuchElementException();
+                    }
+                    String pkg = names.getName(next);
+                    next = advance(next + 1);
+                    return pkg;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Matches package names against a set of allowed packages.
+ *
+ * <p>
+ * An allowed package matches itself and all its sub-packages. A {@code *}
+ * segment matches any single segment, e.g. {@code org.acme.*.impl} matches
+ * {@code org.acme.foo.impl} and {@code org.acme.bar.impl.util}, and
+ * {@code org.acme.*} matches the sub-packages of {@code org.acme} but not
+ * {@code org.acme} itself. An empty allowed package only matches the
+ * default package.
+ *
+ * <p>
+ * The allowed packages are compiled into a trie of segments, matching is
+ * linear in the length of the name, does not depend on the number of
+ * allowed packages and does not allocate. Names can be given with any
+ * separator, so that JAR entry names can be matched without converting
+ * them to package names.
+ */
+public final class PackageMatcher {
+
+    /**
+     * The wildcard segment.
+     */
+    private static final String WILDCARD = "*";
+
+    /**
+     * The allowed packages.
+     */
+    private final String[] packages;
+
+    /**
+     * The root of the trie.
+     */
+    private final Node root;
+
+    /**
+     * {@code true} if the default package is allowed.
+     */
+    private final boolean defaultPackage;
+
+    /**
+     * A trie node, the children are sorted by segment.
+     */
+    private static final class Node {
+
+        /**
+         * {@code true} if the segments up to this node form an allowed
+         * package.
+         */
+        private final boolean terminal;
+
+        /**
+         * The sorted segments of the children.
+         */
+        private final String[] segments;
+
+        /**
+         * The children, in the order of {@link #segments}.
+         */
+        private final Node[] children;
+
+        /**
+         * The wildcard child, may be {@code null}.
+         */
+        private final Node wildcard;
+
+        /**
+         * Create a new {@link Node} instance.
+         * @param t {@code true} if the node ends an allowed package
+         * @param segs the sorted segments of the children
+         * @param nodes the children
+         * @param wc the wildcard child, may be {@code null}
+         */
+        Node(final boolean t, final String[] segs, final Node[] nodes,
+                final Node wc) {
+
+            this.terminal = t;
+            this.segments = segs;
+            this.children = nodes;
+            this.wildcard = wc;
+        }
+
+        /**
+         * Find the child for a segment.
+         * @param name the name containing the segment
+         * @param start the start index of the segment
+         * @param end the end index of the segment
+         * @return the child, or {@code null} if not found
+         */
+        Node child(final CharSequence name, final int start, final int end) {
+            int lo = 0;
+            int hi = segments.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int cmp = compare(segments[mid], name, start, end);
+                if (cmp < 0) {
+                    lo = mid + 1;
+                } else if (cmp > 0) {
+                    hi = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Mutable trie node used while compiling the allowed packages.
+     */
+    private static final class Builder {
+
+        /**
+         * {@code true} if the segments up to this node form an allowed
+         * package.
+         */
+        private boolean terminal;
+
+        /**
+         * The children by segment.
+         */
+        private final Map<String, Builder> children = new TreeMap<>();
+
+        /**
+         * Add the segments of a package under this node.
+         * @param segments the segments
+         */
+        void add(final String[] segments) {
+            Builder node = this;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment,
+                        s -> new Builder());
+            }
+            node.terminal = true;
+        }
+
+        /**
+         * Create the immutable node.
+         * @return the node
+         */
+        Node build() {
+            Builder wc = children.remove(WILDCARD);
+            String[] segments = children.keySet().toArray(new String[0]);
+            Node[] nodes = new Node[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                nodes[i] = children.get(segments[i]).build();
+            }
+            return new Node(terminal, segments, nodes,
+                    wc != null ? wc.build() : null);
+        }
+    }
+
+    /**
+     * Create a new {@link PackageMatcher} instance.
+     * @param pkgs the allowed packages
+     */
+    private PackageMatcher(final String[] pkgs) {
+        this.packages = pkgs;
+        Builder builder = new Builder();
+        boolean dflt = false;
+        for (String p : pkgs) {
+            if (p == null || p.isEmpty()) {
+                dflt = true;
+            } else {
+                builder.add(p.split("\\.", -1));
+            }
+        }
+        this.root = builder.build();
+        this.defaultPackage = dflt;
+    }
+
+    /**
+     * Create a matcher for the given allowed packages.
+     * @param pkgs the allowed packages, with {@code .} separated segments
+     * @return the matcher
+     */
+    public static PackageMatcher of(final String... pkgs) {
+        return new PackageMatcher(pkgs.clone());
+    }
+
+    /**
+     * Test if this matcher was created for the given allowed packages.
+     * @param pkgs the allowed packages
+     * @return {@code true} if created for the same packages, {@code false}
+     * otherwise
+     */
+    public boolean isFor(final String... pkgs) {
+        return Arrays.equals(packages, pkgs);
+    }
+
+    /**
+     * Test if a package is allowed.
+     * @param pkg the package name, with {@code .} separated segments
+     * @return {@code true} if allowed, {@code false} otherwise
+     */
+    public boolean matches(final CharSequence pkg) {
+        return matches(pkg, 0, pkg.length(), '.');
+    }
+
+    /**
+     * Test if a package is allowed.
+     * @param name the characters containing the package name
+     * @param start the start index of the package name
+     * @param end the end index of the package name, exclusive
+     * @param separator the segment separator
+     * @return {@code true} if allowed, {@code false} otherwise
+     */
+    public boolean matches(final CharSequence name, final int start,
+            final int end, final char separator) {
+
+        if (start >= end) {
+            return defaultPackage;
+        }
+        return match(root, name, start, end, separator);
+    }
+
+    /**
+     * Match the remaining segments of a name.
+     * @param node the node matched so far
+     * @param name the name
+     * @param start the start index of the next segment
+     * @param end the end index of the name
+     * @param separator the segment separator
+     * @return {@code true} if allowed, {@code false} otherwise
+     */
+    private static boolean match(final Node node, final CharSequence name,
+            final int start, final int end, final char separator) {
+
+        int segEnd = start;
+        while (segEnd < end && name.charAt(segEnd) != separator) {
+            segEnd++;
+        }
+        Node child = node.child(name, start, segEnd);
+        if (child != null && (child.terminal || segEnd < end
+                && match(child, name, segEnd + 1, end, separator))) {
+            return true;
+        }
+        Node wc = node.wildcard;
+        return wc != null && (wc.terminal || segEnd < end
+                && match(wc, name, segEnd + 1, end, separator));
+    }
+
+    /**
+     * Compare a string with a region of a character sequence.
+     * @param s the string
+     * @param name the character sequence
+     * @param start the start index of the region
+     * @param end the end index of the region
+     * @return a negative value, zero or a positive value if the string is
+     * less than, equal to or greater than the region
+     */
+    private static int compare(final String s, final CharSequence name,
+            final int start, final int end) {
+
+        int len = end - start;
+        int n = Math.min(s.length(), len);
+        for (int i = 0; i < n; i++) {
+            int cmp = s.charAt(i) - name.charAt(start + i);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return s.length() - len;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(packages);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec;
+
+import java.util.Arrays;
+
+/**
+ * Index of package names, shared by the collection of the packages of a JAR
+ * file and its {@link PackageInventory}.
+ *
+ * <p>
+ * The names are stored once, in insertion order, and indexed by an open
+ * addressing hash table; lookups do not allocate, including the lookups by
+ * the directory of a JAR entry name.
+ */
+final class PackageTable {
+
+    /**
+     * The initial capacity of the hash table.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The package names, in insertion order.
+     */
+    private String[] names = new String[INITIAL_CAPACITY / 2];
+
+    /**
+     * The number of package names.
+     */
+    private int size;
+
+    /**
+     * Open addressing hash table of the indexes plus one of the package
+     * names, indexed by {@link String#hashCode()}, {@code 0} marks empty
+     * slots. The table is kept at most half full.
+     */
+    private int[] table = new int[INITIAL_CAPACITY];
+
+    /**
+     * Get the number of packages.
+     * @return the number of packages
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get the name of a package.
+     * @param index the package index, in insertion order
+     * @return the dotted package name, empty for the default package
+     */
+    String getName(final int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return names[index];
+    }
+
+    /**
+     * Get the index of a package.
+     * @param pkg the dotted package name
+     * @return the package index, or {@code -1} if not found
+     */
+    int indexOf(final String pkg) {
+        int mask = table.length - 1;
+        int i = pkg.hashCode() & mask;
+        int p;
+        while ((p = table[i]) != 0) {
+            if (names[p - 1].equals(pkg)) {
+                return p - 1;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Get the index of the package of a directory of a JAR entry name,
+     * adding the package if not found.
+     * @param entryName the entry name
+     * @param start the start of the directory in the entry name
+     * @param end the end of the directory in the entry name, exclusive and
+     * without trailing slash
+     * @return the package index
+     */
+    int add(final CharSequence entryName, final int start, final int end) {
+        int mask = table.length - 1;
+        int i = hash(entryName, start, end) & mask;
+        int p;
+        while ((p = table[i]) != 0) {
+            if (isPackage(names[p - 1], entryName, start, end)) {
+                return p - 1;
+            }
+            i = (i + 1) & mask;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        names[size++] = packageName(entryName, start, end);
+        table[i] = size;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return size - 1;
+    }
+
+    /**
+     * Test if a package name matches the directory of a JAR entry name.
+     * @param pkg the dotted package name
+     * @param entryName the entry name
+     * @param start the start of the directory in the entry name
+     * @param end the end of the directory in the entry name
+     * @return {@code true} if the names match, {@code false} otherwise
+     */
+    static boolean isPackage(final String pkg, final CharSequence entryName,
+            final int start, final int end) {
+
+        if (pkg.length() != end - start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = entryName.charAt(i);
+            if (pkg.charAt(i - start) != (c == '/' ? '.' : c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compute the hash code of the package name of a directory, equal to
+     * the {@link String#hashCode()} of the dotted package name.
+     * @param entryName the entry name
+     * @param start the start of the directory in the entry name
+     * @param end the end of the directory in the entry name
+     * @return the hash code
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static int hash(final CharSequence entryName, final int start,
+            final int end) {
+
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            char c = entryName.charAt(i);
+            h = 31 * h + (c == '/' ? '.' : c);
+        }
+        return h;
+    }
+
+    /**
+     * Create the package name of a directory.
+     * @param entryName the entry name
+     * @param start the start of the directory in the entry name
+     * @param end the end of the directory in the entry name
+     * @return the dotted package name
+     */
+    private static String packageName(final CharSequence entryName,
+            final int start, final int end) {
+
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            char c = entryName.charAt(i);
+            chars[i - start] = c == '/' ? '.' : c;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Double the capacity of the hash table.
+     */
+    private void rehash() {
+        int[] old = table;
+        table = new int[old.length * 2];
+        int mask = table.length - 1;
+        for (int p : old) {
+            if (p != 0) {
+                int i = names[p - 1].hashCode() & mask;
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = p;
+            }
+        }
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2013, 2023 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,13 +18,15 @@
 package org.glassfish.spec;
 
 import java.io.IOException;
-import java.util.Enumeration;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
@@ -55,9 +58,9 @@ public class Spec {
     private Metadata metadata;
 
     /**
-     * The Spec JAR file.
+     * The snapshot of the Spec JAR file.
      */
-    private JarFile jar;
+    private JarSnapshot snapshot;
 
     /**
      * The Spec mode (<code>"javaee"</code> or <code>"jakarta"</code>).
@@ -110,6 +113,47 @@ public class Spec {
      */
     private String implNamespace;
 
+    /**
+     * The packages that API classes may reference in addition to the
+     * platform packages, comma separated.
+     */
+    private String allowedReferences;
+
+    /**
+     * The maximum number of errors collected by a verification, unlimited
+     * if not positive.
+     */
+    private int maxErrors;
+
+    /**
+     * Verify the bundle spec version, i.e. the version of the
+     * {@code Export-Package} clause of the API package.
+     */
+    private boolean checkBundleSpecVersion;
+
+    /**
+     * Verify that the classes of the JAR snapshot are in the allowed
+     * packages.
+     */
+    private boolean checkPackages = true;
+
+    /**
+     * Verify the module descriptors and the automatic module name of the
+     * JAR snapshot.
+     */
+    private boolean checkModules;
+
+    /**
+     * Verify the {@code Export-Package} and {@code Import-Package} headers
+     * of the JAR snapshot.
+     */
+    private boolean checkPackageHeaders;
+
+    /**
+     * {@code true} if the last verification stopped at {@link #maxErrors}.
+     */
+    private boolean truncated;
+
     /**
      * The Spec Final flag.
      */
@@ -134,11 +178,29 @@ public class Spec {
         impl
     }
 
+    /**
+     * The matcher of the allowed packages, built on first use.
+     */
+    private PackageMatcher allowedPackages;
+
     /**
      * The errors during spec verification.
      */
     private final List<String> errors = new LinkedList<String>();
 
+    /**
+     * The platform packages that API classes may always reference.
+     */
+    private static final String[] PLATFORM_PACKAGES = {
+        "java",
+        "javax",
+        "jakarta",
+        "org.ietf.jgss",
+        "org.omg",
+        "org.w3c.dom",
+        "org.xml.sax"
+    };
+
     /**
      * Constant for Non Final API Build Spec Separator.
      */
@@ -167,67 +229,357 @@ public class Spec {
     public Spec() {
     }
 
+    /**
+     * Create a new instance of {@code Spec} with the configuration of the
+     * given spec.
+     *
+     * <p>
+     * The metadata, JAR snapshot and errors are not copied, this is meant to
+     * verify several artifacts against one configuration concurrently.
+     * @param config the spec to copy the configuration from
+     */
+    public Spec(final Spec config) {
+        this.artifact = config.artifact;
+        this.specMode = config.specMode;
+        this.specVersion = config.specVersion;
+        this.newSpecVersion = config.newSpecVersion;
+        this.specImplVersion = config.specImplVersion;
+        this.implVersion = config.implVersion;
+        this.newImplVersion = config.newImplVersion;
+        this.specBuild = config.specBuild;
+        this.implBuild = config.implBuild;
+        this.apiPackage = config.apiPackage;
+        this.implNamespace = config.implNamespace;
+        this.allowedReferences = config.allowedReferences;
+        this.maxErrors = config.maxErrors;
+        this.checkBundleSpecVersion = config.checkBundleSpecVersion;
+        this.checkPackages = config.checkPackages;
+        this.checkModules = config.checkModules;
+        this.checkPackageHeaders = config.checkPackageHeaders;
+        this.nonFinal = config.nonFinal;
+        this.jarType = config.jarType;
+        // share the matcher compiled by compileAllowedPackages(), the copy
+        // compiles its own if the configuration is changed afterwards
+        this.allowedPackages = config.allowedPackages;
+    }
+
     /**
      * Populate the spec artifact and metadata from the given JAR file.
      * @param jarfile the JAR file to process
      * @throws IOException if an error occurs while reading the JAR file
      */
     public void read(final JarFile jarfile) throws IOException {
-        this.jar = jarfile;
-        this.artifact = Artifact.fromJar(jar);
-        this.metadata = Metadata.fromJar(jar);
+        read(JarSnapshot.of(jarfile));
+    }
+
+    /**
+     * Populate the spec artifact and metadata from the given JAR snapshot.
+     * The classes of the snapshot are verified by {@link #verify()}.
+     * The spec artifact is left unchanged if the snapshot has no artifact.
+     * @param jarSnapshot the JAR snapshot to use
+     */
+    public void read(final JarSnapshot jarSnapshot) {
+        this.snapshot = jarSnapshot;
+        if (jarSnapshot.getArtifact() != null) {
+            this.artifact = jarSnapshot.getArtifact();
+        }
+        this.metadata = jarSnapshot.getMetadata();
         this.errors.clear();
         this.errors.addAll(metadata.getErrors());
     }
 
     /**
-     * Verify that the classes inside the given jarFile match the right package.
-     * @param jarfile the JAR file to process
-     * @param pkgs the packages to match
-     */
-    @SuppressWarnings("checkstyle:MagicNumber")
-    private void checkClasses(final JarFile jarfile, final String... pkgs) {
-        Enumeration<JarEntry> e = jarfile.entries();
-        Set<String> badPackages = new HashSet<>();
-        entries:
-        while (e.hasMoreElements()) {
-            JarEntry je = e.nextElement();
-            if (je.isDirectory()) {
-                continue;
+     * Get the matcher of the packages allowed in the JAR file, the API
+     * package and for {@code impl} JAR files the implementation namespace.
+     * The matcher is compiled once and reused as long as the configuration
+     * does not change.
+     * @return the matcher
+     */
+    private PackageMatcher getAllowedPackages() {
+        String[] pkgs = jarType == JarType.impl
+                ? new String[] {apiPackage, implNamespace}
+                : new String[] {apiPackage};
+        PackageMatcher matcher = allowedPackages;
+        if (matcher == null || !matcher.isFor(pkgs)) {
+            matcher = PackageMatcher.of(pkgs);
+            allowedPackages = matcher;
+        }
+        return matcher;
+    }
+
+    /**
+     * Compile the matcher of the allowed packages for the current
+     * configuration, so that the copies created with {@link #Spec(Spec)}
+     * share it. This must be called before creating copies from several
+     * threads.
+     */
+    public void compileAllowedPackages() {
+        getAllowedPackages();
+    }
+
+    /**
+     * Perform the enabled verifications of the given JAR snapshot. The
+     * references are verified if they were collected by the snapshot.
+     * @param jarSnapshot the JAR snapshot to process
+     */
+    private void checkSnapshot(final JarSnapshot jarSnapshot) {
+        if (checkPackages) {
+            checkClasses(jarSnapshot);
+        }
+        if (checkModules) {
+            checkModules(jarSnapshot);
+        }
+        checkReferences(jarSnapshot);
+        if (checkPackageHeaders) {
+            checkPackageHeaders(jarSnapshot);
+        }
+    }
+
+    /**
+     * Verify that the classes inside the given JAR snapshot, including the
+     * versioned classes of multi-release JAR files, are in the allowed
+     * packages or their sub-packages.
+     * @param jarSnapshot the JAR snapshot to process
+     */
+    private void checkClasses(final JarSnapshot jarSnapshot) {
+        PackageInventory inventory = jarSnapshot.getInventory();
+        int[] releases = inventory.getReleases();
+        if (!jarSnapshot.isMultiRelease() && releases.length > 0
+                && releases[releases.length - 1] > 0) {
+            if (!addError("WARNING: jar file includes versioned classes"
+                    + " but is not a multi-release jar file")) {
+                return;
             }
-            String name = je.getName();
-            if (!name.endsWith(".class")) {
-                continue;
+        }
+        PackageMatcher matcher = getAllowedPackages();
+        for (int i = 0; i < inventory.size(); i++) {
+            String name = inventory.getName(i);
+            // not in an allowed package
+            if (!matcher.matches(name)
+                    && name.startsWith(specMode.grePrefix())) {
+                if (!addError(String.format(
+                    "ERROR: jar file includes class in wrong package (%s)",
+                    name))) {
+                    return;
+                }
             }
-            name = name.substring(0, name.length() - 6); // remove ".class"
-            name = name.replace('/', '.');
+        }
+    }
 
-            // name is now the class name,
-            // is it in one of the allowed packages?
-            for (String p : pkgs) {
-                if (name.startsWith(p) && name.charAt(p.length()) == '.') {
-                    // yes, move on to next entry
-                    continue entries;
+    /**
+     * Verify the module descriptors of each release and the automatic
+     * module name of the given JAR snapshot: the module name of an
+     * {@code api} JAR file must be the API package, the versioned
+     * descriptors must have the same name as the base descriptor, the
+     * exported packages must be in the JAR file and the API package must be
+     * exported.
+     * @param jarSnapshot the JAR snapshot to process
+     */
+    private void checkModules(final JarSnapshot jarSnapshot) {
+        String expected = jarType == JarType.api ? apiPackage : null;
+        Map<Integer, ModuleInfo> modules = jarSnapshot.getModules();
+        ModuleInfo base = modules.get(0);
+        String automatic = jarSnapshot.getAutomaticModuleName();
+        if (automatic != null) {
+            String name = base != null ? base.getName() : expected;
+            if (name != null && !automatic.equals(name)) {
+                if (!addError(String.format(
+                        "WARNING: Automatic-Module-Name (%s) should be %s",
+                        automatic, name))) {
+                    return;
                 }
             }
+        }
 
-            // not in an allowed package
-            int i = name.lastIndexOf('.');
-            if (i > 0) {
-                // remove class name
-                name = name.substring(0, i);
+        PackageInventory inventory = jarSnapshot.getInventory();
+        for (Map.Entry<Integer, ModuleInfo> e : modules.entrySet()) {
+            int release = e.getKey();
+            ModuleInfo module = e.getValue();
+            String where = release == 0 ? "module-info"
+                    : "module-info of release " + release;
+            if (base != null && release > 0
+                    && !module.getName().equals(base.getName())) {
+                if (!addError(String.format(
+                        "ERROR: module name (%s) in %s should be %s",
+                        module.getName(), where, base.getName()))) {
+                    return;
+                }
+            } else if (expected != null && !module.getName().equals(expected)) {
+                if (!addError(String.format(
+                        "WARNING: module name (%s) in %s should be %s",
+                        module.getName(), where, expected))) {
+                    return;
+                }
+            }
+            for (Set<String> exports : Arrays.asList(module.getExports(),
+                    module.getQualifiedExports())) {
+                for (String pkg : exports) {
+                    if (!inventory.isVisible(pkg, release)) {
+                        if (!addError(String.format(
+                                "ERROR: %s exports package %s not found in"
+                                        + " jar file",
+                                where, pkg))) {
+                            return;
+                        }
+                    }
+                }
+            }
+            if (inventory.isVisible(apiPackage, release)
+                    && !module.getExports().contains(apiPackage)) {
+                if (!addError(String.format(
+                        "WARNING: %s does not export API package %s",
+                        where, apiPackage))) {
+                    return;
+                }
             }
+        }
+    }
 
-            // see if we've already complained about it
-            if (!badPackages.contains(name)) {
-                badPackages.add(name);
-                if (name.startsWith(specMode.grePrefix())) {
-                    errors.add(String.format(
-                        "ERROR: jar file includes class in wrong package (%s)",
-                        name));
+    /**
+     * Verify that the classes of the API package, in the given JAR snapshot,
+     * only reference the platform packages, the allowed packages and the
+     * packages of the JAR file outside of the implementation namespace.
+     * Nothing is verified if the references were not collected.
+     * @param jarSnapshot the JAR snapshot to process
+     */
+    private void checkReferences(final JarSnapshot jarSnapshot) {
+        if (!jarSnapshot.hasReferences()) {
+            return;
+        }
+        if (maxErrors > 0 && errors.size() >= maxErrors) {
+            // the classes are not read once the limit is reached
+            truncated = true;
+            return;
+        }
+        List<String> allowed = new ArrayList<>(
+                Arrays.asList(PLATFORM_PACKAGES));
+        allowed.add(apiPackage);
+        if (allowedReferences != null) {
+            for (String pkg : allowedReferences.split(",")) {
+                if (!pkg.trim().isEmpty()) {
+                    allowed.add(pkg.trim());
                 }
             }
         }
+        final PackageMatcher allowedMatcher = PackageMatcher.of(
+                allowed.toArray(new String[0]));
+        final PackageMatcher apiMatcher = PackageMatcher.of(apiPackage);
+        final PackageMatcher implMatcher = implNamespace != null
+                && !implNamespace.isEmpty()
+                ? PackageMatcher.of(implNamespace) : null;
+        // the packages are visited once per class, each reference is
+        // reported once per package
+        final Set<String> reported = new HashSet<>();
+        try {
+            jarSnapshot.visitReferences((pkg, refs) -> {
+                if (!apiMatcher.matches(pkg)) {
+                    return true;
+                }
+                for (String ref : refs) {
+                    if (apiMatcher.matches(ref)) {
+                        continue;
+                    }
+                    String error = null;
+                    if (implMatcher != null
+                            && implMatcher.matches(ref)) {
+                        error = String.format(
+                            "ERROR: API package %s references implementation "
+                                    + "package %s",
+                            pkg, ref);
+                    } else if (!allowedMatcher.matches(ref)
+                            && !jarSnapshot.getInventory().contains(ref)) {
+                        error = String.format(
+                            "ERROR: API package %s references package %s "
+                                    + "that is not allowed",
+                            pkg, ref);
+                    }
+                    if (error != null && reported.add(error)
+                            && !addError(error)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Verify the OSGi package headers of the given JAR snapshot: the
+     * exported packages must be in the JAR file, the exported API
+     * sub-packages must have the bundle spec version, and the version
+     * ranges of the imported packages of the other specs, i.e. with the
+     * same prefix as the API package, must be well-formed, non empty,
+     * bounded and within one major version.
+     * Each package is looked up once, the headers are verified in linear
+     * time.
+     * @param jarSnapshot the JAR snapshot to process
+     */
+    @SuppressWarnings("checkstyle:MethodLength")
+    private void checkPackageHeaders(final JarSnapshot jarSnapshot) {
+        PackageInventory inventory = jarSnapshot.getInventory();
+        PackageMatcher apiMatcher = PackageMatcher.of(apiPackage);
+        String expected = getExpectedBundleSpecVersion();
+        OsgiHeader exports = jarSnapshot.getMetadata().getExportPackage();
+        for (int i = 0; i < exports.size(); i++) {
+            String pkg = exports.getPath(i);
+            if (!inventory.contains(pkg)) {
+                if (!addError(String.format(
+                        "ERROR: %s exports package %s not found in jar file",
+                        Metadata.EXPORT_PACKAGE, pkg))) {
+                    return;
+                }
+            }
+            // the API package itself is the bundle spec version
+            if (!pkg.equals(apiPackage) && apiMatcher.matches(pkg)) {
+                String version = exports.getAttribute(i, "version");
+                if (version == null) {
+                    version = "0.0.0";
+                }
+                if (!isBundleSpecVersion(version, expected)) {
+                    if (!addError(String.format(
+                            "WARNING: %s version (%s) of %s should be %s",
+                            Metadata.EXPORT_PACKAGE, version.trim(), pkg,
+                            expected))) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        OsgiHeader imports = jarSnapshot.getMetadata().getImportPackage();
+        for (int i = 0; i < imports.size(); i++) {
+            String pkg = imports.getPath(i);
+            String version = imports.getAttribute(i, "version");
+            if (version == null || apiMatcher.matches(pkg)
+                    || !pkg.startsWith(specMode.grePrefix())) {
+                continue;
+            }
+            String error = null;
+            try {
+                OsgiVersionRange range = OsgiVersionRange.parse(version);
+                OsgiVersion ceiling = range.getCeiling();
+                OsgiVersion nextMajor = new OsgiVersion(
+                        range.getFloor().getMajor() + 1, 0, 0, "");
+                if (range.isEmpty()) {
+                    error = "ERROR: %s version range (%s) of %s is empty";
+                } else if (ceiling == null) {
+                    error = "WARNING: %s version range (%s) of %s has no"
+                            + " upper bound";
+                } else if (range.includes(nextMajor)
+                        || ceiling.compareTo(nextMajor) > 0) {
+                    error = "WARNING: %s version range (%s) of %s spans more"
+                            + " than one major version";
+                }
+            } catch (IllegalArgumentException ex) {
+                error = "ERROR: %s version range (%s) of %s is malformed";
+            }
+            if (error != null && !addError(String.format(error,
+                    Metadata.IMPORT_PACKAGE, version.trim(), pkg))) {
+                return;
+            }
+        }
     }
 
     /**
@@ -268,17 +620,132 @@ public class Spec {
         }
     }
 
+    /**
+     * Get the expected bundle spec version, the version of the exported API
+     * packages: the spec version for final specs, the JAR specification
+     * version otherwise.
+     * @return the expected version
+     */
+    private String getExpectedBundleSpecVersion() {
+        return nonFinal
+                ? specVersion + NONFINAL_BUILD_SEPARATOR_SPEC + specBuild
+                : specVersion;
+    }
+
+    /**
+     * Test if a version matches the expected bundle spec version.
+     * Versions are compared as OSGi versions, ignoring the {@code b} prefix
+     * of a non-final build qualifier.
+     * @param version the version to test
+     * @param expected the expected version
+     * @return {@code true} if the version matches
+     */
+    private boolean isBundleSpecVersion(final String version,
+            final String expected) {
+
+        try {
+            OsgiVersion actual = OsgiVersion.parse(version);
+            String qualifier = actual.getQualifier();
+            if (nonFinal && qualifier.startsWith("b")) {
+                actual = new OsgiVersion(actual.getMajor(), actual.getMinor(),
+                        actual.getMicro(), qualifier.substring(1));
+            }
+            return actual.equals(OsgiVersion.parse(expected));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Verify that the bundle spec version, i.e. the version of the
+     * {@code Export-Package} clause of the API package, matches the expected
+     * version. Nothing is verified if the API package is not exported.
+     */
+    private void verifyBundleSpecVersion() {
+        OsgiHeader exports = getMetadata().getExportPackage();
+        int idx = exports.indexOf(apiPackage);
+        if (idx < 0) {
+            return;
+        }
+        String expected = getExpectedBundleSpecVersion();
+        String bsv = exports.getAttribute(idx, "version");
+        if (bsv == null) {
+            errors.add(String.format(
+                    "WARNING: %s of %s has no version, %s should be %s",
+                    Metadata.EXPORT_PACKAGE,
+                    apiPackage,
+                    Metadata.BUNDLE_SPEC_VERSION,
+                    expected));
+        } else if (!isBundleSpecVersion(bsv, expected)) {
+            errors.add(String.format(
+                    "WARNING: %s (%s) should be %s",
+                    Metadata.BUNDLE_SPEC_VERSION,
+                    bsv.trim(),
+                    expected));
+        }
+    }
+
+    /**
+     * Perform the Spec verification of the given JAR snapshot, including the
+     * enabled verifications of the packages of its classes, of its modules
+     * and of its package headers.
+     * The spec artifact is not changed.
+     * @param jarSnapshot the JAR snapshot to verify
+     */
+    public void verify(final JarSnapshot jarSnapshot) {
+        this.snapshot = jarSnapshot;
+        this.metadata = jarSnapshot.getMetadata();
+        verify();
+    }
 
     /**
      * Perform the Spec verification.
      */
+    public void verify() {
+        this.errors.clear();
+        this.truncated = false;
+        verifyAll();
+        if (maxErrors > 0 && errors.size() > maxErrors) {
+            errors.subList(maxErrors, errors.size()).clear();
+            truncated = true;
+        }
+        if (truncated) {
+            errors.add(String.format(
+                    "WARNING: too many errors, verification stopped after"
+                            + " %d errors",
+                    maxErrors));
+        }
+    }
+
+    /**
+     * Add an error found by the package, module or reference checks, unless
+     * the maximum number of errors is reached.
+     * @param error the error to add
+     * @return {@code true} if added, {@code false} if the maximum number of
+     * errors is reached and the check should stop
+     */
+    private boolean addError(final String error) {
+        if (maxErrors > 0 && errors.size() >= maxErrors) {
+            truncated = true;
+            return false;
+        }
+        errors.add(error);
+        return true;
+    }
+
+    /**
+     * Perform all the verifications.
+     */
     @SuppressWarnings({
         "checkstyle:MethodLength",
         "checkstyle:LineLength"
     })
-    public void verify() {
-        this.errors.clear();
-        this.errors.addAll(getMetadata().getErrors());
+    private void verifyAll() {
+        // the metadata computed from the configuration has no errors and
+        // requires the configuration verified below
+        if (metadata != null) {
+            this.errors.addAll(metadata.getErrors());
+        }
 
         StringBuilder configIssues = new StringBuilder();
         if (specVersion == null || specVersion.isEmpty()) {
@@ -364,7 +831,9 @@ public class Spec {
                         specVersion));
             }
 
-            // TODO check BundleSpecVersion == JarSpec
+            if (checkBundleSpecVersion) {
+                verifyBundleSpecVersion();
+            }
         } else {
 
             // verify Bundle-Version
@@ -394,7 +863,9 @@ public class Spec {
                         expectedJarSpecVersion));
             }
 
-            // TODO check BundleSpecVersion == JarSpec (with no b)
+            if (checkBundleSpecVersion) {
+                verifyBundleSpecVersion();
+            }
         }
 
         if (jarType.equals(JarType.api)) {
@@ -428,8 +899,8 @@ public class Spec {
                         symbolicName));
             }
 
-            if (jar != null) {
-                checkClasses(jar, apiPackage);
+            if (snapshot != null) {
+                checkSnapshot(snapshot);
             }
 
             if (nonFinal) {
@@ -510,8 +981,8 @@ public class Spec {
                         symbolicName));
             }
 
-            if (jar != null) {
-                checkClasses(jar, apiPackage, implNamespace);
+            if (snapshot != null) {
+                checkSnapshot(snapshot);
             }
 
             if (nonFinal) {
@@ -671,6 +1142,84 @@ public class Spec {
         }
     }
 
+    /**
+     * Get the API package of this spec.
+     * @return the API package, may be {@code null}
+     */
+    public String getApiPackage() {
+        return apiPackage;
+    }
+
+    /**
+     * Set the packages that API classes may reference in addition to the
+     * platform packages, i.e. {@code java}, {@code javax}, {@code jakarta}
+     * and the other packages of the Java SE API.
+     * @param pkgs the allowed packages and their sub-packages, comma
+     * separated
+     */
+    public void setAllowedReferences(final String pkgs) {
+        this.allowedReferences = pkgs;
+    }
+
+    /**
+     * Set the maximum number of errors collected by a verification. The
+     * package, module and reference checks stop at the limit, the classes
+     * of a JAR snapshot with deferred references are not read past it. A
+     * warning that the verification stopped is added after the last error,
+     * it is not counted in the limit.
+     * @param max the maximum number of errors, unlimited if not positive
+     */
+    public void setMaxErrors(final int max) {
+        this.maxErrors = max;
+    }
+
+    /**
+     * Set whether the bundle spec version, i.e. the version of the
+     * {@code Export-Package} clause of the API package, is verified against
+     * the spec version, or the JAR specification version of non-final specs.
+     * Not verified by default, or if the API package is not exported.
+     * @param check {@code true} to verify the bundle spec version
+     */
+    public void setCheckBundleSpecVersion(final boolean check) {
+        this.checkBundleSpecVersion = check;
+    }
+
+    /**
+     * Set whether the classes of the JAR snapshot, including the versioned
+     * classes of multi-release JAR files, must be in the API package, or the
+     * implementation namespace, or their sub-packages.
+     * Verified by default.
+     * @param check {@code true} to verify the packages of the classes
+     */
+    public void setCheckPackages(final boolean check) {
+        this.checkPackages = check;
+    }
+
+    /**
+     * Set whether the module descriptors and the automatic module name of
+     * the JAR snapshot are verified: the module name of an {@code api} JAR
+     * file must be the API package, the exported packages must be in the
+     * JAR file and the API package must be exported.
+     * Not verified by default.
+     * @param check {@code true} to verify the modules
+     */
+    public void setCheckModules(final boolean check) {
+        this.checkModules = check;
+    }
+
+    /**
+     * Set whether the OSGi package headers of the JAR snapshot are verified:
+     * the exported packages must be in the JAR file, the exported API
+     * sub-packages must have the bundle spec version and the version ranges
+     * of the imported packages of the other specs must be bounded and within
+     * one major version.
+     * Not verified by default.
+     * @param check {@code true} to verify the package headers
+     */
+    public void setCheckPackageHeaders(final boolean check) {
+        this.checkPackageHeaders = check;
+    }
+
     /**
      * Build bundle symbolic name from API package and API_SUFFIX.
      * @return bundle symbolic name value to be supplied
@@ -798,6 +1347,35 @@ public class Spec {
         this.metadata = mdata;
     }
 
+    /**
+     * Get a key identifying the configuration of this spec.
+     * Two specs with the same configuration key produce the same errors for
+     * the same artifact and metadata.
+     * @return the configuration key
+     */
+    public String getConfigurationKey() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(specMode).append('|')
+          .append(specVersion).append('|')
+          .append(newSpecVersion).append('|')
+          .append(specImplVersion).append('|')
+          .append(implVersion).append('|')
+          .append(newImplVersion).append('|')
+          .append(specBuild).append('|')
+          .append(implBuild).append('|')
+          .append(apiPackage).append('|')
+          .append(implNamespace).append('|')
+          .append(allowedReferences).append('|')
+          .append(maxErrors).append('|')
+          .append(checkBundleSpecVersion).append('|')
+          .append(checkPackages).append('|')
+          .append(checkModules).append('|')
+          .append(checkPackageHeaders).append('|')
+          .append(nonFinal).append('|')
+          .append(jarType);
+        return sb.toString();
+    }
+
     /**
      * Create a readable inline description of the spec.
      * @return the description as a string
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Contributors to the Eclipse Foundation. All rights reserved.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2013, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,18 +19,40 @@ package org.glassfish.spec.maven;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.jar.JarFile;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.codehaus.plexus.util.FileUtils;
 import org.glassfish.spec.Artifact;
-import org.glassfish.spec.Metadata;
+import org.glassfish.spec.JarReader;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.PackageMatcher;
 import org.glassfish.spec.Spec;
 
 /**
@@ -45,60 +67,742 @@ import org.glassfish.spec.Spec;
 public final class CheckDistributionMojo extends AbstractMojo {
 
     /**
-     * Include pattern.
+     * The number of bytes in a kilobyte.
+     */
+    private static final long KILOBYTE = 1024L;
+
+    /**
+     * The number of verifications submitted ahead per thread.
+     */
+    private static final int PENDING_PER_THREAD = 4;
+
+    /**
+     * Include patterns.
      */
     @Parameter(property = "includes", defaultValue = "javax*.jar")
-    private String includes;
+    private List<String> includes;
 
     /**
-     * Exclude pattern.
+     * Exclude patterns.
      */
     @Parameter(property = "excludes")
-    private String excludes;
+    private List<String> excludes;
+
+    /**
+     * Follow symbolic links to directories.
+     */
+    @Parameter(property = "followSymlinks", defaultValue = "false")
+    private boolean followSymlinks;
+
+    /**
+     * The maximum number of directory levels to search.
+     * Unlimited if not positive.
+     */
+    @Parameter(property = "maxDepth", defaultValue = "0")
+    private int maxDepth;
 
     /**
      * The directory containing the spec artifacts to process.
      */
-    @Parameter(property = "dir", required = true)
+    @Parameter(property = "dir")
     private File dir;
 
+    /**
+     * The archives (e.g. zip, war or ear files) containing the spec
+     * artifacts to process. The archive entries are selected with the
+     * include and exclude patterns and read in memory.
+     */
+    @Parameter(property = "archives")
+    private List<File> archives;
+
     /**
      * The specification configurations.
      */
     @Parameter(property = "specs", required = true)
     private List<Spec> specs;
 
+    /**
+     * Verify that the classes are in the allowed packages.
+     */
+    @Parameter(property = "checkPackages", defaultValue = "false")
+    private boolean checkPackages;
+
+    /**
+     * Verify the module descriptors, including the versioned ones, and the
+     * automatic module name: the module name of an API JAR file must be the
+     * API package, the exported packages must be in the JAR file and the API
+     * package must be exported.
+     */
+    @Parameter(property = "checkModules", defaultValue = "false")
+    private boolean checkModules;
+
+    /**
+     * Verify the OSGi package headers: the exported packages must be in the
+     * JAR file, the exported API sub-packages must have the bundle spec
+     * version and the version ranges of the imported packages of the other
+     * specs must be bounded and within one major version.
+     */
+    @Parameter(property = "checkPackageHeaders", defaultValue = "false")
+    private boolean checkPackageHeaders;
+
+    /**
+     * Verify that the classes of the API packages only reference the
+     * platform packages, the allowed references of their spec and the
+     * packages of their JAR file outside of the implementation namespace.
+     */
+    @Parameter(property = "checkReferences", defaultValue = "false")
+    private boolean checkReferences;
+
+    /**
+     * Verify that the version of the {@code Export-Package} clause of the
+     * API package is the spec version, or the JAR specification version of
+     * non-final specs. Not verified if the API package is not exported.
+     */
+    @Parameter(property = "checkBundleSpecVersion", defaultValue = "false")
+    private boolean checkBundleSpecVersion;
+
+    /**
+     * Verify that no package is found in more than one artifact.
+     * The packages of all the verified artifacts are indexed, with shards
+     * the verification is deferred to the {@code merge-distribution} goal.
+     */
+    @Parameter(property = "checkSplitPackages", defaultValue = "false")
+    private boolean checkSplitPackages;
+
+    /**
+     * Verify that no class is found in more than one artifact, the copies
+     * are compared with the CRC-32 of the JAR entries. With shards, the
+     * verification is deferred to the {@code merge-distribution} goal.
+     */
+    @Parameter(property = "checkDuplicateClasses", defaultValue = "false")
+    private boolean checkDuplicateClasses;
+
     /**
      * Fail on distribution errors.
      */
     @Parameter(property = "failOnSpecCheckDistributionErrors", defaultValue = "false")
     private boolean failOnSpecCheckDistributionErrors;
 
+    /**
+     * Stop at the first artifact with errors and fail, the remaining
+     * artifacts are not verified.
+     */
+    @Parameter(property = "failFast", defaultValue = "false")
+    private boolean failFast;
+
+    /**
+     * The maximum number of errors reported per artifact, the package,
+     * module and reference checks stop at the limit.
+     * Unlimited if not positive.
+     */
+    @Parameter(property = "maxErrors", defaultValue = "0")
+    private int maxErrors;
+
+    /**
+     * The number of artifacts to verify concurrently.
+     * Defaults to the number of available processors if not positive.
+     */
+    @Parameter(property = "threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * The index of the shard to verify, from {@code 0} to
+     * {@code shardCount - 1}.
+     */
+    @Parameter(property = "shardIndex", defaultValue = "0")
+    private int shardIndex;
+
+    /**
+     * The number of shards the artifacts are split into.
+     */
+    @Parameter(property = "shardCount", defaultValue = "1")
+    private int shardCount;
+
+    /**
+     * The JSON Lines report file, one line per verified artifact.
+     * It is the partial result merged by the {@code merge-distribution}
+     * goal when the artifacts are split into shards.
+     */
+    @Parameter(property = "jsonLinesReport")
+    private File jsonLinesReport;
+
+    /**
+     * The JUnit XML report file, one test case per verified artifact.
+     */
+    @Parameter(property = "junitReport")
+    private File junitReport;
+
+    /**
+     * The directory of the persistent result cache.
+     * Results are not cached if not set.
+     */
+    @Parameter(property = "cacheDirectory")
+    private File cacheDirectory;
+
+    /**
+     * The maximum age in days of the result cache entries.
+     */
+    @Parameter(property = "cacheMaxAge", defaultValue = "30")
+    private int cacheMaxAge;
+
+    /**
+     * The maximum size in kilobytes of the result cache.
+     */
+    @Parameter(property = "cacheMaxSize", defaultValue = "10240")
+    private long cacheMaxSize;
+
+    /**
+     * The maximum size in kilobytes of a compressed artifact nested in an
+     * archive, it is inflated in memory to be verified. Larger artifacts are
+     * skipped with a warning. Stored artifacts are read in place, whatever
+     * their size.
+     */
+    @Parameter(property = "nestedMaxSize", defaultValue = "65536")
+    private long nestedMaxSize;
+
+    /**
+     * The plugin descriptor.
+     */
+    @Parameter(defaultValue = "${plugin}", required = true, readonly = true)
+    private PluginDescriptor plugin;
+
+    /**
+     * The result cache, {@code null} if disabled.
+     */
+    private ResultCache cache;
+
+    /**
+     * The API packages of all the specs, {@code null} if the references are
+     * not verified.
+     */
+    private PackageMatcher apiPackages;
+
+    /**
+     * The packages of the reported artifacts, {@code null} if the split
+     * packages are not verified.
+     */
+    private PackageIndex packageIndex;
+
+    /**
+     * The classes of the reported artifacts, {@code null} if the duplicate
+     * classes are not verified.
+     */
+    private ClassIndex classIndex;
+
+    /**
+     * The specification configurations indexed by artifact.
+     */
+    private final Map<Artifact, Spec> specsByArtifact = new HashMap<>();
+
+    /**
+     * The specification configurations without artifact version, indexed by
+     * {@code groupId:artifactId}.
+     */
+    private final Map<String, Spec> specsByName = new HashMap<>();
+
+    /**
+     * Index the specification configurations.
+     * The first configuration wins if several match the same artifact.
+     */
+    private void indexSpecs() {
+        specsByArtifact.clear();
+        specsByName.clear();
+        Set<String> pkgs = new LinkedHashSet<>();
+        for (Spec s : specs) {
+            // compiled before any copy is made by the verification threads
+            s.compileAllowedPackages();
+            if (s.getApiPackage() != null) {
+                pkgs.add(s.getApiPackage());
+            }
+            Artifact a = s.getArtifact();
+            if (a == null) {
+                continue;
+            }
+            if (a.getVersion() != null) {
+                specsByArtifact.putIfAbsent(a, s);
+            } else {
+                specsByName.putIfAbsent(
+                        a.getGroupId() + ':' + a.getArtifactId(), s);
+            }
+        }
+        // the references are only collected for the API packages
+        apiPackages = checkReferences && !pkgs.isEmpty()
+                ? PackageMatcher.of(pkgs.toArray(new String[0])) : null;
+    }
+
+    /**
+     * Find the specification configuration for the given artifact.
+     * A configuration with a matching version is preferred over one without
+     * version.
+     * @param a the artifact to match
+     * @return the spec configuration, or {@code null} if not found
+     */
+    private Spec findSpec(final Artifact a) {
+        Spec s = specsByArtifact.get(a);
+        if (s == null) {
+            s = specsByName.get(a.getGroupId() + ':' + a.getArtifactId());
+        }
+        return s;
+    }
+
+    /**
+     * Compute the fingerprint of the specification configuration used to
+     * verify the given artifact.
+     * @param a the artifact
+     * @return the fingerprint
+     */
+    private String fingerprint(final Artifact a) {
+        Spec s = findSpec(a);
+        if (s == null) {
+            s = new Spec();
+        }
+        return cache.fingerprint(s.getConfigurationKey() + '|' + a + '|'
+                + checkPackages + '|' + checkModules + '|'
+                + checkPackageHeaders + '|'
+                + checkReferences + '|'
+                + checkBundleSpecVersion + '|'
+                + checkSplitPackages + '|' + checkDuplicateClasses + '|'
+                + maxErrors);
+    }
+
+    /**
+     * Compute the string identifying the verification rules in the cache
+     * fingerprints, the plugin coordinates and the digest of the plugin JAR
+     * file. The digest invalidates the results of a {@code SNAPSHOT} plugin
+     * when it is rebuilt.
+     * @return the string
+     * @throws IOException if an error occurs while reading the plugin JAR
+     */
+    private String cacheSalt() throws IOException {
+        StringBuilder sb = new StringBuilder(plugin.getId());
+        org.apache.maven.artifact.Artifact pluginArtifact =
+                plugin.getPluginArtifact();
+        File file = pluginArtifact != null ? pluginArtifact.getFile() : null;
+        if (file != null && file.isFile()) {
+            sb.append('|').append(ResultCache.digest(file));
+        } else if (file != null) {
+            // classes directory of a reactor build
+            sb.append('|').append(file.lastModified());
+        }
+        return sb.toString();
+    }
+
     /**
      * Find or create the specification configuration for the given artifact.
+     * The returned spec is a copy of the matching configuration, it is safe
+     * to use it concurrently with other artifacts.
      * @param file the artifact file to match
+     * @param snapshot the snapshot of the artifact file
      * @return the spec configuration
+     * @throws IOException if the artifact file has no {@code pom.properties}
+     */
+    private Spec getSpec(final File file, final JarSnapshot snapshot)
+            throws IOException {
+
+        Artifact a = snapshot.getArtifact();
+        if (a == null) {
+            throw new IOException(
+                    "unable to find pom.properties "
+                    + "files inside " + file);
+        }
+        Spec config = findSpec(a);
+        Spec spec;
+        if (config != null) {
+            spec = new Spec(config);
+            if (config.getArtifact().getVersion() == null) {
+                spec.setArtifact(a);
+            }
+        } else {
+            spec = new Spec();
+            spec.setArtifact(a);
+        }
+        if (maxErrors > 0) {
+            spec.setMaxErrors(maxErrors);
+        }
+        spec.setCheckBundleSpecVersion(checkBundleSpecVersion);
+        spec.setCheckPackages(checkPackages);
+        spec.setCheckModules(checkModules);
+        spec.setCheckPackageHeaders(checkPackageHeaders);
+        spec.setMetadata(snapshot.getMetadata());
+        return spec;
+    }
+
+    /**
+     * Get the cached result for the given artifact file.
+     * @param key the cache key of the artifact file, {@code null} if the
+     * cache is disabled
+     * @param file the artifact file
+     * @return the cached result, or {@code null} if not found
+     */
+    private VerificationResult cached(final String key, final File file) {
+        if (key == null) {
+            return null;
+        }
+        VerificationResult result = cache.get(key, file, this::fingerprint);
+        if (result != null) {
+            getLog().debug("Replaying cached result of " + file);
+        }
+        return result;
+    }
+
+    /**
+     * Verify the given artifact file, or replay the cached result if the
+     * file has already been verified with the same configuration.
+     * @param file the artifact file to verify
+     * @return the verification result
      * @throws IOException if an error occurs while reading the JAR file entries
      */
-    private Spec getSpec(final File file) throws IOException {
-        try (JarFile jar = new JarFile(file)) {
-            Artifact a = Artifact.fromJar(jar);
-            for (Spec s : specs) {
-                if (s.getArtifact().equals(a)) {
-                    s.setMetadata(Metadata.fromJar(jar));
-                    return s;
+    private VerificationResult verify(final File file) throws IOException {
+        String key = cache != null ? cache.key(file) : null;
+        VerificationResult result = cached(key, file);
+        if (result != null) {
+            return result;
+        }
+        // the reader stays open while verifying, to read the API classes
+        // only if the error limit is not reached
+        try (JarReader jar = JarReader.open(file)) {
+            return verify(file, key, JarSnapshot.of(jar, apiPackages,
+                    checkDuplicateClasses, true));
+        } catch (ZipException ex) {
+            // not supported by JarReader
+            return verify(file, key,
+                    JarSnapshot.of(file, apiPackages, checkDuplicateClasses));
+        }
+    }
+
+    /**
+     * Verify an artifact nested in an archive, or replay the cached result
+     * if the same artifact has already been verified with the same
+     * configuration. A stored artifact is read in place, a compressed
+     * artifact is inflated in memory if it is not larger than
+     * {@link #nestedMaxSize}.
+     * @param archive the archive
+     * @param entry the archive entry of the artifact to verify
+     * @return the verification result
+     * @throws IOException if an error occurs while reading the archive, or
+     * if the compressed artifact is too large
+     */
+    private VerificationResult verify(final JarReader archive,
+            final JarReader.Entry entry) throws IOException {
+
+        File file = new File(archive.getName() + JarReader.NESTED_SEPARATOR
+                + entry.getName());
+        byte[] bytes = null;
+        String key = null;
+        if (entry.getMethod() == JarReader.STORED) {
+            if (cache != null) {
+                try (InputStream is = archive.getInputStream(entry)) {
+                    key = cache.key(is);
                 }
             }
-            Spec spec = new Spec();
-            spec.setArtifact(a);
-            spec.setMetadata(Metadata.fromJar(jar));
-            return spec;
+        } else {
+            if (entry.getSize() > nestedMaxSize * KILOBYTE) {
+                throw new IOException(String.format(
+                        "%s is not verified, its size (%d bytes) exceeds"
+                                + " nestedMaxSize",
+                        file, entry.getSize()));
+            }
+            bytes = archive.read(entry);
+            key = cache != null ? cache.key(bytes) : null;
+        }
+        VerificationResult result = cached(key, file);
+        if (result != null) {
+            return result;
+        }
+        try (JarReader jar = bytes != null
+                ? JarReader.open(file.getPath(), bytes)
+                : archive.open(entry)) {
+            return verify(file, key, JarSnapshot.of(jar, apiPackages,
+                    checkDuplicateClasses, true));
+        }
+    }
+
+    /**
+     * Verify an artifact and cache the result.
+     * @param file the artifact file
+     * @param key the cache key of the artifact file, {@code null} if the
+     * cache is disabled
+     * @param snapshot the snapshot of the artifact file
+     * @return the verification result
+     * @throws IOException if the artifact file has no {@code pom.properties}
+     */
+    private VerificationResult verify(final File file, final String key,
+            final JarSnapshot snapshot) throws IOException {
+
+        Spec spec = getSpec(file, snapshot);
+        try {
+            // the references of the API classes are read here
+            spec.verify(snapshot);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        Set<String> pkgs = checkSplitPackages
+                ? snapshot.getPackages() : Collections.<String>emptySet();
+        VerificationResult result = new VerificationResult(file, spec, pkgs,
+                snapshot.getClassCrcs());
+        if (key != null) {
+            try {
+                cache.put(key, fingerprint(result.getArtifact()), result);
+            } catch (IOException ex) {
+                getLog().debug("Unable to cache result of " + file, ex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Report a verification result and index the packages and classes of
+     * the verified artifact.
+     * @param result the result to report
+     * @param reporter the reporter to use
+     * @return {@code true} if the result has errors, {@code false} otherwise
+     * @throws MojoExecutionException if an error occurs while reporting
+     */
+    private boolean report(final VerificationResult result,
+            final Reporter reporter) throws MojoExecutionException {
+
+        try {
+            reporter.report(result);
+        } catch (IOException ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        }
+        if (packageIndex != null) {
+            packageIndex.add(result.getFile().getPath(),
+                    result.getPackages());
+        }
+        if (classIndex != null) {
+            classIndex.add(result.getFile().getPath(),
+                    result.getClassCrcs());
+        }
+        return !result.getErrors().isEmpty();
+    }
+
+    /**
+     * Log the errors found across the distribution.
+     * @param errors the errors to log
+     * @return {@code true} if there are errors, {@code false} otherwise
+     */
+    private boolean log(final List<String> errors) {
+        for (String error : errors) {
+            if (error.startsWith("WARNING")) {
+                getLog().warn(error);
+            } else {
+                getLog().error(error);
+            }
+        }
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Wait for the result of a verification task.
+     * @param future the task
+     * @return the verification result, or {@code null} if the artifact file
+     * could not be read
+     * @throws MojoExecutionException if the verification failed or was
+     * interrupted
+     */
+    private VerificationResult await(final Future<VerificationResult> future)
+            throws MojoExecutionException {
+
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                getLog().warn(cause.getMessage(), cause);
+                return null;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new MojoExecutionException(cause.getMessage(), cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Run a verification task.
+     * @param task the task
+     * @return the verification result, or {@code null} if the artifact file
+     * could not be read
+     * @throws MojoExecutionException if the verification failed
+     */
+    private VerificationResult call(final Callable<VerificationResult> task)
+            throws MojoExecutionException {
+
+        try {
+            return task.call();
+        } catch (IOException ex) {
+            getLog().warn(ex.getMessage(), ex);
+            return null;
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Run the given verification tasks, concurrently if more than one thread
+     * is configured, and report the results in the order of the given tasks.
+     *
+     * <p>
+     * Only a few verifications per thread are submitted ahead of the
+     * reported result, the number of results held in memory does not depend
+     * on the number of tasks. The tasks are pulled from the iterator as
+     * verifications complete, a lazy iterator can discover them while the
+     * previous ones are being verified.
+     *
+     * <p>
+     * With {@code failFast}, no task is pulled after the first result with
+     * errors and the pending verifications are cancelled.
+     * @param tasks the verification tasks
+     * @param reporter the reporter to use
+     * @return {@code true} if any artifact has errors, {@code false}
+     * otherwise
+     * @throws MojoExecutionException if the verification is interrupted or
+     * if an error occurs while reporting
+     */
+    private boolean verifyAll(
+            final Iterator<Callable<VerificationResult>> tasks,
+            final Reporter reporter) throws MojoExecutionException {
+
+        int nThreads = threads > 0
+                ? threads : Runtime.getRuntime().availableProcessors();
+        boolean anyErrors = false;
+        if (nThreads <= 1) {
+            while (tasks.hasNext() && !(anyErrors && failFast)) {
+                VerificationResult result = call(tasks.next());
+                if (result != null) {
+                    anyErrors |= report(result, reporter);
+                }
+            }
+            return anyErrors;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            int window = nThreads * PENDING_PER_THREAD;
+            Deque<Future<VerificationResult>> pending = new ArrayDeque<>();
+            while ((tasks.hasNext() || !pending.isEmpty())
+                    && !(anyErrors && failFast)) {
+                while (tasks.hasNext() && pending.size() < window) {
+                    pending.add(executor.submit(tasks.next()));
+                }
+                VerificationResult result = await(pending.poll());
+                if (result != null) {
+                    anyErrors |= report(result, reporter);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return anyErrors;
+    }
+
+    /**
+     * Test if an artifact belongs to the shard to verify.
+     * The shard is derived from the path so that all the shards agree
+     * without coordination, whatever the root directory.
+     * @param path the path of the artifact relative to the directory or
+     * archive root, separated with {@code /}
+     * @return {@code true} if the artifact belongs to the shard,
+     * {@code false} otherwise
+     */
+    private boolean inShard(final String path) {
+        if (shardCount <= 1) {
+            return true;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(path.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue() % shardCount == shardIndex;
+    }
+
+    /**
+     * Test if a discovered artifact file is selected by the patterns and
+     * belongs to the shard to verify.
+     * @param patterns the patterns selecting the files
+     * @param path the path of the file relative to the directory
+     * @return {@code true} if selected, {@code false} otherwise
+     */
+    private boolean accept(final PathPatterns patterns, final Path path) {
+        if (!patterns.matches(path)) {
+            return false;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Path name : path) {
+            if (sb.length() > 0) {
+                sb.append('/');
+            }
+            sb.append(name);
+        }
+        return inShard(sb.toString());
+    }
+
+    /**
+     * Create the verification tasks for the artifacts nested in an archive,
+     * in entry name order.
+     * @param archive the archive
+     * @param patterns the patterns selecting the archive entries
+     * @param tasks the list to add the tasks to
+     */
+    private void addNestedTasks(final JarReader archive,
+            final PathPatterns patterns,
+            final List<Callable<VerificationResult>> tasks) {
+
+        List<JarReader.Entry> entries = new ArrayList<>();
+        for (JarReader.Entry e : archive.getEntries()) {
+            if (!e.isDirectory() && patterns.matches(e.getName())
+                    && inShard(e.getName())) {
+                entries.add(e);
+            }
+        }
+        Collections.sort(entries,
+                Comparator.comparing(JarReader.Entry::getName));
+        for (final JarReader.Entry e : entries) {
+            tasks.add(() -> verify(archive, e));
         }
     }
 
+    /**
+     * Create the verification tasks for the discovered artifact files,
+     * followed by the given tasks.
+     * @param files the artifact files
+     * @param nested the verification tasks of the artifacts nested in
+     * archives
+     * @return the tasks
+     */
+    private Iterator<Callable<VerificationResult>> tasks(
+            final Iterator<Path> files,
+            final List<Callable<VerificationResult>> nested) {
+
+        final Iterator<Callable<VerificationResult>> nestedIt =
+                nested.iterator();
+        return new Iterator<Callable<VerificationResult>>() {
+            @Override
+            public boolean hasNext() {
+                return files.hasNext() || nestedIt.hasNext();
+            }
+
+            @Override
+            public Callable<VerificationResult> next() {
+                if (files.hasNext()) {
+                    final File jar = files.next().toFile();
+                    return () -> verify(jar);
+                }
+                return nestedIt.next();
+            }
+        };
+    }
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        if (!dir.exists()) {
+        if (dir == null && (archives == null || archives.isEmpty())) {
+            throw new MojoFailureException(
+                    "either dir or archives must be configured");
+        }
+        if (dir != null && !dir.exists()) {
             String msg = String.format(
                     "directory (%s) does not exist",
                     dir.getAbsolutePath());
@@ -106,42 +810,94 @@ public final class CheckDistributionMojo extends AbstractMojo {
             throw new MojoFailureException(msg);
         }
 
-        List<File> jars = Collections.EMPTY_LIST;
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new MojoFailureException(String.format(
+                    "invalid shard %d of %d", shardIndex, shardCount));
+        }
+        if (shardCount > 1 && jsonLinesReport == null) {
+            getLog().warn("jsonLinesReport is not set, the results of shard "
+                    + shardIndex + " cannot be merged");
+        }
+        final PathPatterns patterns;
         try {
-            jars = FileUtils.getFiles(dir, includes, excludes);
+            patterns = new PathPatterns(includes, excludes);
+        } catch (IllegalArgumentException ex) {
+            throw new MojoFailureException(ex.getMessage(), ex);
+        }
+        indexSpecs();
+        packageIndex = checkSplitPackages && shardCount == 1
+                ? new PackageIndex() : null;
+        classIndex = checkDuplicateClasses && shardCount == 1
+                ? new ClassIndex() : null;
+        if (cacheDirectory != null) {
+            try {
+                cache = new ResultCache(cacheDirectory, cacheSalt());
+            } catch (IOException ex) {
+                throw new MojoExecutionException(ex.getMessage(), ex);
+            }
+        }
+
+        boolean anyJarWithErrors;
+        List<JarReader> readers = new ArrayList<>();
+        try (Reporter reporter = CompositeReporter.create(jsonLinesReport,
+                junitReport, "spec-version.check-distribution")) {
+            List<Callable<VerificationResult>> nested = new ArrayList<>();
+            if (archives != null) {
+                for (File archive : archives) {
+                    JarReader reader = JarReader.open(archive);
+                    readers.add(reader);
+                    addNestedTasks(reader, patterns, nested);
+                }
+            }
+            // files are verified while the directory is being walked
+            Iterator<Path> files = Collections.emptyIterator();
+            if (dir != null) {
+                files = new FileDiscovery(dir.toPath(),
+                        p -> accept(patterns, p), followSymlinks, maxDepth);
+            }
+            anyJarWithErrors = verifyAll(tasks(files, nested), reporter);
         } catch (IOException ex) {
             throw new MojoExecutionException(ex.getMessage(), ex);
+        } catch (UncheckedIOException ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex.getCause());
+        } finally {
+            for (JarReader reader : readers) {
+                try {
+                    reader.close();
+                } catch (IOException ex) {
+                    getLog().debug("Unable to close " + reader.getName(), ex);
+                }
+            }
         }
-
-        boolean anyJarWithErrors = false;
-        for (File jar : jars) {
+        if (cache != null) {
             try {
-                Spec spec = getSpec(jar);
-                spec.verify();
-
-                if (!spec.getErrors().isEmpty()) {
-                    anyJarWithErrors = true;
-                    System.out.println("");
-                    System.out.println(spec.getArtifact().toString());
-                    String specDesc = spec.toString();
-                    if (!specDesc.isEmpty()) {
-                        System.out.println(spec.toString());
-                    }
-                    for (int i = 0; i < spec.getErrors().size(); i++) {
-                        System.out.println(new StringBuilder()
-                                .append('-')
-                                .append(' ')
-                                .append(spec.getErrors().get(i))
-                                .toString());
-                    }
-                    System.out.println("");
-                }
+                int evicted = cache.evict(
+                        TimeUnit.DAYS.toMillis(cacheMaxAge),
+                        cacheMaxSize * KILOBYTE);
+                getLog().debug("Evicted " + evicted + " cached results");
             } catch (IOException ex) {
-                getLog().warn(ex.getMessage(), ex);
+                getLog().warn("Unable to evict cached results", ex);
             }
         }
+        if (anyJarWithErrors && failFast) {
+            throw new MojoFailureException(
+                    "Found spec errors, verification stopped.");
+        }
+        if (packageIndex != null) {
+            anyJarWithErrors |= log(packageIndex.getErrors());
+            getLog().debug("Indexed " + packageIndex.size() + " packages");
+        }
+        if (classIndex != null) {
+            anyJarWithErrors |= log(classIndex.getErrors());
+            getLog().debug("Indexed " + classIndex.size() + " classes");
+        }
         if (anyJarWithErrors && failOnSpecCheckDistributionErrors) {
-            throw new MojoFailureException("Found spec errors.");
+            if (shardCount > 1) {
+                getLog().info("Found spec errors in shard " + shardIndex
+                        + ", failure deferred to merge-distribution");
+            } else {
+                throw new MojoFailureException("Found spec errors.");
+            }
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation. All rights reserved.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,7 +19,6 @@ package org.glassfish.spec.maven;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.jar.JarFile;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -28,7 +27,8 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.glassfish.spec.Artifact;
-import org.glassfish.spec.Metadata;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.PackageMatcher;
 import org.glassfish.spec.Spec;
 
 /**
@@ -65,6 +65,66 @@ public final class CheckModuleMojo extends AbstractMojo {
     @Parameter(property = "specMode", defaultValue = "jakarta")
     private String specMode;
 
+    /**
+     * Verify that the classes are in the allowed packages.
+     */
+    @Parameter(property = "checkPackages", defaultValue = "false")
+    private boolean checkPackages;
+
+    /**
+     * Verify the module descriptors, including the versioned ones, and the
+     * automatic module name: the module name of an API JAR file must be the
+     * API package, the exported packages must be in the JAR file and the API
+     * package must be exported.
+     */
+    @Parameter(property = "checkModules", defaultValue = "false")
+    private boolean checkModules;
+
+    /**
+     * Verify the OSGi package headers: the exported packages must be in the
+     * JAR file, the exported API sub-packages must have the bundle spec
+     * version and the version ranges of the imported packages of the other
+     * specs must be bounded and within one major version.
+     */
+    @Parameter(property = "checkPackageHeaders", defaultValue = "false")
+    private boolean checkPackageHeaders;
+
+    /**
+     * Verify that the classes of the API package only reference the platform
+     * packages, the allowed references of the spec and the packages of the
+     * JAR file outside of the implementation namespace.
+     */
+    @Parameter(property = "checkReferences", defaultValue = "false")
+    private boolean checkReferences;
+
+    /**
+     * Verify that the version of the {@code Export-Package} clause of the
+     * API package is the spec version, or the JAR specification version of
+     * non-final specs. Not verified if the API package is not exported.
+     */
+    @Parameter(property = "checkBundleSpecVersion", defaultValue = "false")
+    private boolean checkBundleSpecVersion;
+
+    /**
+     * The maximum number of errors reported for the module, the package,
+     * module and reference checks stop at the limit.
+     * Unlimited if not positive.
+     */
+    @Parameter(property = "maxErrors", defaultValue = "0")
+    private int maxErrors;
+
+    /**
+     * The JSON Lines report file.
+     */
+    @Parameter(property = "jsonLinesReport")
+    private File jsonLinesReport;
+
+    /**
+     * The JUnit XML report file.
+     */
+    @Parameter(property = "junitReport")
+    private File junitReport;
+
     /**
      * Spec.
      */
@@ -86,33 +146,32 @@ public final class CheckModuleMojo extends AbstractMojo {
             }
 
             spec.setSpecMode(specMode);
+            if (maxErrors > 0) {
+                spec.setMaxErrors(maxErrors);
+            }
+            spec.setCheckBundleSpecVersion(checkBundleSpecVersion);
+            spec.setCheckPackages(checkPackages);
+            spec.setCheckModules(checkModules);
+            spec.setCheckPackageHeaders(checkPackageHeaders);
             spec.setArtifact(new Artifact(
                     project.getGroupId(),
                     project.getArtifactId(),
                     project.getVersion()));
-            try (JarFile jar = new JarFile(module)) {
-                spec.setMetadata(Metadata.fromJar(jar));
+            // the packages are collected while reading the metadata
+            // and the references while reading the API classes
+            PackageMatcher referencesFrom = checkReferences
+                    && spec.getApiPackage() != null
+                    ? PackageMatcher.of(spec.getApiPackage()) : null;
+            JarSnapshot snapshot = JarSnapshot.of(module, referencesFrom);
+            spec.setMetadata(snapshot.getMetadata());
+            spec.verify(snapshot);
+
+            try (Reporter reporter = CompositeReporter.create(jsonLinesReport,
+                    junitReport, "spec-version.check-module")) {
+                reporter.report(new VerificationResult(module, spec));
             }
-            spec.verify();
-
-            if (!spec.getErrors().isEmpty()) {
-                System.out.println("");
-                System.out.println(spec.getArtifact().toString());
-                String specDesc = spec.toString();
-                if (!specDesc.isEmpty()) {
-                    System.out.println(spec.toString());
-                }
-                for (int i = 0; i < spec.getErrors().size(); i++) {
-                    System.out.println(new StringBuilder()
-                            .append('-')
-                            .append(' ')
-                            .append(spec.getErrors().get(i))
-                            .toString());
-                }
-                System.out.println("");
-                if (!ignoreErrors) {
-                    throw new MojoFailureException("spec verification failed.");
-                }
+            if (!spec.getErrors().isEmpty() && !ignoreErrors) {
+                throw new MojoFailureException("spec verification failed.");
             }
         } catch (IOException ex) {
             throw new MojoExecutionException(ex.getMessage(), ex);
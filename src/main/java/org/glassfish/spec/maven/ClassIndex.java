@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index of the classes of all the artifacts of a distribution, used to
+ * find the classes found in several artifacts and whether their copies
+ * differ.
+ *
+ * <p>
+ * The copies are compared with the CRC-32 recorded in the central directory
+ * of the JAR files, nothing is inflated. The name of each artifact is stored
+ * once, each class maps to its first artifact and CRC-32 packed in a
+ * {@code long}, only the duplicate classes hold an array.
+ */
+final class ClassIndex {
+
+    /**
+     * The file extension of class entries.
+     */
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * The number of bits of a CRC-32.
+     */
+    private static final int CRC_BITS = 32;
+
+    /**
+     * The mask of the CRC-32 in a packed value.
+     */
+    private static final long CRC_MASK = 0xffffffffL;
+
+    /**
+     * The artifact names, in the order they were added.
+     */
+    private final List<String> artifacts = new ArrayList<>();
+
+    /**
+     * The artifact and CRC-32 of each class keyed by entry name, a
+     * {@link Long} for the classes of a single artifact, a {@code long[]}
+     * for the duplicate classes.
+     */
+    private final Map<String, Object> copies = new HashMap<>();
+
+    /**
+     * The number of duplicate classes.
+     */
+    private int duplicateCount;
+
+    /**
+     * Add the classes of an artifact.
+     * @param artifact the artifact name
+     * @param crcs the CRC-32 of the classes of the artifact keyed by entry
+     * name
+     */
+    void add(final String artifact, final Map<String, Long> crcs) {
+        if (crcs.isEmpty()) {
+            return;
+        }
+        long index = artifacts.size();
+        artifacts.add(artifact);
+        for (Map.Entry<String, Long> e : crcs.entrySet()) {
+            long copy = index << CRC_BITS | (e.getValue() & CRC_MASK);
+            Object previous = copies.putIfAbsent(e.getKey(), copy);
+            if (previous == null) {
+                continue;
+            }
+            long[] all;
+            if (previous instanceof Long) {
+                all = new long[] {(Long) previous, copy};
+                duplicateCount++;
+            } else {
+                long[] old = (long[]) previous;
+                all = Arrays.copyOf(old, old.length + 1);
+                all[old.length] = copy;
+            }
+            copies.put(e.getKey(), all);
+        }
+    }
+
+    /**
+     * Get the number of distinct classes.
+     * @return the number of classes
+     */
+    int size() {
+        return copies.size();
+    }
+
+    /**
+     * Get the errors describing the duplicate classes, the classes whose
+     * copies differ are errors, the identical copies are warnings.
+     * @return the errors, one per duplicate class in alphabetical order
+     */
+    List<String> getErrors() {
+        List<String> errors = new ArrayList<>();
+        if (duplicateCount == 0) {
+            return errors;
+        }
+        Map<String, long[]> duplicates = new TreeMap<>();
+        for (Map.Entry<String, Object> e : copies.entrySet()) {
+            if (e.getValue() instanceof long[]) {
+                duplicates.put(e.getKey(), (long[]) e.getValue());
+            }
+        }
+        for (Map.Entry<String, long[]> e : duplicates.entrySet()) {
+            long[] all = e.getValue();
+            boolean identical = true;
+            List<String> names = new ArrayList<>(all.length);
+            for (long copy : all) {
+                identical &= (copy & CRC_MASK) == (all[0] & CRC_MASK);
+                names.add(artifacts.get((int) (copy >>> CRC_BITS)));
+            }
+            String entryName = e.getKey();
+            String className = entryName.substring(0,
+                    entryName.length() - CLASS_SUFFIX.length())
+                    .replace('/', '.');
+            errors.add(String.format(identical
+                    ? "WARNING: class %s is duplicated in %s"
+                    : "ERROR: class %s has different copies in %s",
+                    className, String.join(", ", names)));
+        }
+        return errors;
+    }
+}
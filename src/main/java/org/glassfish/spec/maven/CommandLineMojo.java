@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Contributors to the Eclipse Foundation. All rights reserved.
+ * Copyright (c) 2022, 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2013, 2020 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,7 +23,6 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Properties;
-import java.util.jar.JarFile;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -224,17 +223,13 @@ public final class CommandLineMojo extends AbstractMojo {
                     specBuild = p.getProperty("SPEC_BUILD", specBuild);
                     newSpecVersion = p.getProperty("NEW_SPEC_VERSION", newSpecVersion);
                     apiJar = p.getProperty("API_JAR", apiJar);
-                    try (JarFile jar = new JarFile(apiJar)) {
-                        artifact = Artifact.fromJar(jar);
-                    }
+                    artifact = Artifact.fromFile(new File(apiJar));
                 } else {
                     implVersion = p.getProperty("IMPL_VERSION", implVersion);
                     implBuild = p.getProperty("IMPL_BUILD", implBuild);
                     newImplVersion = p.getProperty("NEW_IMPL_VERSION", newImplVersion);
                     implJar = p.getProperty("IMPL_JAR", implJar);
-                    try (JarFile jar = new JarFile(implJar)) {
-                        artifact = Artifact.fromJar(jar);
-                    }
+                    artifact = Artifact.fromFile(new File(implJar));
                 }
                 specVersion = p.getProperty("SPEC_VERSION", specVersion);
                 // really, any of the above 4
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link Reporter} dispatching the results to other reporters.
+ */
+final class CompositeReporter implements Reporter {
+
+    /**
+     * The reporters.
+     */
+    private final List<Reporter> reporters = new ArrayList<>();
+
+    /**
+     * Create a reporter printing to the console and writing the given
+     * report files.
+     * @param jsonLinesReport the JSON Lines report file, may be {@code null}
+     * @param junitReport the JUnit XML report file, may be {@code null}
+     * @param suiteName the JUnit test suite name
+     * @return the created reporter
+     * @throws IOException if an error occurs while creating the report files
+     */
+    static CompositeReporter create(final File jsonLinesReport,
+            final File junitReport, final String suiteName)
+            throws IOException {
+
+        CompositeReporter reporter = new CompositeReporter()
+                .add(new ConsoleReporter());
+        try {
+            if (jsonLinesReport != null) {
+                reporter.add(new JsonLinesReporter(jsonLinesReport));
+            }
+            if (junitReport != null) {
+                reporter.add(new JUnitReporter(junitReport, suiteName));
+            }
+        } catch (IOException ex) {
+            try {
+                reporter.close();
+            } catch (IOException suppressed) {
+                ex.addSuppressed(suppressed);
+            }
+            throw ex;
+        }
+        return reporter;
+    }
+
+    /**
+     * Add a reporter.
+     * @param reporter the reporter to add
+     * @return this reporter
+     */
+    CompositeReporter add(final Reporter reporter) {
+        reporters.add(reporter);
+        return this;
+    }
+
+    @Override
+    public void report(final VerificationResult result) throws IOException {
+        for (Reporter reporter : reporters) {
+            reporter.report(result);
+        }
+    }
+
+    /**
+     * Close all the reporters, even if closing one of them fails.
+     * @throws IOException the first error that occurred
+     */
+    @Override
+    public void close() throws IOException {
+        IOException error = null;
+        for (Reporter reporter : reporters) {
+            try {
+                reporter.close();
+            } catch (IOException ex) {
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * A {@link Reporter} printing the results with errors to a console stream.
+ */
+final class ConsoleReporter implements Reporter {
+
+    /**
+     * The line separator.
+     */
+    private static final String EOL = System.lineSeparator();
+
+    /**
+     * The buffered writer, flushed after each result so that the results
+     * are printed as they are reported, e.g. interleaved with the log.
+     */
+    private final Writer writer;
+
+    /**
+     * Create a new {@link ConsoleReporter} instance.
+     * @param out the stream to print to, it is not closed by this reporter
+     */
+    ConsoleReporter(final PrintStream out) {
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(out, Charset.defaultCharset()));
+    }
+
+    /**
+     * Create a new {@link ConsoleReporter} printing to the standard output.
+     */
+    ConsoleReporter() {
+        this(System.out);
+    }
+
+    @Override
+    public void report(final VerificationResult result) throws IOException {
+        List<String> errors = result.getErrors();
+        if (errors.isEmpty()) {
+            return;
+        }
+        writer.write(EOL);
+        writer.write(result.getArtifact().toString());
+        writer.write(EOL);
+        if (!result.getDescription().isEmpty()) {
+            writer.write(result.getDescription());
+            writer.write(EOL);
+        }
+        for (String error : errors) {
+            writer.write("- ");
+            writer.write(error);
+            writer.write(EOL);
+        }
+        writer.write(EOL);
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
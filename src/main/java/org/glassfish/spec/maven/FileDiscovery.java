@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Lazily walks a directory tree and iterates over the files accepted by a
+ * filter.
+ *
+ * <p>
+ * Directories are read when the iteration reaches them, so that the matched
+ * files can be processed while the rest of the tree is being walked. The
+ * entries of each directory are visited in name order, the iteration order
+ * is stable between runs.
+ *
+ * <p>
+ * {@link #hasNext()} and {@link #next()} throw {@link UncheckedIOException}
+ * if a directory cannot be read.
+ */
+final class FileDiscovery implements Iterator<Path> {
+
+    /**
+     * No link option, symbolic links are followed.
+     */
+    private static final LinkOption[] FOLLOW_LINKS = new LinkOption[0];
+
+    /**
+     * Symbolic links are not followed.
+     */
+    private static final LinkOption[] NOFOLLOW_LINKS = new LinkOption[] {
+        LinkOption.NOFOLLOW_LINKS,
+    };
+
+    /**
+     * The root directory.
+     */
+    private final Path root;
+
+    /**
+     * The filter of the paths relative to the root directory.
+     */
+    private final Predicate<Path> filter;
+
+    /**
+     * The link options used to read the file attributes.
+     */
+    private final LinkOption[] linkOptions;
+
+    /**
+     * The maximum number of directory levels to visit.
+     */
+    private final int maxDepth;
+
+    /**
+     * The directories being visited, the innermost first.
+     */
+    private final Deque<Directory> stack = new ArrayDeque<>();
+
+    /**
+     * The next matched file, {@code null} if not found yet.
+     */
+    private Path next;
+
+    /**
+     * A directory being visited.
+     */
+    private static final class Directory {
+
+        /**
+         * The remaining entries of the directory.
+         */
+        private final Iterator<Path> entries;
+
+        /**
+         * The file key of the directory, used to detect loops, may be
+         * {@code null}.
+         */
+        private final Object key;
+
+        /**
+         * Create a new {@link Directory} instance.
+         * @param es the entries of the directory, in visit order
+         * @param k the file key of the directory
+         */
+        Directory(final Iterator<Path> es, final Object k) {
+            this.entries = es;
+            this.key = k;
+        }
+    }
+
+    /**
+     * Create a new {@link FileDiscovery} instance.
+     * @param dir the root directory
+     * @param pathFilter the filter of the paths relative to the root
+     * directory
+     * @param followLinks {@code true} to follow symbolic links to directories
+     * @param depth the maximum number of directory levels to visit,
+     * unlimited if not positive
+     */
+    FileDiscovery(final Path dir, final Predicate<Path> pathFilter,
+            final boolean followLinks, final int depth) {
+
+        this.root = dir;
+        this.filter = pathFilter;
+        this.linkOptions = followLinks ? FOLLOW_LINKS : NOFOLLOW_LINKS;
+        this.maxDepth = depth > 0 ? depth : Integer.MAX_VALUE;
+        try {
+            enter(dir, Files.readAttributes(dir, BasicFileAttributes.class));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        try {
+            next = advance();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return next != null;
+    }
+
+    @Override
+    public Path next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Path path = next;
+        next = null;
+        return path;
+    }
+
+    /**
+     * Walk the tree until the next matching file.
+     * @return the matching file, or {@code null} if the walk is complete
+     * @throws IOException if an error occurs while reading a directory
+     */
+    private Path advance() throws IOException {
+        while (!stack.isEmpty()) {
+            Directory dir = stack.peek();
+            if (!dir.entries.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            Path path = dir.entries.next();
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(path, BasicFileAttributes.class,
+                        linkOptions);
+            } catch (NoSuchFileException ex) {
+                // deleted concurrently or broken symbolic link
+                continue;
+            }
+            if (attrs.isDirectory()) {
+                if (stack.size() < maxDepth && !isLoop(attrs.fileKey())) {
+                    enter(path, attrs);
+                }
+            } else if (filter.test(root.relativize(path))) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Test if a directory is already being visited, which can only happen
+     * when following symbolic links.
+     * @param key the file key of the directory, may be {@code null}
+     * @return {@code true} if a loop is detected, {@code false} otherwise
+     */
+    private boolean isLoop(final Object key) {
+        if (key == null) {
+            return false;
+        }
+        for (Directory dir : stack) {
+            if (key.equals(dir.key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the entries of a directory and push it on the stack.
+     * @param dir the directory
+     * @param attrs the directory attributes
+     * @throws IOException if an error occurs while reading the directory
+     */
+    private void enter(final Path dir, final BasicFileAttributes attrs)
+            throws IOException {
+
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+            for (Path p : ds) {
+                entries.add(p);
+            }
+        }
+        Collections.sort(entries);
+        stack.push(new Directory(entries.iterator(), attrs.fileKey()));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.Spec;
+
+/**
+ * Write the spec headers to a manifest file.
+ *
+ * <p>
+ * The headers are the expected values computed by the spec, see
+ * {@link Spec#getMetadata()}, the manifest can be used as the base manifest
+ * of the JAR file instead of setting the spec properties and deriving the
+ * headers from them. The file is only written if its content changes.
+ *
+ * <p>
+ * The spec configuration is verified first, like {@code check-module} does
+ * for the packaged module, the build fails before writing the file if the
+ * verification fails.
+ *
+ * <p>
+ * The default manifest file is outside of the output directory, the JAR and
+ * bundle plugins also write {@code META-INF/MANIFEST.MF} in the output
+ * directory and the last plugin to run would win.
+ */
+@Mojo(name = "generate-manifest",
+      requiresProject = true,
+      defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public final class GenerateManifestMojo extends AbstractMojo {
+
+    /**
+     * The maven project.
+     */
+    @Parameter(defaultValue = "${project}", required = true, readonly = true)
+    private MavenProject project;
+
+    /**
+     * Ignore failures.
+     */
+    @Parameter(property = "ignoreErrors", defaultValue = "false")
+    private boolean ignoreErrors;
+
+    /**
+     * Mode. Allowed values are "javaee", "jakarta"
+     */
+    @Parameter(property = "specMode", defaultValue = "jakarta")
+    private String specMode;
+
+    /**
+     * The manifest file to write.
+     */
+    @Parameter(property = "manifestFile",
+            defaultValue = "${project.build.directory}/spec-manifest/MANIFEST.MF")
+    private File manifestFile;
+
+    /**
+     * Merge the spec headers into the manifest file if it exists, the other
+     * headers and sections are kept. Otherwise the file only contains the
+     * spec headers.
+     */
+    @Parameter(property = "mergeManifest", defaultValue = "true")
+    private boolean mergeManifest;
+
+    /**
+     * The spec.
+     */
+    @Parameter(property = "spec", required = true)
+    private Spec spec;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        spec.setSpecMode(specMode);
+        spec.setArtifact(new Artifact(
+                project.getGroupId(),
+                project.getArtifactId(),
+                project.getVersion()));
+        spec.verify();
+        if (!spec.getErrors().isEmpty()) {
+            for (String error : spec.getErrors()) {
+                getLog().error(error);
+            }
+            if (!ignoreErrors) {
+                throw new MojoFailureException("spec verification failed.");
+            }
+        }
+        Metadata metadata = spec.getMetadata();
+
+        Path path = manifestFile.toPath();
+        try {
+            Manifest manifest = new Manifest();
+            if (mergeManifest && Files.isRegularFile(path)) {
+                try (InputStream is = Files.newInputStream(path)) {
+                    manifest.read(is);
+                }
+            }
+            Attributes main = manifest.getMainAttributes();
+            if (!main.containsKey(Attributes.Name.MANIFEST_VERSION)) {
+                main.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            }
+            getLog().info("");
+            getLog().info("-- spec headers --");
+            for (Map.Entry<String, String> e
+                    : metadata.getManifestAttributes().entrySet()) {
+                main.putValue(e.getKey(), e.getValue());
+                getLog().info(e.getKey() + ": " + e.getValue());
+            }
+            getLog().info("");
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            manifest.write(bos);
+            byte[] content = bos.toByteArray();
+            if (Files.isRegularFile(path)
+                    && Arrays.equals(content, Files.readAllBytes(path))) {
+                getLog().info(manifestFile + " is up to date");
+                return;
+            }
+            Path dir = path.toAbsolutePath().getParent();
+            if (dir != null) {
+                Files.createDirectories(dir);
+            }
+            Files.write(path, content);
+            getLog().info("Wrote " + manifestFile);
+        } catch (IOException ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.glassfish.spec.Artifact;
+
+/**
+ * A {@link Reporter} writing a JUnit XML report, one test case per result.
+ *
+ * <p>
+ * The report is streamed, the test and failure counts are not known when
+ * the {@code testsuite} element is started: blank space is reserved in the
+ * start tag and the counts are written in place when the reporter is closed.
+ */
+final class JUnitReporter implements Reporter {
+
+    /**
+     * The blank space reserved for the {@code testsuite} counts.
+     */
+    private static final int RESERVED = 80;
+
+    /**
+     * The file output stream.
+     */
+    private final FileOutputStream out;
+
+    /**
+     * The buffered file writer.
+     */
+    private final Writer writer;
+
+    /**
+     * The position of the reserved space.
+     */
+    private final long reservedPosition;
+
+    /**
+     * The number of test cases.
+     */
+    private int tests;
+
+    /**
+     * The number of failed test cases.
+     */
+    private int failures;
+
+    /**
+     * Create a new {@link JUnitReporter} instance.
+     * @param file the file to write, parent directories are created
+     * @param suiteName the test suite name
+     * @throws IOException if an error occurs while creating the file
+     */
+    JUnitReporter(final File file, final String suiteName)
+            throws IOException {
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        Files.createDirectories(parent.toPath());
+        this.out = new FileOutputStream(file);
+        StringBuilder header = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<testsuite name=\"");
+        appendEscaped(header, suiteName);
+        header.append('"');
+        byte[] bytes = header.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        this.reservedPosition = bytes.length;
+        char[] blank = new char[RESERVED];
+        Arrays.fill(blank, ' ');
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(blank);
+        writer.write(">\n");
+    }
+
+    @Override
+    public void report(final VerificationResult result) throws IOException {
+        Artifact a = result.getArtifact();
+        List<String> errors = result.getErrors();
+        StringBuilder sb = new StringBuilder("  <testcase classname=\"");
+        appendEscaped(sb, a.getGroupId());
+        sb.append("\" name=\"");
+        appendEscaped(sb, a.getArtifactId() + ':' + a.getVersion());
+        sb.append("\" file=\"");
+        appendEscaped(sb, result.getFile().getPath());
+        sb.append('"');
+        tests++;
+        if (errors.isEmpty()) {
+            sb.append("/>\n");
+        } else {
+            failures++;
+            sb.append(">\n    <failure message=\"");
+            appendEscaped(sb, errors.get(0));
+            sb.append("\" type=\"spec\">");
+            if (!result.getDescription().isEmpty()) {
+                appendEscaped(sb, result.getDescription());
+                sb.append('\n');
+            }
+            for (String error : errors) {
+                sb.append("- ");
+                appendEscaped(sb, error);
+                sb.append('\n');
+            }
+            sb.append("</failure>\n  </testcase>\n");
+        }
+        writer.write(sb.toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.write("</testsuite>\n");
+            writer.flush();
+            String counts = " tests=\"" + tests + "\" failures=\""
+                    + failures + "\" errors=\"0\" skipped=\"0\"";
+            FileChannel channel = out.getChannel();
+            ByteBuffer buf = ByteBuffer.wrap(
+                    counts.getBytes(StandardCharsets.UTF_8));
+            long pos = reservedPosition;
+            while (buf.hasRemaining()) {
+                pos += channel.write(buf, pos);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Append an XML escaped attribute value or text.
+     * @param sb the builder to append to
+     * @param value the value to escape
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static void appendEscaped(final StringBuilder sb,
+            final String value) {
+
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                default:
+                    // characters not allowed in XML 1.0 are dropped
+                    if (c >= 0x20 || c == '\n' || c == '\r' || c == '\t') {
+                        sb.append(c);
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.glassfish.spec.Artifact;
+
+/**
+ * Reads the results written by {@link JsonLinesReporter}, one line at a
+ * time.
+ *
+ * <p>
+ * This is not a general purpose JSON parser: only objects with string,
+ * {@code null} and string array values are supported. Unknown keys are
+ * ignored.
+ */
+final class JsonLinesReader implements Closeable {
+
+    /**
+     * The file being read.
+     */
+    private final File file;
+
+    /**
+     * The buffered file reader.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * The current line number.
+     */
+    private int lineNumber;
+
+    /**
+     * The line being parsed.
+     */
+    private String line;
+
+    /**
+     * The parse position in the current line.
+     */
+    private int pos;
+
+    /**
+     * Create a new {@link JsonLinesReader} instance.
+     * @param f the file to read
+     * @throws IOException if an error occurs while opening the file
+     */
+    JsonLinesReader(final File f) throws IOException {
+        this.file = f;
+        this.reader = Files.newBufferedReader(f.toPath(),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read the next result.
+     * @return the result, or {@code null} if the end of file is reached
+     * @throws IOException if an error occurs while reading the file or if
+     * the line is malformed
+     */
+    VerificationResult next() throws IOException {
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.trim().isEmpty());
+        pos = 0;
+
+        String path = null;
+        String groupId = null;
+        String artifactId = null;
+        String version = null;
+        String desc = null;
+        List<String> errors = null;
+        List<String> packages = Collections.emptyList();
+        List<String> classes = Collections.emptyList();
+        expect('{');
+        if (!consume('}')) {
+            do {
+                String key = readString();
+                expect(':');
+                switch (String.valueOf(key)) {
+                    case "file":
+                        path = readString();
+                        break;
+                    case "groupId":
+                        groupId = readString();
+                        break;
+                    case "artifactId":
+                        artifactId = readString();
+                        break;
+                    case "version":
+                        version = readString();
+                        break;
+                    case "spec":
+                        desc = readString();
+                        break;
+                    case "errors":
+                        errors = readStrings();
+                        break;
+                    case "packages":
+                        packages = readStrings();
+                        break;
+                    case "classes":
+                        classes = readStrings();
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (consume(','));
+            expect('}');
+        }
+        skipWhitespace();
+        if (pos != line.length() || path == null || desc == null
+                || errors == null) {
+            throw malformed();
+        }
+
+        Artifact a = new Artifact();
+        a.setGroupId(groupId);
+        a.setArtifactId(artifactId);
+        if (version != null) {
+            a.setVersion(version);
+        }
+        Map<String, Long> crcs;
+        try {
+            crcs = VerificationResult.decodeClassCrcs(classes);
+        } catch (IllegalArgumentException ex) {
+            throw malformed();
+        }
+        return new VerificationResult(new File(path), a, desc, errors,
+                packages, crcs);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Create the exception thrown for a malformed line.
+     * @return the exception
+     */
+    private IOException malformed() {
+        return new IOException(String.format(
+                "malformed result at line %d of %s",
+                lineNumber, file));
+    }
+
+    /**
+     * Skip whitespace characters.
+     */
+    private void skipWhitespace() {
+        while (pos < line.length()
+                && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    /**
+     * Consume a character if it is next, after whitespace.
+     * @param c the character
+     * @return {@code true} if consumed, {@code false} otherwise
+     */
+    private boolean consume(final char c) {
+        skipWhitespace();
+        if (pos < line.length() && line.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consume a character that must be next, after whitespace.
+     * @param c the character
+     * @throws IOException if the character is not next
+     */
+    private void expect(final char c) throws IOException {
+        if (!consume(c)) {
+            throw malformed();
+        }
+    }
+
+    /**
+     * Skip a value of a supported type.
+     * @throws IOException if the value is malformed
+     */
+    private void skipValue() throws IOException {
+        skipWhitespace();
+        if (pos < line.length() && line.charAt(pos) == '[') {
+            readStrings();
+        } else {
+            readString();
+        }
+    }
+
+    /**
+     * Read an array of strings.
+     * @return the strings
+     * @throws IOException if the array is malformed
+     */
+    private List<String> readStrings() throws IOException {
+        List<String> values = new ArrayList<>();
+        expect('[');
+        if (consume(']')) {
+            return values;
+        }
+        do {
+            values.add(readString());
+        } while (consume(','));
+        expect(']');
+        return values;
+    }
+
+    /**
+     * Read a string or {@code null}.
+     * @return the string, may be {@code null}
+     * @throws IOException if the string is malformed
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private String readString() throws IOException {
+        skipWhitespace();
+        if (line.startsWith("null", pos)) {
+            pos += 4;
+            return null;
+        }
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        while (pos < line.length()) {
+            char c = line.charAt(pos++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= line.length()) {
+                break;
+            }
+            c = line.charAt(pos++);
+            switch (c) {
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'u':
+                    if (pos + 4 > line.length()) {
+                        throw malformed();
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(
+                                line.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException ex) {
+                        throw malformed();
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    // \" \\ and \/
+                    sb.append(c);
+            }
+        }
+        throw malformed();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import org.glassfish.spec.Artifact;
+
+/**
+ * A {@link Reporter} writing one JSON object per result and per line.
+ *
+ * <p>
+ * Each line has the following form:
+ * <pre>
+ * {"file":"...","groupId":"...","artifactId":"...","version":"...",
+ *  "spec":"...","errors":["...", ...],"packages":["...", ...],
+ *  "classes":["...", ...]}
+ * </pre>
+ * The packages and the class CRC-32, 8 hexadecimal digits followed by the
+ * entry name, are only written if they were collected.
+ *
+ * @see <a href="https://jsonlines.org">JSON Lines</a>
+ */
+final class JsonLinesReporter implements Reporter {
+
+    /**
+     * The buffered file writer.
+     */
+    private final Writer writer;
+
+    /**
+     * Create a new {@link JsonLinesReporter} instance.
+     * @param file the file to write, parent directories are created
+     * @throws IOException if an error occurs while creating the file
+     */
+    JsonLinesReporter(final File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        Files.createDirectories(parent.toPath());
+        this.writer = Files.newBufferedWriter(file.toPath(),
+                StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void report(final VerificationResult result) throws IOException {
+        Artifact a = result.getArtifact();
+        writer.write("{\"file\":");
+        writeString(result.getFile().getPath());
+        writer.write(",\"groupId\":");
+        writeString(a.getGroupId());
+        writer.write(",\"artifactId\":");
+        writeString(a.getArtifactId());
+        writer.write(",\"version\":");
+        writeString(a.getVersion() != null ? a.getVersion().toString() : null);
+        writer.write(",\"spec\":");
+        writeString(result.getDescription());
+        writer.write(",\"errors\":");
+        writeStrings(result.getErrors());
+        if (!result.getPackages().isEmpty()) {
+            writer.write(",\"packages\":");
+            writeStrings(result.getPackages());
+        }
+        if (!result.getClassCrcs().isEmpty()) {
+            writer.write(",\"classes\":");
+            writeStrings(result.getEncodedClassCrcs());
+        }
+        writer.write("}\n");
+    }
+
+    /**
+     * Write a JSON array of strings.
+     * @param values the values to write
+     * @throws IOException if an error occurs while writing
+     */
+    private void writeStrings(final List<String> values) throws IOException {
+        writer.write('[');
+        boolean first = true;
+        for (String value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+            writeString(value);
+            first = false;
+        }
+        writer.write(']');
+    }
+
+    /**
+     * Write a JSON string.
+     * @param value the value to write, may be {@code null}
+     * @throws IOException if an error occurs while writing
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private void writeString(final String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Merge the partial results of {@code check-distribution} shards.
+ *
+ * <p>
+ * The partial results are the JSON Lines reports written by each shard,
+ * they are reported again as a single result set. The split packages and
+ * the duplicate classes are verified across all the shards if the shards
+ * collected them, see {@code checkSplitPackages} and
+ * {@code checkDuplicateClasses}.
+ */
+@Mojo(name = "merge-distribution",
+      requiresProject = false,
+      threadSafe = true,
+      defaultPhase = LifecyclePhase.VERIFY)
+public final class MergeDistributionMojo extends AbstractMojo {
+
+    /**
+     * The file extension of the partial results found in directories.
+     */
+    private static final String PARTIAL_RESULT_SUFFIX = ".jsonl";
+
+    /**
+     * The partial result files, or directories containing {@code .jsonl}
+     * partial result files.
+     */
+    @Parameter(property = "partialResults", required = true)
+    private List<File> partialResults;
+
+    /**
+     * Fail on distribution errors.
+     */
+    @Parameter(property = "failOnSpecCheckDistributionErrors", defaultValue = "false")
+    private boolean failOnSpecCheckDistributionErrors;
+
+    /**
+     * Verify that no package is found in more than one artifact, requires
+     * partial results written with {@code checkSplitPackages}.
+     */
+    @Parameter(property = "checkSplitPackages", defaultValue = "false")
+    private boolean checkSplitPackages;
+
+    /**
+     * Verify that no class is found in more than one artifact, requires
+     * partial results written with {@code checkDuplicateClasses}.
+     */
+    @Parameter(property = "checkDuplicateClasses", defaultValue = "false")
+    private boolean checkDuplicateClasses;
+
+    /**
+     * The merged JSON Lines report file.
+     */
+    @Parameter(property = "jsonLinesReport")
+    private File jsonLinesReport;
+
+    /**
+     * The merged JUnit XML report file.
+     */
+    @Parameter(property = "junitReport")
+    private File junitReport;
+
+    /**
+     * List the partial result files, the files found in a directory are
+     * sorted by name.
+     * @return the partial result files
+     * @throws MojoFailureException if a partial result does not exist
+     */
+    private List<File> listPartialResults() throws MojoFailureException {
+        List<File> files = new ArrayList<>();
+        for (File f : partialResults) {
+            if (f.isDirectory()) {
+                File[] children = f.listFiles((d, n) ->
+                        n.endsWith(PARTIAL_RESULT_SUFFIX));
+                if (children != null) {
+                    Arrays.sort(children);
+                    files.addAll(Arrays.asList(children));
+                }
+            } else if (f.isFile()) {
+                files.add(f);
+            } else {
+                String msg = String.format(
+                        "partial result (%s) does not exist",
+                        f.getAbsolutePath());
+                getLog().error(msg);
+                throw new MojoFailureException(msg);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Log the errors found across the distribution.
+     * @param errors the errors to log
+     * @return {@code true} if there are errors, {@code false} otherwise
+     */
+    private boolean log(final List<String> errors) {
+        for (String error : errors) {
+            if (error.startsWith("WARNING")) {
+                getLog().warn(error);
+            } else {
+                getLog().error(error);
+            }
+        }
+        return !errors.isEmpty();
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        List<File> files = listPartialResults();
+        int count = 0;
+        boolean anyJarWithErrors = false;
+        PackageIndex packageIndex = checkSplitPackages
+                ? new PackageIndex() : null;
+        ClassIndex classIndex = checkDuplicateClasses
+                ? new ClassIndex() : null;
+        try (Reporter reporter = CompositeReporter.create(jsonLinesReport,
+                junitReport, "spec-version.check-distribution")) {
+            for (File file : files) {
+                try (JsonLinesReader reader = new JsonLinesReader(file)) {
+                    VerificationResult result;
+                    while ((result = reader.next()) != null) {
+                        reporter.report(result);
+                        anyJarWithErrors |= !result.getErrors().isEmpty();
+                        if (packageIndex != null) {
+                            packageIndex.add(result.getFile().getPath(),
+                                    result.getPackages());
+                        }
+                        if (classIndex != null) {
+                            classIndex.add(result.getFile().getPath(),
+                                    result.getClassCrcs());
+                        }
+                        count++;
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        }
+        getLog().info(String.format("Merged %d results from %d partial results",
+                count, files.size()));
+        if (packageIndex != null) {
+            if (count > 0 && packageIndex.size() == 0) {
+                getLog().warn("No packages found in the partial results,"
+                        + " checkSplitPackages requires partial results"
+                        + " written with checkSplitPackages");
+            }
+            anyJarWithErrors |= log(packageIndex.getErrors());
+        }
+        if (classIndex != null) {
+            if (count > 0 && classIndex.size() == 0) {
+                getLog().warn("No classes found in the partial results,"
+                        + " checkDuplicateClasses requires partial results"
+                        + " written with checkDuplicateClasses");
+            }
+            anyJarWithErrors |= log(classIndex.getErrors());
+        }
+        if (anyJarWithErrors && failOnSpecCheckDistributionErrors) {
+            throw new MojoFailureException("Found spec errors.");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index of the packages of all the artifacts of a distribution, used to
+ * find the packages split across several artifacts.
+ *
+ * <p>
+ * Only the package names and the artifacts containing them are kept, not
+ * the JAR entries. The name of each artifact is stored once, each package
+ * maps to the index of its first artifact and only the split packages hold
+ * an array of artifact indexes.
+ */
+final class PackageIndex {
+
+    /**
+     * The artifact names, in the order they were added.
+     */
+    private final List<String> artifacts = new ArrayList<>();
+
+    /**
+     * The artifacts of each package, an {@link Integer} for the packages of
+     * a single artifact, an {@code int[]} for the split packages.
+     */
+    private final Map<String, Object> owners = new HashMap<>();
+
+    /**
+     * The number of split packages.
+     */
+    private int splitCount;
+
+    /**
+     * Add the packages of an artifact.
+     * @param artifact the artifact name
+     * @param packages the packages of the artifact, without duplicates
+     */
+    void add(final String artifact, final Collection<String> packages) {
+        if (packages.isEmpty()) {
+            return;
+        }
+        int index = artifacts.size();
+        artifacts.add(artifact);
+        for (String pkg : packages) {
+            Object owner = owners.putIfAbsent(pkg, index);
+            if (owner == null) {
+                continue;
+            }
+            int[] indexes;
+            if (owner instanceof Integer) {
+                indexes = new int[] {(Integer) owner, index};
+                splitCount++;
+            } else {
+                int[] old = (int[]) owner;
+                indexes = Arrays.copyOf(old, old.length + 1);
+                indexes[old.length] = index;
+            }
+            owners.put(pkg, indexes);
+        }
+    }
+
+    /**
+     * Get the number of distinct packages.
+     * @return the number of packages
+     */
+    int size() {
+        return owners.size();
+    }
+
+    /**
+     * Get the errors describing the split packages.
+     * @return the errors, one per split package in alphabetical order
+     */
+    List<String> getErrors() {
+        List<String> errors = new ArrayList<>();
+        for (Map.Entry<String, List<String>> e
+                : getSplitPackages().entrySet()) {
+            errors.add(String.format(
+                    "ERROR: package %s is split across %s",
+                    e.getKey().isEmpty() ? "(default)" : e.getKey(),
+                    String.join(", ", e.getValue())));
+        }
+        return errors;
+    }
+
+    /**
+     * Get the packages found in more than one artifact.
+     * @return the artifact names of each split package, in the order they
+     * were added, keyed by package name in alphabetical order
+     */
+    Map<String, List<String>> getSplitPackages() {
+        Map<String, List<String>> split = new TreeMap<>();
+        if (splitCount == 0) {
+            return split;
+        }
+        for (Map.Entry<String, Object> e : owners.entrySet()) {
+            if (e.getValue() instanceof int[]) {
+                int[] indexes = (int[]) e.getValue();
+                List<String> names = new ArrayList<>(indexes.length);
+                for (int i : indexes) {
+                    names.add(artifacts.get(i));
+                }
+                split.put(e.getKey(), names);
+            }
+        }
+        return split;
+    }
+}
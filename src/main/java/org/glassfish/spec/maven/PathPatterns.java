@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Include and exclude patterns matched against relative paths.
+ *
+ * <p>
+ * Patterns are globs, see
+ * {@link FileSystem#getPathMatcher(String)}. A pattern starting with
+ * {@code **}{@code /} also matches paths without parent directory, like
+ * Ant patterns do. Each pattern may also be a comma separated list of
+ * patterns, the commas of the glob groups, e.g.
+ * {@code {javax,jakarta}*.jar}, do not separate patterns.
+ */
+final class PathPatterns {
+
+    /**
+     * The prefix matching any parent directories.
+     */
+    private static final String ANY_DIRS = "**/";
+
+    /**
+     * The include matchers.
+     */
+    private final List<PathMatcher> includes;
+
+    /**
+     * The exclude matchers.
+     */
+    private final List<PathMatcher> excludes;
+
+    /**
+     * Create a new {@link PathPatterns} instance.
+     * @param incls the include patterns
+     * @param excls the exclude patterns, may be {@code null}
+     * @throws IllegalArgumentException if a pattern is invalid
+     */
+    PathPatterns(final List<String> incls, final List<String> excls) {
+        this.includes = compile(incls);
+        this.excludes = compile(excls);
+    }
+
+    /**
+     * Test if a relative path is included and not excluded.
+     * @param path the relative path
+     * @return {@code true} if matched, {@code false} otherwise
+     */
+    boolean matches(final Path path) {
+        return matchesAny(includes, path) && !matchesAny(excludes, path);
+    }
+
+    /**
+     * Test if a relative path separated with {@code /} is included and not
+     * excluded.
+     * @param path the relative path, e.g. a ZIP entry name
+     * @return {@code true} if matched, {@code false} otherwise
+     */
+    boolean matches(final String path) {
+        Path p;
+        try {
+            // one name per segment, whatever the platform separator is
+            p = FileSystems.getDefault().getPath("", path.split("/"));
+        } catch (InvalidPathException ex) {
+            // not a valid file name on this platform
+            return false;
+        }
+        return matches(p);
+    }
+
+    /**
+     * Test if any matcher matches a path.
+     * @param matchers the matchers
+     * @param path the path
+     * @return {@code true} if matched, {@code false} otherwise
+     */
+    private static boolean matchesAny(final List<PathMatcher> matchers,
+            final Path path) {
+
+        for (PathMatcher m : matchers) {
+            if (m.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compile patterns.
+     * @param patterns the patterns, may be {@code null}
+     * @return the matchers
+     */
+    private static List<PathMatcher> compile(final List<String> patterns) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        if (patterns == null) {
+            return matchers;
+        }
+        FileSystem fs = FileSystems.getDefault();
+        for (String patternList : patterns) {
+            for (String p : split(patternList)) {
+                String pattern = p.trim();
+                if (pattern.isEmpty()) {
+                    continue;
+                }
+                matchers.add(fs.getPathMatcher("glob:" + pattern));
+                if (pattern.startsWith(ANY_DIRS)) {
+                    matchers.add(fs.getPathMatcher("glob:"
+                            + pattern.substring(ANY_DIRS.length())));
+                }
+            }
+        }
+        return matchers;
+    }
+
+    /**
+     * Split a comma separated list of patterns, ignoring the commas inside
+     * the glob groups and the escaped commas.
+     * @param patternList the comma separated list of patterns
+     * @return the patterns
+     */
+    private static List<String> split(final String patternList) {
+        List<String> patterns = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < patternList.length(); i++) {
+            char c = patternList.charAt(i);
+            if (c == '\\') {
+                // escaped character
+                i++;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}' && depth > 0) {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                patterns.add(patternList.substring(start, i));
+                start = i + 1;
+            }
+        }
+        patterns.add(patternList.substring(start));
+        return patterns;
+    }
+}
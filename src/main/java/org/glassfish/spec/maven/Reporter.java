@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A sink of verification results.
+ *
+ * <p>
+ * Results are reported one at a time as they become available, reporters
+ * must not retain them so that the memory used does not depend on the
+ * number of verified artifacts. Closing a reporter completes and flushes
+ * the report.
+ */
+interface Reporter extends Closeable {
+
+    /**
+     * Report a verification result.
+     * @param result the result to report
+     * @throws IOException if an error occurs while writing the report
+     */
+    void report(VerificationResult result) throws IOException;
+}
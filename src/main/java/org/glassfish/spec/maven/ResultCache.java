@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.glassfish.spec.Artifact;
+
+/**
+ * A persistent cache of verification results.
+ *
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the artifact file content and
+ * record the fingerprint of the spec configuration used to produce them, an
+ * entry is only replayed if the current configuration for the cached
+ * artifact has the same fingerprint.
+ *
+ * <p>
+ * The digest of a file is recorded for its path, size, last modification
+ * time and file key (e.g. its inode), the file is only read again to
+ * compute its digest if one of them changes.
+ *
+ * <p>
+ * Entries are written to a temporary file that is atomically moved in
+ * place, and unreadable entries are treated as misses; several builds can
+ * share the same cache directory.
+ */
+final class ResultCache {
+
+    /**
+     * Version of the entry format, bumped to invalidate existing entries.
+     */
+    private static final String FORMAT_VERSION = "1";
+
+    /**
+     * The file extension of cache entries.
+     */
+    private static final String ENTRY_SUFFIX = ".properties";
+
+    /**
+     * The file extension of the digests recorded for file attributes.
+     */
+    private static final String DIGEST_SUFFIX = ".digest";
+
+    /**
+     * The number of hexadecimal digits of a SHA-256 digest.
+     */
+    private static final int DIGEST_LENGTH = 64;
+
+    /**
+     * The file extension of entries being written.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * The size of the buffer used to compute the file digests.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The cache directory.
+     */
+    private final Path directory;
+
+    /**
+     * String mixed in all the fingerprints.
+     */
+    private final String salt;
+
+    /**
+     * Create a new {@link ResultCache} instance.
+     * @param dir the cache directory
+     * @param fpSalt a string identifying the verification rules, entries
+     * created with a different value are ignored
+     * @throws IOException if the cache directory cannot be created
+     */
+    ResultCache(final File dir, final String fpSalt) throws IOException {
+        this.directory = dir.toPath();
+        this.salt = FORMAT_VERSION + '|' + fpSalt;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Compute the cache key of the given file. The digest recorded for the
+     * attributes of the file is used if found, otherwise the digest is
+     * computed and recorded.
+     * @param file the file to process
+     * @return the key, the hexadecimal SHA-256 digest of the file content
+     * @throws IOException if an error occurs while reading the file
+     */
+    String key(final File file) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(file.toPath(),
+                BasicFileAttributes.class);
+        String attrsKey = file.getCanonicalPath() + '|' + attrs.size() + '|'
+                + attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS) + '|'
+                + attrs.fileKey();
+        Path entry = directory.resolve(toHex(sha256().digest(
+                attrsKey.getBytes(StandardCharsets.UTF_8))) + DIGEST_SUFFIX);
+        try {
+            String recorded = new String(Files.readAllBytes(entry),
+                    StandardCharsets.US_ASCII);
+            if (recorded.length() == DIGEST_LENGTH) {
+                touch(entry);
+                return recorded;
+            }
+        } catch (IOException ex) {
+            // not recorded or evicted concurrently
+        }
+        String digest = digest(file);
+        try {
+            write(entry, digest.getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException ex) {
+            // computed again next time
+        }
+        return digest;
+    }
+
+    /**
+     * Compute the SHA-256 digest of the given file.
+     * @param file the file to process
+     * @return the hexadecimal SHA-256 digest of the file content
+     * @throws IOException if an error occurs while reading the file
+     */
+    static String digest(final File file) throws IOException {
+        MessageDigest md = sha256();
+        ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel ch = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ)) {
+            while (ch.read(buf) >= 0) {
+                buf.flip();
+                md.update(buf);
+                buf.clear();
+            }
+        }
+        return toHex(md.digest());
+    }
+
+    /**
+     * Compute the cache key of the given file content, read to the end of
+     * the stream.
+     * @param is the stream of the file content, it is not closed
+     * @return the key, the hexadecimal SHA-256 digest of the content
+     * @throws IOException if an error occurs while reading the stream
+     */
+    String key(final InputStream is) throws IOException {
+        MessageDigest md = sha256();
+        byte[] buf = new byte[BUFFER_SIZE];
+        int n;
+        while ((n = is.read(buf)) >= 0) {
+            md.update(buf, 0, n);
+        }
+        return toHex(md.digest());
+    }
+
+    /**
+     * Compute the cache key of the given file content.
+     * @param data the file content
+     * @return the key, the hexadecimal SHA-256 digest of the content
+     */
+    String key(final byte[] data) {
+        return toHex(sha256().digest(data));
+    }
+
+    /**
+     * Compute the fingerprint of a spec configuration.
+     * @param configKey the spec configuration key
+     * @return the fingerprint
+     */
+    String fingerprint(final String configKey) {
+        MessageDigest md = sha256();
+        md.update(salt.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        md.update(configKey.getBytes(StandardCharsets.UTF_8));
+        return toHex(md.digest());
+    }
+
+    /**
+     * Get the cached result for a file.
+     * @param key the file key
+     * @param file the file
+     * @param fingerprints function resolving the fingerprint of the current
+     * spec configuration for the cached artifact
+     * @return the cached result, or {@code null} if not found or stale
+     */
+    VerificationResult get(final String key, final File file,
+            final Function<Artifact, String> fingerprints) {
+
+        Path entry = directory.resolve(key + ENTRY_SUFFIX);
+        Properties props = new Properties();
+        try (InputStream is = Files.newInputStream(entry)) {
+            props.load(is);
+        } catch (IOException | IllegalArgumentException ex) {
+            // missing or unreadable entry
+            return null;
+        }
+        VerificationResult result;
+        try {
+            result = VerificationResult.fromProperties(file, props);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        String fingerprint = props.getProperty("fingerprint");
+        if (fingerprint == null || !fingerprint.equals(
+                fingerprints.apply(result.getArtifact()))) {
+            return null;
+        }
+        touch(entry);
+        return result;
+    }
+
+    /**
+     * Mark an entry as recently used, to keep it out of the eviction.
+     * @param entry the entry
+     */
+    private static void touch(final Path entry) {
+        try {
+            Files.setLastModifiedTime(entry,
+                    FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            // entry evicted concurrently, its content is still valid
+        }
+    }
+
+    /**
+     * Store a result in the cache.
+     * @param key the file key
+     * @param fingerprint the fingerprint of the spec configuration used
+     * @param result the result to store
+     * @throws IOException if an error occurs while writing the entry
+     */
+    void put(final String key, final String fingerprint,
+            final VerificationResult result) throws IOException {
+
+        Properties props = result.toProperties();
+        props.setProperty("fingerprint", fingerprint);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        props.store(bytes, null);
+        write(directory.resolve(key + ENTRY_SUFFIX), bytes.toByteArray());
+    }
+
+    /**
+     * Write an entry to a temporary file that is atomically moved in place.
+     * @param entry the entry
+     * @param content the entry content
+     * @throws IOException if an error occurs while writing the entry
+     */
+    private void write(final Path entry, final byte[] content)
+            throws IOException {
+
+        Path tmp = Files.createTempFile(directory,
+                entry.getFileName().toString(), TMP_SUFFIX);
+        try {
+            try (OutputStream os = Files.newOutputStream(tmp)) {
+                os.write(content);
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Evict the entries older than the given age, then the least recently
+     * used entries until the cache size is below the given size.
+     * @param maxAge the maximum age of entries in milliseconds
+     * @param maxSize the maximum cache size in bytes
+     * @return the number of evicted entries
+     * @throws IOException if an error occurs while listing the entries
+     */
+    int evict(final long maxAge, final long maxSize) throws IOException {
+        final List<Path> entries = new ArrayList<>();
+        final List<BasicFileAttributes> attrs = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> stream =
+                Files.newDirectoryStream(directory)) {
+            for (Path entry : stream) {
+                BasicFileAttributes attr;
+                try {
+                    attr = Files.readAttributes(entry,
+                            BasicFileAttributes.class);
+                } catch (NoSuchFileException ex) {
+                    // evicted concurrently
+                    continue;
+                }
+                String name = entry.getFileName().toString();
+                if (name.endsWith(ENTRY_SUFFIX)
+                        || name.endsWith(DIGEST_SUFFIX)) {
+                    attrs.add(attr);
+                    entries.add(entry);
+                } else if (name.endsWith(TMP_SUFFIX)
+                        && now - attr.lastModifiedTime().toMillis() > maxAge) {
+                    // left over by an interrupted build
+                    Files.deleteIfExists(entry);
+                }
+            }
+        }
+
+        // most recently used first
+        List<Integer> order = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            order.add(i);
+        }
+        Collections.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer i1, final Integer i2) {
+                return attrs.get(i2).lastModifiedTime()
+                        .compareTo(attrs.get(i1).lastModifiedTime());
+            }
+        });
+
+        long size = 0;
+        int evicted = 0;
+        for (int i : order) {
+            BasicFileAttributes attr = attrs.get(i);
+            if (size + attr.size() <= maxSize
+                    && now - attr.lastModifiedTime().toMillis() <= maxAge) {
+                size += attr.size();
+            } else if (Files.deleteIfExists(entries.get(i))) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Create a SHA-256 message digest.
+     * @return the message digest
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Convert bytes to an hexadecimal string.
+     * @param bytes the bytes to convert
+     * @return the hexadecimal string
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private static String toHex(final byte[] bytes) {
+        char[] digits = "0123456789abcdef".toCharArray();
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = digits[(bytes[i] >> 4) & 0xf];
+            hex[2 * i + 1] = digits[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.Spec;
+
+/**
+ * The outcome of the verification of a single spec artifact.
+ *
+ * <p>
+ * Instances are immutable snapshots of a verified {@link Spec}, so they can
+ * be produced by concurrent workers and reported later in a stable order.
+ */
+final class VerificationResult {
+
+    /**
+     * The verified file.
+     */
+    private final File file;
+
+    /**
+     * The verified artifact.
+     */
+    private final Artifact artifact;
+
+    /**
+     * The spec description.
+     */
+    private final String description;
+
+    /**
+     * The errors collected during verification.
+     */
+    private final List<String> errors;
+
+    /**
+     * The packages of the verified file, only collected for the
+     * distribution-wide checks.
+     */
+    private final List<String> packages;
+
+    /**
+     * The CRC-32 of the classes of the verified file keyed by entry name,
+     * only collected for the distribution-wide checks.
+     */
+    private final Map<String, Long> classCrcs;
+
+    /**
+     * Create a new {@link VerificationResult} instance.
+     * @param f the verified file
+     * @param a the verified artifact
+     * @param desc the spec description
+     * @param errs the errors collected during verification
+     */
+    VerificationResult(final File f, final Artifact a, final String desc,
+            final List<String> errs) {
+
+        this(f, a, desc, errs, Collections.<String>emptyList(),
+                Collections.<String, Long>emptyMap());
+    }
+
+    /**
+     * Create a new {@link VerificationResult} instance.
+     * @param f the verified file
+     * @param a the verified artifact
+     * @param desc the spec description
+     * @param errs the errors collected during verification
+     * @param pkgs the packages of the verified file
+     * @param crcs the CRC-32 of the classes of the verified file keyed by
+     * entry name
+     */
+    VerificationResult(final File f, final Artifact a, final String desc,
+            final List<String> errs, final Collection<String> pkgs,
+            final Map<String, Long> crcs) {
+
+        this.file = f;
+        this.artifact = a;
+        this.description = desc;
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errs));
+        this.packages = pkgs.isEmpty() ? Collections.<String>emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(pkgs));
+        this.classCrcs = crcs.isEmpty() ? Collections.<String, Long>emptyMap()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(crcs));
+    }
+
+    /**
+     * Create a new {@link VerificationResult} instance from a verified spec.
+     * @param f the verified file
+     * @param spec the verified spec
+     */
+    VerificationResult(final File f, final Spec spec) {
+        this(f, spec, Collections.<String>emptyList(),
+                Collections.<String, Long>emptyMap());
+    }
+
+    /**
+     * Create a new {@link VerificationResult} instance from a verified spec.
+     * @param f the verified file
+     * @param spec the verified spec
+     * @param pkgs the packages of the verified file, empty if not collected
+     * @param crcs the CRC-32 of the classes of the verified file keyed by
+     * entry name, empty if not collected
+     */
+    VerificationResult(final File f, final Spec spec,
+            final Collection<String> pkgs, final Map<String, Long> crcs) {
+
+        this(f, spec.getArtifact(), spec.toString(), spec.getErrors(), pkgs,
+                crcs);
+    }
+
+    /**
+     * Create a new {@link VerificationResult} instance from properties
+     * created with {@link #toProperties()}.
+     * @param f the verified file
+     * @param props the properties to read
+     * @return the created instance
+     * @throws IllegalArgumentException if the properties are incomplete
+     */
+    static VerificationResult fromProperties(final File f,
+            final Properties props) {
+
+        String count = props.getProperty("errors");
+        String groupId = props.getProperty("groupId");
+        String artifactId = props.getProperty("artifactId");
+        String version = props.getProperty("version");
+        String desc = props.getProperty("description");
+        if (count == null || groupId == null || artifactId == null
+                || version == null || desc == null) {
+            throw new IllegalArgumentException("incomplete result");
+        }
+        int size = Integer.parseInt(count);
+        List<String> errs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String error = props.getProperty("error." + i);
+            if (error == null) {
+                throw new IllegalArgumentException("incomplete result");
+            }
+            errs.add(error);
+        }
+        String pkgs = props.getProperty("packages");
+        String classes = props.getProperty("classes");
+        return new VerificationResult(f,
+                new Artifact(groupId, artifactId, version), desc, errs,
+                pkgs == null ? Collections.<String>emptyList()
+                        : Arrays.asList(pkgs.split(",", -1)),
+                classes == null ? Collections.<String, Long>emptyMap()
+                        : decodeClassCrcs(Arrays.asList(
+                                classes.split("\n", -1))));
+    }
+
+    /**
+     * Convert this result to properties.
+     * @return the created properties
+     */
+    Properties toProperties() {
+        Properties props = new Properties();
+        props.setProperty("groupId", String.valueOf(artifact.getGroupId()));
+        props.setProperty("artifactId",
+                String.valueOf(artifact.getArtifactId()));
+        props.setProperty("version", String.valueOf(artifact.getVersion()));
+        props.setProperty("description", description);
+        props.setProperty("errors", String.valueOf(errors.size()));
+        for (int i = 0; i < errors.size(); i++) {
+            props.setProperty("error." + i, errors.get(i));
+        }
+        if (!packages.isEmpty()) {
+            props.setProperty("packages", String.join(",", packages));
+        }
+        if (!classCrcs.isEmpty()) {
+            props.setProperty("classes",
+                    String.join("\n", getEncodedClassCrcs()));
+        }
+        return props;
+    }
+
+    /**
+     * Decode the CRC-32 of classes encoded with
+     * {@link #getEncodedClassCrcs()}.
+     * @param encoded the encoded CRC-32
+     * @return the CRC-32 keyed by entry name
+     * @throws IllegalArgumentException if a value is malformed
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    static Map<String, Long> decodeClassCrcs(
+            final Collection<String> encoded) {
+
+        Map<String, Long> crcs = new LinkedHashMap<>();
+        for (String value : encoded) {
+            if (value.length() <= 8) {
+                throw new IllegalArgumentException("malformed class CRC");
+            }
+            crcs.put(value.substring(8),
+                    Long.parseLong(value.substring(0, 8), 16));
+        }
+        return crcs;
+    }
+
+    /**
+     * Get the verified file.
+     * @return the file
+     */
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Get the verified artifact.
+     * @return the artifact
+     */
+    Artifact getArtifact() {
+        return artifact;
+    }
+
+    /**
+     * Get the spec description.
+     * @return the spec description, may be empty
+     */
+    String getDescription() {
+        return description;
+    }
+
+    /**
+     * Get the errors collected during verification.
+     * @return the unmodifiable list of errors
+     */
+    List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get the packages of the verified file.
+     * @return the unmodifiable list of packages, empty if not collected
+     */
+    List<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * Get the CRC-32 of the classes of the verified file.
+     * @return the unmodifiable map of CRC-32 keyed by entry name, empty if
+     * not collected
+     */
+    Map<String, Long> getClassCrcs() {
+        return classCrcs;
+    }
+
+    /**
+     * Get the CRC-32 of the classes of the verified file, encoded as
+     * strings of 8 hexadecimal digits followed by the entry name.
+     * @return the encoded CRC-32, empty if not collected
+     */
+    List<String> getEncodedClassCrcs() {
+        List<String> encoded = new ArrayList<>(classCrcs.size());
+        for (Map.Entry<String, Long> e : classCrcs.entrySet()) {
+            encoded.add(String.format("%08x%s", e.getValue(), e.getKey()));
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.maven.plugin.MojoFailureException;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.Spec;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CheckDistributionMojoTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private final Mojos.RecordingLog log = new Mojos.RecordingLog();
+
+    private static File createJar(File file, String artifactId) throws IOException {
+        TestJar jar = new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta." + artifactId)
+                .attribute(Metadata.BUNDLE_VERSION, "1.0")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta." + artifactId)
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "1.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "1.0")
+                .classes("jakarta." + artifactId + ".Foo");
+        if (artifactId != null) {
+            jar.artifact("jakarta." + artifactId, "jakarta." + artifactId + "-api", "1.0");
+        }
+        return jar.write(file);
+    }
+
+    private static File createSpecJar(File file, String... classes) throws IOException {
+        return new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.a-api")
+                .attribute(Metadata.BUNDLE_VERSION, "1.0")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.a")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "1.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "1.0")
+                .attribute(Metadata.EXPORT_PACKAGE, "jakarta.a;version=\"1.0\"")
+                .artifact("jakarta.a", "jakarta.a-api", "1.0")
+                .classes(classes)
+                .write(file);
+    }
+
+    private static Spec spec() {
+        Spec spec = new Spec();
+        spec.setArtifact(new Artifact("jakarta.a", "jakarta.a-api", "1.0"));
+        spec.setSpecVersion("1.0");
+        spec.setSpecImplVersion("1.0");
+        spec.setApiPackage("jakarta.a");
+        return spec;
+    }
+
+    private static List<String> names(int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            names.add(String.format("%02d.jar", i));
+        }
+        return names;
+    }
+
+    private CheckDistributionMojo createMojo(File dir, int threads) {
+        CheckDistributionMojo mojo = new CheckDistributionMojo();
+        Mojos.set(mojo, "dir", dir);
+        Mojos.set(mojo, "includes", Arrays.asList("*.jar"));
+        Mojos.set(mojo, "specs", new ArrayList<Spec>());
+        Mojos.set(mojo, "checkPackages", true);
+        Mojos.set(mojo, "threads", threads);
+        Mojos.set(mojo, "shardCount", 1);
+        mojo.setLog(log);
+        return mojo;
+    }
+
+    private boolean hasErrors(File dir, Spec... specs) throws Exception {
+        CheckDistributionMojo mojo = createMojo(dir, 1);
+        Mojos.set(mojo, "specs", new ArrayList<>(Arrays.asList(specs)));
+        Mojos.set(mojo, "failOnSpecCheckDistributionErrors", true);
+        try {
+            mojo.execute();
+            return false;
+        } catch (MojoFailureException ex) {
+            return true;
+        }
+    }
+
+    private static List<String> reportedFiles(File report) throws IOException {
+        List<String> files = new ArrayList<>();
+        try (JsonLinesReader reader = new JsonLinesReader(report)) {
+            VerificationResult result;
+            while ((result = reader.next()) != null) {
+                files.add(result.getFile().getName());
+            }
+        }
+        return files;
+    }
+
+    @Test
+    public void testMissingPomProperties() throws Exception {
+        File dir = tmp.newFolder("dist");
+        createJar(new File(dir, "a.jar"), "a");
+        createJar(new File(dir, "b.jar"), null);
+        createJar(new File(dir, "c.jar"), "c");
+        for (int threads : new int[] {1, 4}) {
+            log.warnings.clear();
+            File report = tmp.newFile("report-" + threads + ".jsonl");
+            CheckDistributionMojo mojo = createMojo(dir, threads);
+            Mojos.set(mojo, "jsonLinesReport", report);
+            mojo.execute();
+            assertEquals(Arrays.asList("a.jar", "c.jar"), reportedFiles(report));
+            assertEquals(1, log.warnings.size());
+            assertTrue(log.warnings.get(0), log.warnings.get(0).startsWith("unable to find pom.properties"));
+            assertTrue(log.warnings.get(0), log.warnings.get(0).endsWith("b.jar"));
+        }
+    }
+
+    @Test
+    public void testSpecIndex() throws Exception {
+        File dir = tmp.newFolder("dist");
+        createSpecJar(new File(dir, "a.jar"), "jakarta.a.Foo");
+        Spec invalid = spec();
+        invalid.setSpecVersion("2.0");
+        Spec otherVersion = spec();
+        otherVersion.setArtifact(new Artifact("jakarta.a", "jakarta.a-api", "2.0"));
+        otherVersion.setSpecVersion("2.0");
+        Spec anyVersion = spec();
+        anyVersion.setArtifact(new Artifact());
+        anyVersion.getArtifact().setGroupId("jakarta.a");
+        anyVersion.getArtifact().setArtifactId("jakarta.a-api");
+        Spec invalidAnyVersion = new Spec(anyVersion);
+        invalidAnyVersion.setSpecVersion("2.0");
+
+        assertFalse(hasErrors(dir, otherVersion, spec()));
+        assertTrue(hasErrors(dir, otherVersion, invalid));
+        // a configuration without version matches any version
+        assertFalse(hasErrors(dir, otherVersion, anyVersion));
+        assertTrue(hasErrors(dir, otherVersion, invalidAnyVersion));
+        // the configuration of the artifact version is preferred
+        assertFalse(hasErrors(dir, invalidAnyVersion, spec()));
+        assertTrue(hasErrors(dir, anyVersion, invalid));
+        // the first configuration wins
+        assertFalse(hasErrors(dir, spec(), invalid));
+        assertTrue(hasErrors(dir, invalid, spec()));
+    }
+
+    @Test
+    public void testReportOrder() throws Exception {
+        File dir = tmp.newFolder("dist");
+        List<String> names = names(24);
+        String[] many = new String[2000];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = "jakarta.a.Foo" + i;
+        }
+        for (int i = 0; i < names.size(); i++) {
+            File file = new File(dir, names.get(i));
+            if (i % 8 == 0) {
+                // slower than the next ones
+                createSpecJar(file, many);
+            } else if (i % 3 == 0) {
+                createSpecJar(file, "jakarta.a.Foo", "jakarta.bad.Bar");
+            } else {
+                createSpecJar(file, "jakarta.a.Foo");
+            }
+        }
+        List<List<String>> reports = new ArrayList<>();
+        for (int threads : new int[] {1, 4}) {
+            File report = tmp.newFile("report-" + threads + ".jsonl");
+            CheckDistributionMojo mojo = createMojo(dir, threads);
+            Mojos.set(mojo, "specs", new ArrayList<>(Arrays.asList(spec())));
+            Mojos.set(mojo, "jsonLinesReport", report);
+            mojo.execute();
+            assertEquals(names, reportedFiles(report));
+            reports.add(Files.readAllLines(report.toPath()));
+        }
+        assertEquals(reports.get(0), reports.get(1));
+    }
+
+    @Test
+    public void testFailFast() throws Exception {
+        File dir = tmp.newFolder("dist");
+        List<String> names = names(40);
+        for (int i = 0; i < names.size(); i++) {
+            File file = new File(dir, names.get(i));
+            if (i == 1) {
+                createSpecJar(file, "jakarta.a.Foo", "jakarta.bad.Bar");
+            } else {
+                createSpecJar(file, "jakarta.a.Foo");
+            }
+        }
+        for (int threads : new int[] {1, 2}) {
+            File report = tmp.newFile("report-" + threads + ".jsonl");
+            File cache = tmp.newFolder("cache-" + threads);
+            CheckDistributionMojo mojo = createMojo(dir, threads);
+            Mojos.set(mojo, "specs", new ArrayList<>(Arrays.asList(spec())));
+            Mojos.set(mojo, "failFast", true);
+            Mojos.set(mojo, "jsonLinesReport", report);
+            // the cache records the verified jars
+            Mojos.set(mojo, "cache", new ResultCache(cache, "test"));
+            Mojos.set(mojo, "cacheMaxAge", 1);
+            Mojos.set(mojo, "cacheMaxSize", 1024L);
+            try {
+                mojo.execute();
+                fail("Expected MojoFailureException");
+            } catch (MojoFailureException ex) {
+                assertEquals("Found spec errors, verification stopped.", ex.getMessage());
+            }
+            assertEquals(names.subList(0, 2), reportedFiles(report));
+            // every verified jar is cached, at most one window of tasks is
+            // submitted ahead of the failed one
+            int verified = cache.list().length;
+            assertTrue(String.valueOf(verified), verified <= 2 + threads * 4);
+        }
+    }
+
+    @Test
+    public void testNestedJars() throws Exception {
+        byte[] a = Files.readAllBytes(createJar(tmp.newFile("a.jar"), "a").toPath());
+        byte[] b = Files.readAllBytes(createJar(tmp.newFile("b.jar"), "b").toPath());
+        File zip = new TestJar()
+                .entry("modules/a.jar", a)
+                .storedEntry("modules/b.jar", b)
+                .write(tmp.newFile("dist.zip"));
+        File cache = tmp.newFolder("cache");
+        for (long maxSize : new long[] {0L, 64L, 64L}) {
+            log.warnings.clear();
+            File report = tmp.newFile("report-" + maxSize + "-" + cache.list().length + ".jsonl");
+            CheckDistributionMojo mojo = createMojo(null, 2);
+            Mojos.set(mojo, "archives", Arrays.asList(zip));
+            Mojos.set(mojo, "includes", Arrays.asList("**/*.jar"));
+            Mojos.set(mojo, "nestedMaxSize", maxSize);
+            Mojos.set(mojo, "jsonLinesReport", report);
+            Mojos.set(mojo, "cache", new ResultCache(cache, "test"));
+            Mojos.set(mojo, "cacheMaxAge", 1);
+            Mojos.set(mojo, "cacheMaxSize", 1024L);
+            mojo.execute();
+            if (maxSize == 0L) {
+                // the stored jar is read in place, whatever its size
+                assertEquals(Arrays.asList("b.jar"), reportedFiles(report));
+                assertEquals(1, log.warnings.size());
+                assertTrue(log.warnings.get(0), log.warnings.get(0).endsWith(
+                        "a.jar is not verified, its size (" + a.length + " bytes) exceeds nestedMaxSize"));
+            } else {
+                assertEquals(Arrays.asList("a.jar", "b.jar"), reportedFiles(report));
+                assertEquals(Arrays.asList(), log.warnings);
+                assertEquals(2, cache.list().length);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClassIndexTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private static Map<String, Long> crcs(Object... entries) {
+        Map<String, Long> crcs = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            crcs.put((String) entries[i], (Long) entries[i + 1]);
+        }
+        return crcs;
+    }
+
+    private static byte[] bytes(int i) {
+        return new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, (byte) i};
+    }
+
+    @Test
+    public void testDuplicateClasses() {
+        ClassIndex index = new ClassIndex();
+        index.add("a.jar", crcs("jakarta/a/Foo.class", 1L, "jakarta/shared/Same.class", 2L,
+                "jakarta/shared/Other.class", 3L));
+        index.add("b.jar", crcs("jakarta/b/Bar.class", 4L, "jakarta/shared/Same.class", 2L,
+                "jakarta/shared/Other.class", 5L));
+        index.add("c.jar", Collections.<String, Long>emptyMap());
+        // the CRC-32 is unsigned
+        index.add("d.jar", crcs("jakarta/shared/Same.class", 2L, "jakarta/d/Max.class", 0xffffffffL));
+        assertEquals(5, index.size());
+
+        assertEquals(Arrays.asList(
+                "ERROR: class jakarta.shared.Other has different copies in a.jar, b.jar",
+                "WARNING: class jakarta.shared.Same is duplicated in a.jar, b.jar, d.jar"),
+                index.getErrors());
+    }
+
+    @Test
+    public void testNoDuplicateClasses() {
+        ClassIndex index = new ClassIndex();
+        index.add("a.jar", crcs("jakarta/a/Foo.class", 1L));
+        index.add("b.jar", crcs("jakarta/a/Bar.class", 1L));
+        assertEquals(2, index.size());
+        assertTrue(index.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testMultiRelease() throws IOException {
+        // the versioned copies of a class are not duplicates
+        File a = new TestJar()
+                .attribute("Multi-Release", "true")
+                .entry("jakarta/a/Foo.class", bytes(1))
+                .entry("META-INF/versions/11/jakarta/a/Foo.class", bytes(2))
+                .write(tmp.newFile("a.jar"));
+        File b = new TestJar()
+                .attribute("Multi-Release", "true")
+                .entry("jakarta/a/Foo.class", bytes(3))
+                .entry("META-INF/versions/11/jakarta/b/Bar.class", bytes(4))
+                .write(tmp.newFile("b.jar"));
+
+        ClassIndex index = new ClassIndex();
+        index.add("a.jar", JarSnapshot.of(a, null, true).getClassCrcs());
+        assertTrue(index.getErrors().isEmpty());
+        index.add("b.jar", JarSnapshot.of(b, null, true).getClassCrcs());
+        // only the base classes are compared
+        assertEquals(Arrays.asList("ERROR: class jakarta.a.Foo has different copies in a.jar, b.jar"),
+                index.getErrors());
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import org.glassfish.spec.Artifact;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConsoleReporterTest {
+
+    @Test
+    public void testReport() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Artifact a = new Artifact("jakarta.foo", "jakarta.foo-api", "1.0");
+        try (ConsoleReporter reporter = new ConsoleReporter(new PrintStream(bytes))) {
+            reporter.report(new VerificationResult(new File("a.jar"), a, "{ spec }",
+                    Collections.<String>emptyList()));
+            reporter.report(new VerificationResult(new File("b.jar"), a, "{ spec }",
+                    Arrays.asList("ERROR: foo", "WARNING: bar")));
+        }
+
+        // results without errors are not printed
+        String eol = System.lineSeparator();
+        assertEquals(eol + "[ jakarta.foo:jakarta.foo-api:1.0 ]" + eol + "{ spec }" + eol
+                + "- ERROR: foo" + eol + "- WARNING: bar" + eol + eol, bytes.toString());
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Artifact a = new Artifact("jakarta.foo", "jakarta.foo-api", "1.0");
+        try (ConsoleReporter reporter = new ConsoleReporter(new PrintStream(bytes))) {
+            reporter.report(new VerificationResult(new File("a.jar"), a, "",
+                    Arrays.asList("ERROR: foo")));
+            // printed before the reporter is closed
+            String eol = System.lineSeparator();
+            assertEquals(eol + "[ jakarta.foo:jakarta.foo-api:1.0 ]" + eol + "- ERROR: foo" + eol + eol,
+                    bytes.toString());
+        }
+    }
+}
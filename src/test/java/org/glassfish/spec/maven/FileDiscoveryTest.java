@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class FileDiscoveryTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private Path root;
+
+    @Before
+    public void setUp() throws IOException {
+        root = tmp.newFolder("dist").toPath();
+        for (String name : new String[] {
+            "javax.b.jar", "javax.a.jar", "jakarta.c.jar",
+            "modules/javax.d.jar", "modules/autostart/javax.e.jar", "README",
+        }) {
+            Path file = root.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.createFile(file);
+        }
+    }
+
+    private List<String> discover(List<String> includes, boolean followLinks, int maxDepth) {
+        PathPatterns patterns = new PathPatterns(includes, null);
+        Predicate<Path> filter = patterns::matches;
+        List<String> files = new ArrayList<>();
+        FileDiscovery discovery = new FileDiscovery(root, filter, followLinks, maxDepth);
+        while (discovery.hasNext()) {
+            files.add(root.relativize(discovery.next()).toString().replace(File.separatorChar, '/'));
+        }
+        return files;
+    }
+
+    private void symlink(String link, Path target) throws IOException {
+        try {
+            Files.createSymbolicLink(root.resolve(link), target);
+        } catch (UnsupportedOperationException | FileSystemException ex) {
+            Assume.assumeNoException(ex);
+        }
+    }
+
+    @Test
+    public void testDefaultIncludes() {
+        // the former javax*.jar file name filter only listed the top level
+        assertEquals(Arrays.asList("javax.a.jar", "javax.b.jar"),
+                discover(Collections.singletonList("javax*.jar"), false, 0));
+    }
+
+    @Test
+    public void testAnyDirs() {
+        assertEquals(Arrays.asList("javax.a.jar", "javax.b.jar", "modules/autostart/javax.e.jar",
+                "modules/javax.d.jar"), discover(Collections.singletonList("**/javax*.jar"), false, 0));
+    }
+
+    @Test
+    public void testMaxDepth() {
+        List<String> includes = Collections.singletonList("**/*.jar");
+        assertEquals(Arrays.asList("jakarta.c.jar", "javax.a.jar", "javax.b.jar"), discover(includes, false, 1));
+        assertEquals(Arrays.asList("jakarta.c.jar", "javax.a.jar", "javax.b.jar", "modules/javax.d.jar"),
+                discover(includes, false, 2));
+        assertEquals(5, discover(includes, false, 3).size());
+    }
+
+    @Test
+    public void testSymlinkLoop() throws IOException {
+        symlink("modules/autostart/loop", root);
+        List<String> includes = Collections.singletonList("**/javax.e.jar");
+        // not followed
+        assertEquals(Arrays.asList("modules/autostart/javax.e.jar"), discover(includes, false, 0));
+        // followed once, the loop back to the root is detected
+        assertEquals(Arrays.asList("modules/autostart/javax.e.jar"), discover(includes, true, 0));
+    }
+
+    @Test
+    public void testSymlinkToDirectory() throws IOException {
+        Path other = tmp.newFolder("other").toPath();
+        Files.createFile(other.resolve("javax.f.jar"));
+        symlink("linked", other);
+        List<String> includes = Collections.singletonList("**/javax.f.jar");
+        assertEquals(Collections.emptyList(), discover(includes, false, 0));
+        assertEquals(Arrays.asList("linked/javax.f.jar"), discover(includes, true, 0));
+    }
+}
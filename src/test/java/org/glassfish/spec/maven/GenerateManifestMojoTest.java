@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.Spec;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.glassfish.spec.maven.Mojos.set;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GenerateManifestMojoTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private static Spec spec() {
+        Spec spec = new Spec();
+        spec.setSpecVersion("2.0");
+        spec.setSpecImplVersion("2.0.1");
+        spec.setApiPackage("jakarta.foo");
+        return spec;
+    }
+
+    private static GenerateManifestMojo mojo(File manifestFile, boolean merge) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("jakarta.foo");
+        project.setArtifactId("jakarta.foo-api");
+        project.setVersion("2.0.1");
+        GenerateManifestMojo mojo = new GenerateManifestMojo();
+        set(mojo, "project", project);
+        set(mojo, "specMode", "jakarta");
+        set(mojo, "manifestFile", manifestFile);
+        set(mojo, "mergeManifest", merge);
+        set(mojo, "spec", spec());
+        mojo.setLog(new Mojos.RecordingLog());
+        return mojo;
+    }
+
+    private static Manifest read(File file) throws IOException {
+        try (InputStream is = new FileInputStream(file)) {
+            return new Manifest(is);
+        }
+    }
+
+    private File writeExisting() throws IOException {
+        Manifest manifest = new Manifest();
+        Attributes main = manifest.getMainAttributes();
+        main.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        main.putValue("Created-By", "test");
+        main.putValue(Metadata.BUNDLE_VERSION, "1.0");
+        Attributes section = new Attributes();
+        section.putValue("Sealed", "true");
+        manifest.getEntries().put("jakarta/foo/", section);
+        File file = tmp.newFile("MANIFEST.MF");
+        try (OutputStream os = new FileOutputStream(file)) {
+            manifest.write(os);
+        }
+        return file;
+    }
+
+    private static void assertSpecHeaders(Attributes main) {
+        assertEquals("1.0", main.getValue(Attributes.Name.MANIFEST_VERSION));
+        assertEquals("jakarta.foo-api", main.getValue(Metadata.BUNDLE_SYMBOLIC_NAME));
+        assertEquals("2.0.1", main.getValue(Metadata.BUNDLE_VERSION));
+        assertEquals("jakarta.foo", main.getValue(Metadata.JAR_EXTENSION_NAME));
+        assertEquals("2.0", main.getValue(Metadata.JAR_SPECIFICATION_VERSION));
+        assertEquals("2.0.1", main.getValue(Metadata.JAR_IMPLEMENTATION_VERSION));
+        // not a manifest header
+        assertNull(main.getValue(Metadata.BUNDLE_SPEC_VERSION));
+    }
+
+    @Test
+    public void testManifestAttributes() {
+        Spec spec = spec();
+        spec.setArtifact(new Artifact("jakarta.foo", "jakarta.foo-api", "2.0.1"));
+        Metadata metadata = spec.getMetadata();
+        assertEquals(Arrays.asList(Metadata.BUNDLE_SYMBOLIC_NAME, Metadata.BUNDLE_VERSION,
+                Metadata.JAR_EXTENSION_NAME, Metadata.JAR_SPECIFICATION_VERSION, Metadata.JAR_IMPLEMENTATION_VERSION),
+                new ArrayList<>(metadata.getManifestAttributes().keySet()));
+        assertEquals("2.0.1", metadata.getManifestAttributes().get(Metadata.BUNDLE_VERSION));
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        File file = new File(tmp.getRoot(), "spec-manifest/MANIFEST.MF");
+        mojo(file, true).execute();
+
+        Attributes main = read(file).getMainAttributes();
+        assertSpecHeaders(main);
+        assertEquals(6, main.size());
+    }
+
+    @Test
+    public void testMerge() throws Exception {
+        File file = writeExisting();
+        mojo(file, true).execute();
+
+        Manifest manifest = read(file);
+        assertSpecHeaders(manifest.getMainAttributes());
+        assertEquals("test", manifest.getMainAttributes().getValue("Created-By"));
+        assertEquals("true", manifest.getAttributes("jakarta/foo/").getValue("Sealed"));
+    }
+
+    @Test
+    public void testReplace() throws Exception {
+        File file = writeExisting();
+        mojo(file, false).execute();
+
+        Manifest manifest = read(file);
+        assertSpecHeaders(manifest.getMainAttributes());
+        assertNull(manifest.getMainAttributes().getValue("Created-By"));
+        assertEquals(0, manifest.getEntries().size());
+    }
+
+    @Test
+    public void testUpToDate() throws Exception {
+        File file = writeExisting();
+        mojo(file, true).execute();
+        byte[] content = Files.readAllBytes(file.toPath());
+        long lastModified = 1_000_000_000_000L;
+        assertTrue(file.setLastModified(lastModified));
+
+        mojo(file, true).execute();
+        assertEquals(lastModified, file.lastModified());
+        assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void testMissingConfiguration() throws Exception {
+        File file = new File(tmp.getRoot(), "spec-manifest/MANIFEST.MF");
+        GenerateManifestMojo mojo = mojo(file, true);
+        Spec spec = spec();
+        spec.setSpecImplVersion(null);
+        set(mojo, "spec", spec);
+        try {
+            mojo.execute();
+            fail("expected a failure");
+        } catch (MojoFailureException ex) {
+            // expected
+        }
+        assertFalse(file.exists());
+        assertEquals(Arrays.asList("ERROR: missing configuration ( spec-impl-version )"),
+                ((Mojos.RecordingLog) mojo.getLog()).errors);
+    }
+
+    @Test
+    public void testInvalidConfiguration() throws Exception {
+        File file = writeExisting();
+        byte[] content = Files.readAllBytes(file.toPath());
+        GenerateManifestMojo mojo = mojo(file, true);
+        MavenProject project = new MavenProject();
+        project.setGroupId("jakarta.foo");
+        project.setArtifactId("jakarta.foo-api");
+        project.setVersion("2.0.2");
+        set(mojo, "project", project);
+        try {
+            mojo.execute();
+            fail("expected a failure");
+        } catch (MojoFailureException ex) {
+            // expected
+        }
+        assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+        assertEquals(Arrays.asList("WARNING: Implementation-Version (2.0.1) should be equal to Maven-Version (2.0.2)",
+                "WARNING: Bundle-Version (2.0.1) should be 2.0.2"),
+                ((Mojos.RecordingLog) mojo.getLog()).errors);
+
+        set(mojo, "ignoreErrors", true);
+        mojo.execute();
+        assertSpecHeaders(read(file).getMainAttributes());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.glassfish.spec.Artifact;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import static org.junit.Assert.assertEquals;
+
+public class JUnitReporterTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testHeader() throws Exception {
+        File file = new File(tmp.getRoot(), "reports/TEST-spec.xml");
+        File jar = new File("foo.jar");
+        Artifact a = new Artifact("jakarta.foo", "jakarta.foo-api", "1.0");
+        try (JUnitReporter reporter = new JUnitReporter(file, "spec")) {
+            reporter.report(new VerificationResult(jar, a, "", Collections.<String>emptyList()));
+            reporter.report(new VerificationResult(jar, a, "", Arrays.asList("ERROR: foo")));
+            reporter.report(new VerificationResult(jar, a, "", Arrays.asList("ERROR: bar")));
+        }
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        String header = "<testsuite name=\"spec\"";
+        String counts = " tests=\"3\" failures=\"2\" errors=\"0\" skipped=\"0\"";
+        // the counts are written in the blanks reserved after the name
+        assertEquals(header.length() + 80 + 1, lines.get(1).length());
+        assertEquals(header + counts, lines.get(1).trim().replaceAll(">$", "").trim());
+
+        Element suite = parse(file).getDocumentElement();
+        assertEquals("3", suite.getAttribute("tests"));
+        assertEquals("2", suite.getAttribute("failures"));
+        assertEquals(3, suite.getElementsByTagName("testcase").getLength());
+        assertEquals(2, suite.getElementsByTagName("failure").getLength());
+    }
+
+    @Test
+    public void testEscaping() throws Exception {
+        File file = tmp.newFile("TEST-spec.xml");
+        Artifact a = new Artifact("jakarta.foo", "jakarta.foo-api", "1.0");
+        String error = "ERROR: <Foo> & \"Bar\"\u0001";
+        try (JUnitReporter reporter = new JUnitReporter(file, "<spec>")) {
+            reporter.report(new VerificationResult(new File("a&b.jar"), a, "{ spec }", Arrays.asList(error)));
+        }
+
+        Element suite = parse(file).getDocumentElement();
+        assertEquals("<spec>", suite.getAttribute("name"));
+        Element testcase = (Element) suite.getElementsByTagName("testcase").item(0);
+        assertEquals("jakarta.foo", testcase.getAttribute("classname"));
+        assertEquals("jakarta.foo-api:1.0", testcase.getAttribute("name"));
+        assertEquals("a&b.jar", testcase.getAttribute("file"));
+        Element failure = (Element) testcase.getElementsByTagName("failure").item(0);
+        // characters not allowed in XML are dropped
+        assertEquals("ERROR: <Foo> & \"Bar\"", failure.getAttribute("message"));
+        assertEquals("{ spec }\n- ERROR: <Foo> & \"Bar\"\n", failure.getTextContent());
+    }
+
+    private static Document parse(File file) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+    }
+}
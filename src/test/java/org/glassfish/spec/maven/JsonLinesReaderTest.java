@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class JsonLinesReaderTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private File write(String... lines) throws IOException {
+        File file = tmp.newFile();
+        Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static void assertMalformed(File file, int line) throws IOException {
+        try (JsonLinesReader reader = new JsonLinesReader(file)) {
+            for (int i = 1; i < line; i++) {
+                reader.next();
+            }
+            reader.next();
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            assertEquals("malformed result at line " + line + " of " + file, ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        File file = write(
+                "{\"file\":\"a.jar\",\"groupId\":\"jakarta.a\",\"artifactId\":\"a\",\"version\":\"1.0\","
+                        + "\"spec\":\"\",\"errors\":[\"ERROR: \\u0041\"],\"unknown\":[\"x\"],\"other\":null}",
+                "",
+                " { \"spec\" : \"{ spec }\" , \"errors\" : [ ] , \"file\" : \"b.jar\" } ");
+        try (JsonLinesReader reader = new JsonLinesReader(file)) {
+            VerificationResult a = reader.next();
+            assertEquals(new File("a.jar"), a.getFile());
+            assertEquals("jakarta.a", a.getArtifact().getGroupId());
+            assertEquals("1.0", a.getArtifact().getVersion().toString());
+            assertEquals(Arrays.asList("ERROR: A"), a.getErrors());
+            VerificationResult b = reader.next();
+            assertEquals(new File("b.jar"), b.getFile());
+            assertEquals("{ spec }", b.getDescription());
+            assertEquals(Collections.emptyList(), b.getErrors());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void testMalformed() throws IOException {
+        String valid = "{\"file\":\"a.jar\",\"spec\":\"\",\"errors\":[]}";
+        assertMalformed(write(valid, "{\"file\":\"b.jar\",\"spec\":\"\",\"errors\":[]"), 2);
+        assertMalformed(write(valid, valid + " trailing"), 2);
+        // missing errors
+        assertMalformed(write("{\"file\":\"a.jar\",\"spec\":\"\"}"), 1);
+        assertMalformed(write("{\"file\":\"a.jar\",\"spec\":\"\",\"errors\":[\"unterminated]}"), 1);
+        assertMalformed(write("{\"file\":\"a.jar\",\"spec\":\"\",\"errors\":[\"\\u00\"]}"), 1);
+        assertMalformed(write("{\"file\":\"a.jar\",\"spec\":\"\",\"errors\":[],\"classes\":[\"bad\"]}"), 1);
+        assertMalformed(write("not json"), 1);
+    }
+}
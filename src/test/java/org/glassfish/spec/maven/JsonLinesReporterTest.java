@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.glassfish.spec.Artifact;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class JsonLinesReporterTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testEscaping() throws Exception {
+        File file = new File(tmp.getRoot(), "reports/spec.jsonl");
+        Artifact a = new Artifact("jakarta.foo", "jakarta.foo-api", "1.0");
+        String error = "ERROR: \"Foo\" \\ Bar\n\r\t\u0001";
+        try (JsonLinesReporter reporter = new JsonLinesReporter(file)) {
+            reporter.report(new VerificationResult(new File("foo.jar"), a, "{ spec }", Arrays.asList(error)));
+        }
+
+        assertEquals(Arrays.asList("{\"file\":\"foo.jar\",\"groupId\":\"jakarta.foo\","
+                + "\"artifactId\":\"jakarta.foo-api\",\"version\":\"1.0\",\"spec\":\"{ spec }\","
+                + "\"errors\":[\"ERROR: \\\"Foo\\\" \\\\ Bar\\n\\r\\t\\u0001\"]}"),
+                Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+        try (JsonLinesReader reader = new JsonLinesReader(file)) {
+            VerificationResult result = reader.next();
+            assertEquals(Arrays.asList(error), result.getErrors());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void testPackagesAndClasses() throws Exception {
+        File file = tmp.newFile("spec.jsonl");
+        Artifact a = new Artifact("jakarta.foo", "jakarta.foo-api", "1.0");
+        Map<String, Long> crcs = new LinkedHashMap<>();
+        crcs.put("jakarta/foo/Foo.class", 42L);
+        try (JsonLinesReporter reporter = new JsonLinesReporter(file)) {
+            reporter.report(new VerificationResult(new File("foo.jar"), a, "", Collections.<String>emptyList(),
+                    Arrays.asList("jakarta.foo", "jakarta.foo.spi"), crcs));
+        }
+
+        try (JsonLinesReader reader = new JsonLinesReader(file)) {
+            VerificationResult result = reader.next();
+            assertEquals(new File("foo.jar"), result.getFile());
+            assertEquals(a, result.getArtifact());
+            assertEquals(Collections.emptyList(), result.getErrors());
+            assertEquals(Arrays.asList("jakarta.foo", "jakarta.foo.spi"), result.getPackages());
+            assertEquals(crcs, result.getClassCrcs());
+            assertNull(reader.next());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.glassfish.spec.Artifact;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MergeDistributionMojoTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private final Mojos.RecordingLog log = new Mojos.RecordingLog();
+
+    private static VerificationResult result(String file, String pkg, String... errors) {
+        return new VerificationResult(new File(file), new Artifact("jakarta.foo", file, "1.0"), "",
+                Arrays.asList(errors), Collections.singletonList(pkg), Collections.<String, Long>emptyMap());
+    }
+
+    private static File shard(File file, VerificationResult... results) throws IOException {
+        try (JsonLinesReporter reporter = new JsonLinesReporter(file)) {
+            for (VerificationResult result : results) {
+                reporter.report(result);
+            }
+        }
+        return file;
+    }
+
+    private MergeDistributionMojo createMojo(File... partialResults) {
+        MergeDistributionMojo mojo = new MergeDistributionMojo();
+        Mojos.set(mojo, "partialResults", Arrays.asList(partialResults));
+        Mojos.set(mojo, "failOnSpecCheckDistributionErrors", true);
+        mojo.setLog(log);
+        return mojo;
+    }
+
+    private static List<String> reportedFiles(File report) throws IOException {
+        List<String> files = new ArrayList<>();
+        try (JsonLinesReader reader = new JsonLinesReader(report)) {
+            VerificationResult result;
+            while ((result = reader.next()) != null) {
+                files.add(result.getFile().getPath());
+            }
+        }
+        return files;
+    }
+
+    @Test
+    public void testMerge() throws Exception {
+        File shards = tmp.newFolder("shards");
+        shard(new File(shards, "shard-1.jsonl"), result("c.jar", "jakarta.c"));
+        shard(new File(shards, "shard-0.jsonl"), result("a.jar", "jakarta.a"), result("b.jar", "jakarta.b"));
+        Files.write(new File(shards, "README").toPath(), "not a result".getBytes(StandardCharsets.UTF_8));
+        File report = new File(tmp.getRoot(), "merged.jsonl");
+
+        MergeDistributionMojo mojo = createMojo(shards);
+        Mojos.set(mojo, "checkSplitPackages", true);
+        Mojos.set(mojo, "jsonLinesReport", report);
+        mojo.execute();
+        // shards in name order
+        assertEquals(Arrays.asList("a.jar", "b.jar", "c.jar"), reportedFiles(report));
+        assertTrue(log.errors.isEmpty());
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        File shard = shard(tmp.newFile("shard-0.jsonl"), result("a.jar", "jakarta.a"),
+                result("b.jar", "jakarta.b", "ERROR: foo"));
+        try {
+            createMojo(shard).execute();
+            fail("Expected MojoFailureException");
+        } catch (MojoFailureException ex) {
+            assertEquals("Found spec errors.", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testSplitPackageAcrossShards() throws Exception {
+        File shard0 = shard(tmp.newFile("shard-0.jsonl"), result("a.jar", "jakarta.a"));
+        File shard1 = shard(tmp.newFile("shard-1.jsonl"), result("b.jar", "jakarta.a"));
+        MergeDistributionMojo mojo = createMojo(shard0, shard1);
+        Mojos.set(mojo, "checkSplitPackages", true);
+        try {
+            mojo.execute();
+            fail("Expected MojoFailureException");
+        } catch (MojoFailureException ex) {
+            assertEquals("Found spec errors.", ex.getMessage());
+        }
+        assertEquals(1, log.errors.size());
+        assertTrue(log.errors.get(0), log.errors.get(0).contains("jakarta.a"));
+    }
+
+    @Test
+    public void testMissingShard() throws Exception {
+        File missing = new File(tmp.getRoot(), "shard-1.jsonl");
+        try {
+            createMojo(shard(tmp.newFile("shard-0.jsonl")), missing).execute();
+            fail("Expected MojoFailureException");
+        } catch (MojoFailureException ex) {
+            assertEquals("partial result (" + missing.getAbsolutePath() + ") does not exist", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testMalformedShard() throws Exception {
+        File shard = tmp.newFile("shard-0.jsonl");
+        Files.write(shard.toPath(), Arrays.asList(
+                "{\"file\":\"a.jar\",\"spec\":\"\",\"errors\":[]}",
+                "{\"file\":\"b.jar\",\"spec\":\"\""), StandardCharsets.UTF_8);
+        try {
+            createMojo(shard).execute();
+            fail("Expected MojoExecutionException");
+        } catch (MojoExecutionException ex) {
+            assertEquals("malformed result at line 2 of " + shard, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PackageIndexTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testSplitPackages() {
+        PackageIndex index = new PackageIndex();
+        index.add("a.jar", Arrays.asList("jakarta.a", "jakarta.shared", ""));
+        index.add("b.jar", Arrays.asList("jakarta.b", "jakarta.shared"));
+        index.add("c.jar", Collections.<String>emptyList());
+        index.add("d.jar", Arrays.asList("jakarta.shared", ""));
+        assertEquals(4, index.size());
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("", Arrays.asList("a.jar", "d.jar"));
+        expected.put("jakarta.shared", Arrays.asList("a.jar", "b.jar", "d.jar"));
+        assertEquals(expected, index.getSplitPackages());
+        assertEquals(Arrays.asList(
+                "ERROR: package (default) is split across a.jar, d.jar",
+                "ERROR: package jakarta.shared is split across a.jar, b.jar, d.jar"),
+                index.getErrors());
+    }
+
+    @Test
+    public void testNoSplitPackages() {
+        PackageIndex index = new PackageIndex();
+        index.add("a.jar", Arrays.asList("jakarta.a", "jakarta.a.spi"));
+        index.add("b.jar", Arrays.asList("jakarta.b"));
+        assertEquals(3, index.size());
+        assertTrue(index.getSplitPackages().isEmpty());
+        assertTrue(index.getErrors().isEmpty());
+    }
+
+    @Test
+    public void testMultiRelease() throws IOException {
+        // the base and versioned classes of a jar are one package
+        File a = new TestJar()
+                .attribute("Multi-Release", "true")
+                .classes("jakarta.a.Foo", "META-INF.versions.11.jakarta.a.Foo")
+                .write(tmp.newFile("a.jar"));
+        // a package only found in a release is still split
+        File b = new TestJar()
+                .attribute("Multi-Release", "true")
+                .classes("jakarta.b.Bar", "META-INF.versions.11.jakarta.a.Baz")
+                .write(tmp.newFile("b.jar"));
+
+        PackageIndex index = new PackageIndex();
+        index.add("a.jar", JarSnapshot.of(a).getPackages());
+        index.add("b.jar", JarSnapshot.of(b).getPackages());
+        assertEquals(Collections.singletonMap("jakarta.a", Arrays.asList("a.jar", "b.jar")),
+                index.getSplitPackages());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PathPatternsTest {
+
+    @Test
+    public void testDefaultIncludes() {
+        // same files as the former javax*.jar file name filter
+        PathPatterns patterns = new PathPatterns(Arrays.asList("javax*.jar"), null);
+        assertTrue(patterns.matches(Paths.get("javax.servlet-api.jar")));
+        assertTrue(patterns.matches(Paths.get("javax.jar")));
+        assertFalse(patterns.matches(Paths.get("jakarta.servlet-api.jar")));
+        assertFalse(patterns.matches(Paths.get("javax.servlet-api.zip")));
+        assertFalse(patterns.matches(Paths.get("modules", "javax.servlet-api.jar")));
+    }
+
+    @Test
+    public void testAnyDirs() {
+        PathPatterns patterns = new PathPatterns(Arrays.asList("**/jakarta.*.jar"), null);
+        assertTrue(patterns.matches(Paths.get("jakarta.el-api.jar")));
+        assertTrue(patterns.matches(Paths.get("modules", "jakarta.el-api.jar")));
+        assertTrue(patterns.matches(Paths.get("glassfish", "modules", "jakarta.el-api.jar")));
+        assertFalse(patterns.matches(Paths.get("modules", "javax.el-api.jar")));
+    }
+
+    @Test
+    public void testExcludes() {
+        PathPatterns patterns = new PathPatterns(Arrays.asList("**/*.jar"),
+                Arrays.asList("**/*-sources.jar, lib/**"));
+        assertTrue(patterns.matches(Paths.get("modules", "jakarta.el-api.jar")));
+        assertFalse(patterns.matches(Paths.get("modules", "jakarta.el-api-sources.jar")));
+        assertFalse(patterns.matches(Paths.get("lib", "jakarta.el-api.jar")));
+        assertFalse(new PathPatterns(Collections.<String>emptyList(), null)
+                .matches(Paths.get("jakarta.el-api.jar")));
+    }
+
+    @Test
+    public void testEntryNames() {
+        PathPatterns patterns = new PathPatterns(Arrays.asList("WEB-INF/lib/*.jar"), null);
+        assertTrue(patterns.matches("WEB-INF/lib/jakarta.el-api.jar"));
+        assertFalse(patterns.matches("WEB-INF/classes/jakarta.el-api.jar"));
+        assertFalse(patterns.matches("jakarta.el-api.jar"));
+        assertTrue(new PathPatterns(Arrays.asList("**/*.jar"), null).matches("jakarta.el-api.jar"));
+    }
+
+    @Test
+    public void testGroups() {
+        PathPatterns patterns = new PathPatterns(Arrays.asList("{javax,jakarta}*.jar"), null);
+        assertTrue(patterns.matches(Paths.get("javax.servlet-api.jar")));
+        assertTrue(patterns.matches(Paths.get("jakarta.servlet-api.jar")));
+        assertFalse(patterns.matches(Paths.get("javax")));
+        assertFalse(patterns.matches(Paths.get("jakarta.servlet-api.zip")));
+
+        // the commas outside of the groups still separate the patterns
+        patterns = new PathPatterns(Arrays.asList("{javax,jakarta}*.jar, **/*.{war,ear}"), null);
+        assertTrue(patterns.matches(Paths.get("jakarta.servlet-api.jar")));
+        assertTrue(patterns.matches(Paths.get("apps", "foo.ear")));
+        assertFalse(patterns.matches(Paths.get("apps", "foo.zip")));
+    }
+}
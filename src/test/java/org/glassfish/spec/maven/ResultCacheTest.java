@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.Spec;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResultCacheTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private final Artifact artifact = new Artifact("jakarta.foo", "jakarta.foo-api", "1.0");
+
+    private File dir;
+
+    private File jar;
+
+    private Spec spec;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = tmp.newFolder("cache");
+        jar = tmp.newFile("foo.jar");
+        Files.write(jar.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+        spec = new Spec();
+        spec.setArtifact(artifact);
+        spec.setSpecVersion("1.0");
+        spec.setApiPackage("jakarta.foo");
+    }
+
+    private VerificationResult result(String... errors) {
+        return new VerificationResult(jar, artifact, "jakarta.foo", Arrays.asList(errors));
+    }
+
+    private Function<Artifact, String> fingerprints(final ResultCache cache) {
+        return a -> cache.fingerprint(spec.getConfigurationKey() + '|' + a);
+    }
+
+    private static List<String> list(File dir) {
+        List<String> names = new ArrayList<>(Arrays.asList(dir.list()));
+        Collections.sort(names);
+        return names;
+    }
+
+    @Test
+    public void testHit() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        String key = cache.key(jar);
+        assertEquals(key, cache.key(Files.readAllBytes(jar.toPath())));
+        assertNull(cache.get(key, jar, fingerprints(cache)));
+
+        cache.put(key, fingerprints(cache).apply(artifact), result("ERROR: foo"));
+        VerificationResult cached = new ResultCache(dir, "plugin").get(key, jar, fingerprints(cache));
+        assertNotNull(cached);
+        assertEquals(artifact, cached.getArtifact());
+        assertEquals("jakarta.foo", cached.getDescription());
+        assertEquals(Arrays.asList("ERROR: foo"), cached.getErrors());
+        assertEquals(jar, cached.getFile());
+    }
+
+    @Test
+    public void testMissAfterSpecChange() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        String key = cache.key(jar);
+        cache.put(key, fingerprints(cache).apply(artifact), result());
+        assertNotNull(cache.get(key, jar, fingerprints(cache)));
+
+        spec.setApiPackage("jakarta.bar");
+        assertNull(cache.get(key, jar, fingerprints(cache)));
+    }
+
+    @Test
+    public void testMissAfterSaltChange() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin|digest1");
+        String key = cache.key(jar);
+        cache.put(key, fingerprints(cache).apply(artifact), result());
+
+        ResultCache rebuilt = new ResultCache(dir, "plugin|digest2");
+        assertNotEquals(cache.fingerprint("config"), rebuilt.fingerprint("config"));
+        assertNull(rebuilt.get(key, jar, fingerprints(rebuilt)));
+    }
+
+    @Test
+    public void testAtomicWrite() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        String key = cache.key(jar);
+        String fingerprint = fingerprints(cache).apply(artifact);
+        cache.put(key, fingerprint, result("ERROR: foo"));
+        cache.put(key, fingerprint, result());
+
+        // no temporary file left over, the entry is replaced
+        List<String> names = list(dir);
+        assertEquals(2, names.size());
+        assertTrue(names.remove(key + ".properties"));
+        assertTrue(names.get(0), names.get(0).endsWith(".digest"));
+        assertTrue(cache.get(key, jar, fingerprints(cache)).getErrors().isEmpty());
+    }
+
+    @Test
+    public void testRecordedDigest() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        long lastModified = System.currentTimeMillis() - 60_000L;
+        assertTrue(jar.setLastModified(lastModified));
+        String key = cache.key(jar);
+
+        // same path, size and modification time, the recorded digest is used
+        Files.write(jar.toPath(), "changed".getBytes(StandardCharsets.UTF_8));
+        assertTrue(jar.setLastModified(lastModified));
+        assertEquals(key, new ResultCache(dir, "plugin").key(jar));
+
+        // the digest is computed again once the modification time changes
+        assertTrue(jar.setLastModified(lastModified - 60_000L));
+        String changed = cache.key(jar);
+        assertNotEquals(key, changed);
+        assertEquals(changed, cache.key(Files.readAllBytes(jar.toPath())));
+    }
+
+    @Test
+    public void testCorruptRecordedDigest() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        String key = cache.key(jar);
+        File[] digests = dir.listFiles((d, name) -> name.endsWith(".digest"));
+        assertEquals(1, digests.length);
+        Files.write(digests[0].toPath(), "foo".getBytes(StandardCharsets.UTF_8));
+        assertEquals(key, cache.key(jar));
+    }
+
+    @Test
+    public void testUnreadableEntry() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        String key = cache.key(jar);
+        Files.write(new File(dir, key + ".properties").toPath(),
+                "errors=1\n".getBytes(StandardCharsets.UTF_8));
+        assertNull(cache.get(key, jar, fingerprints(cache)));
+    }
+
+    @Test
+    public void testEvictByAge() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        String fingerprint = fingerprints(cache).apply(artifact);
+        cache.put("old", fingerprint, result());
+        cache.put("new", fingerprint, result());
+        File tmpFile = new File(dir, "interrupted.tmp");
+        assertTrue(tmpFile.createNewFile());
+        long now = System.currentTimeMillis();
+        assertTrue(new File(dir, "old.properties").setLastModified(now - 2 * DAY));
+        assertTrue(tmpFile.setLastModified(now - 2 * DAY));
+
+        assertEquals(1, cache.evict(DAY, Long.MAX_VALUE));
+        assertEquals(Arrays.asList("new.properties"), list(dir));
+    }
+
+    @Test
+    public void testEvictBySize() throws IOException {
+        ResultCache cache = new ResultCache(dir, "plugin");
+        String fingerprint = fingerprints(cache).apply(artifact);
+        long now = System.currentTimeMillis();
+        String[] keys = {"a", "b", "c"};
+        for (int i = 0; i < keys.length; i++) {
+            cache.put(keys[i], fingerprint, result());
+            // a is the least recently used
+            assertTrue(new File(dir, keys[i] + ".properties").setLastModified(now - (keys.length - i) * 60_000L));
+        }
+        long size = new File(dir, "c.properties").length();
+
+        assertEquals(1, cache.evict(DAY, 2 * size + 1));
+        assertEquals(Arrays.asList("b.properties", "c.properties"), list(dir));
+        assertFalse(new File(dir, "a.properties").exists());
+
+        assertEquals(2, cache.evict(DAY, 0));
+        assertTrue(list(dir).isEmpty());
+    }
+}
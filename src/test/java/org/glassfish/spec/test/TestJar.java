@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+/**
+ * Builder of JAR files for tests.
+ */
+public class TestJar {
+
+    private final Manifest manifest = new Manifest();
+    private final Map<String, byte[]> entries = new LinkedHashMap<>();
+    private final Map<String, Boolean> stored = new LinkedHashMap<>();
+
+    public TestJar() {
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    }
+
+    public TestJar attribute(String name, String value) {
+        manifest.getMainAttributes().putValue(name, value);
+        return this;
+    }
+
+    public TestJar artifact(String groupId, String artifactId, String version) {
+        return entry("META-INF/maven/" + groupId + "/" + artifactId + "/pom.properties",
+                ("groupId=" + groupId + "\n"
+                + "artifactId=" + artifactId + "\n"
+                + "version=" + version + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    public TestJar classes(String... names) {
+        for (String name : names) {
+            entry(name.replace('.', '/') + ".class", new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+        }
+        return this;
+    }
+
+    public TestJar entry(String name, byte[] data) {
+        entries.put(name, data);
+        return this;
+    }
+
+    public TestJar storedEntry(String name, byte[] data) {
+        stored.put(name, Boolean.TRUE);
+        return entry(name, data);
+    }
+
+    public File write(File file) throws IOException {
+        try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(file), manifest)) {
+            for (Map.Entry<String, byte[]> e : entries.entrySet()) {
+                JarEntry entry = new JarEntry(e.getKey());
+                if (stored.containsKey(e.getKey())) {
+                    CRC32 crc = new CRC32();
+                    crc.update(e.getValue());
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(e.getValue().length);
+                    entry.setCrc(crc.getValue());
+                }
+                jos.putNextEntry(entry);
+                jos.write(e.getValue());
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.ClassReferences;
+import org.glassfish.spec.JarReader;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.PackageMatcher;
+import org.glassfish.spec.Spec;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ClassReferencesTest {
+
+    private static final String API_PACKAGE = ClassReferencesTest.class.getPackage().getName();
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    static class Fixture {
+
+        private AtomicInteger counter;
+
+        URI uri(Artifact[] artifacts) {
+            return null;
+        }
+    }
+
+    private static String entryName(Class<?> cls) {
+        return cls.getName().replace('.', '/') + ".class";
+    }
+
+    private static byte[] classFile(Class<?> cls) throws IOException {
+        try (InputStream is = cls.getClassLoader().getResourceAsStream(entryName(cls))) {
+            byte[] buf = new byte[8192];
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int n;
+            while ((n = is.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private File createJar() throws IOException {
+        return new TestJar()
+                .entry(entryName(Fixture.class), classFile(Fixture.class))
+                .entry("org/glassfish/spec/Other.class", classFile(Fixture.class))
+                .write(tmp.newFile("refs.jar"));
+    }
+
+    private static List<String> referenceErrors(Spec spec) {
+        List<String> errors = new ArrayList<>();
+        for (String error : spec.getErrors()) {
+            if (error.contains(" references ")) {
+                errors.add(error);
+            }
+        }
+        return errors;
+    }
+
+    @Test
+    public void testCollect() throws IOException {
+        Set<String> pkgs = new HashSet<>();
+        ClassReferences.collect("Fixture", classFile(Fixture.class), pkgs);
+        assertTrue(pkgs.toString(), pkgs.containsAll(Arrays.asList(
+                API_PACKAGE, "java.lang", "java.net", "java.util.concurrent.atomic", "org.glassfish.spec")));
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedClassFile() throws IOException {
+        byte[] bytes = classFile(Fixture.class);
+        ClassReferences.collect("Fixture", Arrays.copyOf(bytes, bytes.length / 2), new HashSet<String>());
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidClassFile() throws IOException {
+        ClassReferences.collect("Fixture", new byte[64], new HashSet<String>());
+    }
+
+    @Test
+    public void testSnapshotReferences() throws IOException {
+        File jar = createJar();
+        JarSnapshot snapshot = JarSnapshot.of(jar, PackageMatcher.of(API_PACKAGE));
+        assertEquals(Arrays.asList(API_PACKAGE), new ArrayList<>(snapshot.getReferences().keySet()));
+        assertTrue(snapshot.getReferences().get(API_PACKAGE).contains("java.net"));
+        assertTrue(JarSnapshot.of(jar).getReferences().isEmpty());
+    }
+
+    @Test
+    public void testDeferredReferences() throws IOException {
+        // the second class is not valid, it must not be read
+        File file = new TestJar()
+                .entry(entryName(Fixture.class), classFile(Fixture.class))
+                .entry(API_PACKAGE.replace('.', '/') + "/Invalid.class", new byte[64])
+                .write(tmp.newFile("deferred.jar"));
+        try (JarReader jar = JarReader.open(file)) {
+            JarSnapshot snapshot = JarSnapshot.of(jar, PackageMatcher.of(API_PACKAGE), false, true);
+            assertTrue(snapshot.hasReferences());
+            List<String> visited = new ArrayList<>();
+            assertFalse(snapshot.visitReferences((pkg, refs) -> {
+                visited.add(pkg);
+                return false;
+            }));
+            assertEquals(Arrays.asList(API_PACKAGE), visited);
+            try {
+                snapshot.visitReferences((pkg, refs) -> true);
+                fail("invalid class not read");
+            } catch (IOException ex) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testVerifyMaxErrors() throws IOException {
+        Spec spec = new Spec();
+        spec.setArtifact(new Artifact("org.glassfish", "refs-api", "1.0"));
+        spec.setSpecVersion("1.0");
+        spec.setSpecImplVersion("1.0");
+        spec.setApiPackage(API_PACKAGE);
+        spec.setMaxErrors(1);
+        File file = new TestJar()
+                .entry(API_PACKAGE.replace('.', '/') + "/Invalid.class", new byte[64])
+                .write(tmp.newFile("invalid.jar"));
+
+        // the metadata errors reach the limit, the class is not read
+        try (JarReader jar = JarReader.open(file)) {
+            spec.verify(JarSnapshot.of(jar, PackageMatcher.of(API_PACKAGE), false, true));
+        }
+        assertEquals(2, spec.getErrors().size());
+        assertTrue(spec.getErrors().get(1).startsWith("WARNING: too many errors"));
+    }
+
+    @Test
+    public void testVerifyReferences() throws IOException {
+        Spec spec = new Spec();
+        spec.setArtifact(new Artifact("org.glassfish", "refs-api", "1.0"));
+        spec.setSpecVersion("1.0");
+        spec.setSpecImplVersion("1.0");
+        spec.setApiPackage(API_PACKAGE);
+        File jar = createJar();
+
+        // org.glassfish.spec is in the jar file
+        spec.verify(JarSnapshot.of(jar, PackageMatcher.of(API_PACKAGE)));
+        assertEquals(Arrays.asList(), referenceErrors(spec));
+
+        spec.verify(JarSnapshot.of(new TestJar()
+                .entry(entryName(Fixture.class), classFile(Fixture.class))
+                .write(tmp.newFile("api.jar")), PackageMatcher.of(API_PACKAGE)));
+        assertEquals(Arrays.asList("ERROR: API package " + API_PACKAGE
+                + " references package org.glassfish.spec that is not allowed"), referenceErrors(spec));
+
+        spec.setAllowedReferences("org.acme, org.glassfish.spec");
+        spec.verify(JarSnapshot.of(tmp.getRoot().toPath().resolve("api.jar").toFile(),
+                PackageMatcher.of(API_PACKAGE)));
+        assertEquals(Arrays.asList(), referenceErrors(spec));
+    }
+
+    @Test
+    public void testVerifyImplReferences() throws IOException {
+        Spec spec = new Spec();
+        spec.setArtifact(new Artifact("org.glassfish", "refs", "1.0"));
+        spec.setSpecVersion("1.0");
+        spec.setImplVersion("1.0");
+        spec.setJarType("impl");
+        spec.setApiPackage(API_PACKAGE);
+        spec.setImplNamespace("org.glassfish.spec");
+        spec.verify(JarSnapshot.of(createJar(), PackageMatcher.of(API_PACKAGE)));
+        assertEquals(Arrays.asList("ERROR: API package " + API_PACKAGE
+                + " references implementation package org.glassfish.spec"), referenceErrors(spec));
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.ZipException;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.JarReader;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class JarReaderTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private File createJar() throws IOException {
+        return new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, "2.0.1")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.foo")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "2.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .entry("jakarta/", new byte[0])
+                .entry("jakarta/foo/Foo.class", new byte[1024])
+                .storedEntry("jakarta/foo/stored.txt", "stored".getBytes(StandardCharsets.UTF_8))
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .write(tmp.newFile("foo.jar"));
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        byte[] buf = new byte[8192];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int n;
+        while ((n = is.read(buf)) > 0) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testEntriesMatchJarFile() throws IOException {
+        File file = createJar();
+        try (JarReader reader = JarReader.open(file);
+                JarFile jar = new JarFile(file)) {
+            List<String> expected = new ArrayList<>();
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                expected.add(entries.nextElement().getName());
+            }
+            List<String> actual = new ArrayList<>();
+            for (JarReader.Entry e : reader.getEntries()) {
+                actual.add(e.getName());
+                JarEntry je = jar.getJarEntry(e.getName());
+                assertEquals(je.getCrc(), e.getCrc());
+                assertEquals(je.getSize(), e.getSize());
+                if (!e.isDirectory()) {
+                    try (InputStream is = jar.getInputStream(je)) {
+                        assertArrayEquals(e.getName(), readAll(is),
+                                reader.read(e));
+                    }
+                }
+            }
+            assertEquals(expected, actual);
+            assertNull(reader.getEntry("missing"));
+        }
+    }
+
+    @Test
+    public void testScan() throws IOException {
+        File file = new TestJar()
+                .entry("jakarta/foo/Foo.class", new byte[16])
+                .entry("jakarta/foo/caf\u00e9.txt", new byte[16])
+                .write(tmp.newFile("scan.jar"));
+        try (JarReader reader = JarReader.open(file)) {
+            final List<String> names = new ArrayList<>();
+            reader.scan(new JarReader.NameVisitor() {
+                @Override
+                public void visit(int index, CharSequence name) {
+                    assertEquals(names.size(), index);
+                    assertEquals(reader.getEntry(index).getName(), name.toString());
+                    names.add(name.toString());
+                }
+            });
+            assertEquals(reader.size(), names.size());
+            assertTrue(names.contains("jakarta/foo/caf\u00e9.txt"));
+            List<String> expected = new ArrayList<>();
+            for (JarReader.Entry e : reader.getEntries()) {
+                expected.add(e.getName());
+            }
+            assertEquals(expected, names);
+            assertEquals("jakarta/foo/caf\u00e9.txt", reader.getEntry("jakarta/foo/caf\u00e9.txt").getName());
+        }
+    }
+
+    @Test
+    public void testArtifactAndMetadata() throws IOException {
+        File file = createJar();
+        try (JarReader reader = JarReader.open(file)) {
+            assertNotNull(reader.getManifestEntry());
+            Artifact artifact = Artifact.fromJar(reader);
+            assertEquals(new Artifact("jakarta.foo", "jakarta.foo-api",
+                    "2.0.1"), artifact);
+            Metadata md = Metadata.fromJar(reader);
+            assertEquals("jakarta.foo-api", md.getBundleSymbolicName());
+            assertEquals("2.0.1", md.getBundleVersion());
+            assertEquals("jakarta.foo", md.getJarExtensionName());
+            assertEquals("2.0", md.getJarSpecificationVersion());
+            assertEquals("2.0.1", md.getjarImplementationVersion());
+            assertEquals(0, md.getErrors().size());
+        }
+    }
+
+    @Test
+    public void testNestedJar() throws IOException {
+        byte[] jar = Files.readAllBytes(createJar().toPath());
+        File zip = new TestJar()
+                .entry("glassfish/modules/foo.jar", jar)
+                .storedEntry("glassfish/modules/stored.jar", jar)
+                .write(tmp.newFile("glassfish.zip"));
+        try (JarReader outer = JarReader.open(zip)) {
+            for (String name : new String[] {"glassfish/modules/foo.jar",
+                    "glassfish/modules/stored.jar"}) {
+                byte[] bytes = outer.read(outer.getEntry(name));
+                assertArrayEquals(jar, bytes);
+                try (JarReader inner = JarReader.open(name, bytes)) {
+                    assertEquals(name, inner.getName());
+                    assertEquals(new Artifact("jakarta.foo",
+                            "jakarta.foo-api", "2.0.1"),
+                            Artifact.fromJar(inner));
+                    assertEquals("jakarta.foo-api",
+                            Metadata.fromJar(inner).getBundleSymbolicName());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOpenNestedJar() throws IOException {
+        byte[] jar = Files.readAllBytes(createJar().toPath());
+        File zip = new TestJar()
+                .entry("glassfish/modules/foo.jar", jar)
+                .storedEntry("glassfish/modules/stored.jar", jar)
+                .write(tmp.newFile("glassfish.zip"));
+        try (JarReader file = JarReader.open(zip);
+             JarReader memory = JarReader.open("glassfish.zip", Files.readAllBytes(zip.toPath()))) {
+            for (JarReader outer : new JarReader[] {file, memory}) {
+                for (String name : new String[] {"glassfish/modules/foo.jar",
+                        "glassfish/modules/stored.jar"}) {
+                    JarReader.Entry entry = outer.getEntry(name);
+                    try (InputStream is = outer.getInputStream(entry)) {
+                        assertArrayEquals(jar, readAll(is));
+                    }
+                    // stored entries are read in place
+                    try (JarReader inner = outer.open(entry)) {
+                        assertEquals(outer.getName() + "!/" + name, inner.getName());
+                        assertEquals(new Artifact("jakarta.foo",
+                                "jakarta.foo-api", "2.0.1"),
+                                Artifact.fromJar(inner));
+                        assertEquals("jakarta.foo-api",
+                                Metadata.fromJar(inner).getBundleSymbolicName());
+                        try (InputStream is = inner.getInputStream(
+                                inner.getEntry("jakarta/foo/stored.txt"))) {
+                            assertEquals("stored", new String(readAll(is), StandardCharsets.UTF_8));
+                        }
+                    }
+                }
+                // the enclosing reader is still open
+                assertArrayEquals(jar, outer.read(outer.getEntry("glassfish/modules/stored.jar")));
+            }
+        }
+    }
+
+    @Test(expected = ZipException.class)
+    public void testTruncatedNestedJar() throws IOException {
+        byte[] jar = Files.readAllBytes(createJar().toPath());
+        JarReader.open("truncated.jar", Arrays.copyOf(jar, jar.length / 2));
+    }
+}
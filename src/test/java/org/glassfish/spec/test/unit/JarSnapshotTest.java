@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.PackageInventory;
+import org.glassfish.spec.Spec;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JarSnapshotTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private File createJar() throws IOException {
+        return new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, "2.0.1")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.foo")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "2.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .attribute(Metadata.EXPORT_PACKAGE, "jakarta.foo;version=\"2.0\"")
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes("jakarta.foo.Foo",
+                        "jakarta.foo.Bar",
+                        "jakarta.foo.spi.Provider",
+                        "jakarta.foobar.Baz",
+                        "com.acme.Impl",
+                        "Root")
+                .write(tmp.newFile("foo.jar"));
+    }
+
+    private static Spec createSpec() {
+        Spec spec = new Spec();
+        spec.setArtifact(new Artifact("jakarta.foo", "jakarta.foo-api", "2.0.1"));
+        spec.setSpecVersion("2.0");
+        spec.setSpecImplVersion("2.0.1");
+        spec.setApiPackage("jakarta.foo");
+        return spec;
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        JarSnapshot snapshot = JarSnapshot.of(createJar());
+        assertEquals(new Artifact("jakarta.foo", "jakarta.foo-api", "2.0.1"), snapshot.getArtifact());
+        assertEquals("2.0.1", snapshot.getMetadata().getBundleVersion());
+        assertEquals(Arrays.asList("jakarta.foo", "jakarta.foo.spi", "jakarta.foobar", "com.acme", ""),
+                Arrays.asList(snapshot.getPackages().toArray()));
+    }
+
+    @Test
+    public void testInventory() throws IOException {
+        PackageInventory inventory = JarSnapshot.of(createJar()).getInventory();
+        assertEquals(5, inventory.size());
+        assertEquals("jakarta.foo", inventory.getName(0));
+        assertEquals(1, inventory.indexOf("jakarta.foo.spi"));
+        assertEquals(-1, inventory.indexOf("jakarta"));
+        assertEquals(2, inventory.getClassCount("jakarta.foo"));
+        assertEquals(1, inventory.getClassCount(""));
+        assertEquals(0, inventory.getClassCount("com"));
+        assertTrue(inventory.contains("com.acme"));
+        assertFalse(inventory.contains("com"));
+        assertArrayEquals(new int[] {0}, inventory.getReleases());
+        assertEquals("{jakarta.foo=2, jakarta.foo.spi=1, jakarta.foobar=1, com.acme=1, =1}", inventory.toString());
+    }
+
+    @Test
+    public void testClassCrcs() throws IOException {
+        File file = createMultiReleaseJar(true);
+        assertTrue(JarSnapshot.of(file).getClassCrcs().isEmpty());
+        JarSnapshot snapshot = JarSnapshot.of(file, null, true);
+        CRC32 crc = new CRC32();
+        crc.update(new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+        assertEquals(Arrays.asList("jakarta/foo/Foo.class"), new ArrayList<>(snapshot.getClassCrcs().keySet()));
+        assertEquals(crc.getValue(), (long) snapshot.getClassCrcs().get("jakarta/foo/Foo.class"));
+        try (JarFile jar = new JarFile(file)) {
+            assertEquals(snapshot.getClassCrcs(), JarSnapshot.of(jar, null, true).getClassCrcs());
+        }
+    }
+
+    @Test
+    public void testUngroupedPackages() throws IOException {
+        List<String> classes = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add("jakarta.foo.p" + i);
+            classes.add("jakarta.foo.p" + i + ".A");
+        }
+        for (int i = 0; i < 100; i++) {
+            classes.add("jakarta.foo.p" + (i * 7 % 100) + ".B");
+        }
+        File file = new TestJar()
+                .classes(classes.toArray(new String[0]))
+                .write(tmp.newFile("ungrouped.jar"));
+        assertEquals(expected, new ArrayList<>(JarSnapshot.of(file).getPackages()));
+    }
+
+    private File createMultiReleaseJar(boolean multiRelease) throws IOException {
+        TestJar jar = new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, "2.0.1")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.foo")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "2.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .attribute(Metadata.EXPORT_PACKAGE, "jakarta.foo;version=\"2.0\"")
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes("jakarta.foo.Foo")
+                .entry("module-info.class", ModuleInfoTest.moduleInfo("jakarta.foo", "jakarta.foo"))
+                .entry("META-INF/versions/9/module-info.class", ModuleInfoTest.moduleInfo("jakarta.foo", "jakarta.foo"))
+                .entry("META-INF/versions/11/jakarta/foo/Foo.class", new byte[4])
+                .entry("META-INF/versions/11/jakarta/foobar/Bar.class", new byte[4]);
+        if (multiRelease) {
+            jar.attribute("Multi-Release", "true");
+        }
+        return jar.write(tmp.newFile("mr.jar"));
+    }
+
+    @Test
+    public void testMultiRelease() throws IOException {
+        File file = createMultiReleaseJar(true);
+        JarSnapshot snapshot = JarSnapshot.of(file);
+        assertTrue(snapshot.isMultiRelease());
+        assertEquals(Arrays.asList("jakarta.foo", "jakarta.foobar"), new ArrayList<>(snapshot.getPackages()));
+        assertEquals(Arrays.asList(0, 11), new ArrayList<>(snapshot.getReleasePackages().keySet()));
+        assertEquals(Arrays.asList("jakarta.foo"), new ArrayList<>(snapshot.getReleasePackages().get(0)));
+        assertEquals(Arrays.asList("jakarta.foo", "jakarta.foobar"),
+                new ArrayList<>(snapshot.getReleasePackages().get(11)));
+        PackageInventory inventory = snapshot.getInventory();
+        assertEquals(2, inventory.getClassCount("jakarta.foo"));
+        assertEquals(1, inventory.getClassCount(0, 0));
+        assertEquals(1, inventory.getClassCount(0, 11));
+        assertEquals(0, inventory.getClassCount(1, 0));
+        assertFalse(inventory.isVisible("jakarta.foobar", 9));
+        assertTrue(inventory.isVisible("jakarta.foobar", 11));
+        assertTrue(inventory.isVisible("jakarta.foo", 9));
+        try (JarFile jar = new JarFile(file)) {
+            JarSnapshot fromJarFile = JarSnapshot.of(jar);
+            assertTrue(fromJarFile.isMultiRelease());
+            assertEquals(inventory.toString(), fromJarFile.getInventory().toString());
+            assertEquals(snapshot.getReleasePackages(), fromJarFile.getReleasePackages());
+        }
+
+        Spec spec = createSpec();
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList("ERROR: jar file includes class in wrong package (jakarta.foobar)"),
+                spec.getErrors());
+    }
+
+    @Test
+    public void testVersionedClassesWithoutMultiRelease() throws IOException {
+        JarSnapshot snapshot = JarSnapshot.of(createMultiReleaseJar(false));
+        assertFalse(snapshot.isMultiRelease());
+        Spec spec = createSpec();
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList("WARNING: jar file includes versioned classes but is not a multi-release jar file",
+                "ERROR: jar file includes class in wrong package (jakarta.foobar)"),
+                spec.getErrors());
+    }
+
+    @Test
+    public void testMaxErrors() throws IOException {
+        List<String> classes = new ArrayList<>();
+        classes.add("jakarta.foo.Foo");
+        for (int i = 0; i < 100; i++) {
+            classes.add("jakarta.wrong" + i + ".Foo");
+        }
+        File file = new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, "2.0.1")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.foo")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "2.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .attribute(Metadata.EXPORT_PACKAGE, "jakarta.foo;version=\"2.0\"")
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes(classes.toArray(new String[0]))
+                .write(tmp.newFile("wrong.jar"));
+        JarSnapshot snapshot = JarSnapshot.of(file);
+
+        Spec spec = createSpec();
+        spec.verify(snapshot);
+        assertEquals(100, spec.getErrors().size());
+
+        spec = createSpec();
+        spec.setMaxErrors(3);
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList(
+                "ERROR: jar file includes class in wrong package (jakarta.wrong0)",
+                "ERROR: jar file includes class in wrong package (jakarta.wrong1)",
+                "ERROR: jar file includes class in wrong package (jakarta.wrong2)",
+                "WARNING: too many errors, verification stopped after 3 errors"),
+                spec.getErrors());
+
+        spec.setMaxErrors(100);
+        spec.verify(snapshot);
+        assertEquals(100, spec.getErrors().size());
+    }
+
+    private File createJar(String name, String bundleVersion, String specVersion, String exports)
+            throws IOException {
+
+        return new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, bundleVersion)
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.foo")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, specVersion)
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .attribute(Metadata.EXPORT_PACKAGE, exports)
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes("jakarta.foo.Foo", "jakarta.foo.spi.Provider")
+                .write(tmp.newFile(name));
+    }
+
+    @Test
+    public void testBundleSpecVersion() throws IOException {
+        JarSnapshot snapshot = JarSnapshot.of(createJar("final.jar", "2.0.1", "2.0",
+                "jakarta.foo.spi;version=\"2.0\",jakarta.foo;uses:=\"jakarta.foo.spi\";version=\"2.0.0\""));
+        // only known by the spec
+        assertEquals("", snapshot.getMetadata().getBundleSpecVersion());
+        Spec spec = createSpec();
+        spec.setCheckBundleSpecVersion(true);
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList(), spec.getErrors());
+
+        snapshot = JarSnapshot.of(createJar("micro.jar", "2.0.1", "2.0", "jakarta.foo;version=2.0.1"));
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList("WARNING: BundleSpecVersion (2.0.1) should be 2.0"), spec.getErrors());
+
+        // opt-in
+        Spec unchecked = createSpec();
+        unchecked.verify(snapshot);
+        assertEquals(Arrays.asList(), unchecked.getErrors());
+
+        snapshot = JarSnapshot.of(createJar("noversion.jar", "2.0.1", "2.0", "jakarta.foo"));
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList("WARNING: Export-Package of jakarta.foo has no version, BundleSpecVersion should be 2.0"),
+                spec.getErrors());
+
+        // not verified if the API package is not exported
+        snapshot = JarSnapshot.of(createJar("noexport.jar", "2.0.1", "2.0", "jakarta.foo.spi;version=2.0"));
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList(), spec.getErrors());
+
+        snapshot = JarSnapshot.of(createJar("malformed.jar", "2.0.1", "2.0", "jakarta.foo;version=\"2.0"));
+        spec.verify(snapshot);
+        assertEquals(1, spec.getErrors().size());
+        assertTrue(spec.getErrors().get(0).startsWith("ERROR: Export-Package is malformed, invalid OSGi header"));
+    }
+
+    @Test
+    public void testBundleSpecVersionOfApiPackage() throws IOException {
+        // the clause of the API package, not of the extension name
+        File file = new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, "2.0.1")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.bar")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "2.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .attribute(Metadata.EXPORT_PACKAGE, "jakarta.bar;version=\"1.0\",jakarta.foo;version=\"2.0\"")
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes("jakarta.foo.Foo")
+                .write(tmp.newFile("extension.jar"));
+        Spec spec = createSpec();
+        spec.setCheckBundleSpecVersion(true);
+        spec.verify(JarSnapshot.of(file));
+        assertEquals(Arrays.asList("WARNING: Extension-Name (jakarta.bar) should be jakarta.foo"), spec.getErrors());
+    }
+
+    @Test
+    public void testNonFinalBundleSpecVersion() throws IOException {
+        Spec spec = createSpec();
+        spec.setNonFinal(true);
+        spec.setSpecBuild("35");
+        spec.setNewSpecVersion("2.1");
+        spec.setCheckBundleSpecVersion(true);
+        spec.verify(JarSnapshot.of(createJar("nonfinal.jar", "2.0.99.b35", "2.0.99.35",
+                "jakarta.foo;version=\"2.0.99.b35\"")));
+        assertEquals(Arrays.asList(), spec.getErrors());
+
+        spec.verify(JarSnapshot.of(createJar("nonfinal-final.jar", "2.0.99.b35", "2.0.99.35",
+                "jakarta.foo;version=\"2.0\"")));
+        assertTrue(spec.getErrors().toString(),
+                spec.getErrors().contains("WARNING: BundleSpecVersion (2.0) should be 2.0.99.35"));
+    }
+
+    @Test
+    public void testPackageHeaders() throws IOException {
+        File file = new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, "2.0.1")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.foo")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "2.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .attribute(Metadata.EXPORT_PACKAGE, "jakarta.foo;version=\"2.0\","
+                        + "jakarta.foo.spi;version=\"2.0.1\","
+                        + "jakarta.foo.missing;version=\"2.0\","
+                        + "com.acme;version=\"1.0\"")
+                .attribute(Metadata.IMPORT_PACKAGE, "jakarta.bar;version=\"[2.0,3)\","
+                        + "jakarta.baz;version=\"[2,4)\","
+                        + "jakarta.qux;version=\"2.0\","
+                        + "jakarta.empty;version=\"[2,2)\","
+                        + "jakarta.bad;version=\"[2,x)\","
+                        + "jakarta.edge;version=\"[2,3]\","
+                        + "jakarta.foo.spi;version=\"[1,5)\","
+                        + "org.osgi.framework;version=\"1.5\","
+                        + "jakarta.noversion")
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes("jakarta.foo.Foo", "jakarta.foo.spi.Provider")
+                .write(tmp.newFile("headers.jar"));
+        JarSnapshot snapshot = JarSnapshot.of(file);
+        assertEquals(4, snapshot.getMetadata().getExportPackage().size());
+        assertEquals(9, snapshot.getMetadata().getImportPackage().size());
+        // only read for the verification of snapshots
+        assertEquals(0, Metadata.fromFile(file).getImportPackage().size());
+
+        Spec spec = createSpec();
+        spec.verify(snapshot);
+        // opt-in
+        assertEquals(Arrays.asList(), spec.getErrors());
+        spec.setCheckPackageHeaders(true);
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList(
+                "WARNING: Export-Package version (2.0.1) of jakarta.foo.spi should be 2.0",
+                "ERROR: Export-Package exports package jakarta.foo.missing not found in jar file",
+                "ERROR: Export-Package exports package com.acme not found in jar file",
+                "WARNING: Import-Package version range ([2,4)) of jakarta.baz spans more than one major version",
+                "WARNING: Import-Package version range (2.0) of jakarta.qux has no upper bound",
+                "ERROR: Import-Package version range ([2,2)) of jakarta.empty is empty",
+                "ERROR: Import-Package version range ([2,x)) of jakarta.bad is malformed",
+                "WARNING: Import-Package version range ([2,3]) of jakarta.edge spans more than one major version"),
+                spec.getErrors());
+    }
+
+    @Test
+    public void testMetadata() throws IOException {
+        Metadata metadata = JarSnapshot.of(createJar()).getMetadata();
+        assertSame(Collections.emptyList(), metadata.getErrors());
+        assertNotSame(metadata.getProperties(), metadata.getProperties());
+        assertEquals(metadata.getProperties(), metadata.getProperties());
+        assertEquals("jakarta.foo-api", metadata.getProperties().get("spec.bundle.symbolic-name"));
+        assertEquals(6, metadata.getProperties().size());
+
+        File file = new TestJar()
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes("jakarta.foo.Foo")
+                .write(tmp.newFile("nomanifest.jar"));
+        metadata = JarSnapshot.of(file).getMetadata();
+        assertEquals(5, metadata.getErrors().size());
+        assertEquals("", metadata.getBundleSpecVersion());
+        try {
+            metadata.getErrors().clear();
+            fail("expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSnapshotFromJarFile() throws IOException {
+        File file = createJar();
+        JarSnapshot expected = JarSnapshot.of(file);
+        try (JarFile jar = new JarFile(file)) {
+            JarSnapshot snapshot = JarSnapshot.of(jar);
+            assertEquals(expected.getArtifact(), snapshot.getArtifact());
+            assertEquals(expected.getPackages(), snapshot.getPackages());
+            assertEquals(expected.getMetadata().getProperties(), snapshot.getMetadata().getProperties());
+        }
+    }
+
+    @Test
+    public void testVerifyPackages() throws IOException {
+        Spec spec = createSpec();
+        spec.verify(JarSnapshot.of(createJar()));
+        assertEquals(Arrays.asList("ERROR: jar file includes class in wrong package (jakarta.foobar)"),
+                spec.getErrors());
+    }
+
+    @Test
+    public void testVerifyWithoutPackages() throws IOException {
+        Spec spec = createSpec();
+        spec.setMetadata(JarSnapshot.of(createJar()).getMetadata());
+        spec.verify();
+        assertTrue(spec.getErrors().isEmpty());
+        assertFalse(spec.toString().isEmpty());
+    }
+}
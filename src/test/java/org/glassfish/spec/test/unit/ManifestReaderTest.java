@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import org.glassfish.spec.ManifestReader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ManifestReaderTest {
+
+    private static Map<String, String> read(String manifest, String... names) throws IOException {
+        return ManifestReader.read(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)),
+                Arrays.asList(names));
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        Map<String, String> attrs = read("Manifest-Version: 1.0\r\n"
+                + "Bundle-Version: 2.0.1\r\n"
+                + "Export-Package: jakarta.foo;version=\"2.0\",\r\n"
+                + " jakarta.foo.spi;version=\"2.0\"\r\n"
+                + "Extension-Name: jakarta.\r\n"
+                + " foo\r\n"
+                + "\r\n"
+                + "Name: jakarta/foo/\r\n"
+                + "Specification-Version: 2.0\r\n",
+                "Extension-Name", "bundle-version", "Specification-Version");
+        assertEquals(2, attrs.size());
+        assertEquals("jakarta.foo", attrs.get("Extension-Name"));
+        assertEquals("2.0.1", attrs.get("bundle-version"));
+        // not in the main section
+        assertNull(attrs.get("Specification-Version"));
+    }
+
+    @Test
+    public void testLineEndings() throws IOException {
+        Map<String, String> attrs = read("A: 1\nB: 2\n 3\rC: 4\r 5", "A", "B", "C");
+        assertEquals("1", attrs.get("A"));
+        assertEquals("23", attrs.get("B"));
+        assertEquals("45", attrs.get("C"));
+    }
+
+    @Test
+    public void testDuplicates() throws IOException {
+        String manifest = "Manifest-Version: 1.0\r\nA: 1\r\nB: 2\r\nA: 3\r\n";
+        // the reader may stop before the last one
+        assertEquals("1", read(manifest, "A").get("A"));
+        assertEquals("1", read(manifest, "A", "B").get("A"));
+        Manifest jdk = new Manifest(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)));
+        assertEquals("3", jdk.getMainAttributes().getValue("A"));
+    }
+
+    @Test
+    public void testStopsWhenFound() throws IOException {
+        final int[] read = {0};
+        byte[] bytes = "A: 1\r\nB: 2\r\n".getBytes(StandardCharsets.UTF_8);
+        InputStream is = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                read[0]++;
+                return super.read(b, off, len);
+            }
+        };
+        assertEquals("1", ManifestReader.read(is, Arrays.asList("A")).get("A"));
+        assertEquals(1, read[0]);
+    }
+
+    @Test
+    public void testStopsAtRequired() throws IOException {
+        StringBuilder manifest = new StringBuilder("Manifest-Version: 1.0\r\n"
+                + "Import-Package: jakarta.bar\r\n"
+                + "Bundle-Version: 2.0.1\r\n"
+                + "Extension-Name: jakarta.foo\r\n");
+        // trailing headers, larger than the read buffer
+        for (int i = 0; i < 1000; i++) {
+            manifest.append("Private-Package: org.acme.p").append(i).append("\r\n");
+        }
+        manifest.append("Automatic-Module-Name: jakarta.foo\r\n");
+        byte[] bytes = manifest.toString().getBytes(StandardCharsets.UTF_8);
+        final int[] read = {0};
+        InputStream is = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int n = super.read(b, off, len);
+                read[0] += Math.max(n, 0);
+                return n;
+            }
+        };
+        Map<String, String> attrs = ManifestReader.read(is, Arrays.asList("Extension-Name", "Bundle-Version"),
+                Arrays.asList("Import-Package", "Automatic-Module-Name"));
+        assertEquals("jakarta.foo", attrs.get("Extension-Name"));
+        assertEquals("2.0.1", attrs.get("Bundle-Version"));
+        // optional, before the last required attribute
+        assertEquals("jakarta.bar", attrs.get("Import-Package"));
+        // optional, after the last required attribute
+        assertFalse(attrs.containsKey("Automatic-Module-Name"));
+        assertTrue(read[0] < bytes.length);
+
+        attrs = ManifestReader.read(new ByteArrayInputStream(bytes), Arrays.asList("Extension-Name"),
+                Arrays.asList("Automatic-Module-Name"));
+        assertEquals(1, attrs.size());
+
+        // not found, the whole main section is read
+        attrs = ManifestReader.read(new ByteArrayInputStream(bytes), Arrays.asList("Missing"),
+                Arrays.asList("Automatic-Module-Name"));
+        assertEquals("jakarta.foo", attrs.get("Automatic-Module-Name"));
+    }
+
+    @Test
+    public void testLongValues() throws IOException {
+        Manifest manifest = new Manifest();
+        Attributes main = manifest.getMainAttributes();
+        main.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        StringBuilder export = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            export.append(i > 0 ? "," : "").append("org.acme.p").append(i).append(";version=\"1.0\"");
+        }
+        main.putValue("Export-Package", export.toString());
+        main.putValue("Implementation-Title", "café ☃");
+        main.putValue("Bundle-Version", "1.0");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        manifest.write(out);
+
+        Map<String, String> attrs = ManifestReader.read(new ByteArrayInputStream(out.toByteArray()),
+                Arrays.asList("Export-Package", "Implementation-Title", "Bundle-Version", "Missing"));
+        assertEquals(export.toString(), attrs.get("Export-Package"));
+        assertEquals("café ☃", attrs.get("Implementation-Title"));
+        assertEquals("1.0", attrs.get("Bundle-Version"));
+        assertFalse(attrs.containsKey("Missing"));
+    }
+
+    @Test
+    public void testInvalidHeader() throws IOException {
+        try {
+            read("A: 1\r\ninvalid\r\n", "B");
+            fail("invalid header should fail");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage().contains("invalid header"));
+        }
+        assertTrue(read("", "A").isEmpty());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.ModuleInfo;
+import org.glassfish.spec.Spec;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ModuleInfoTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    /**
+     * Create a module descriptor, exports are given as {@code pkg} or {@code pkg->module}.
+     */
+    static byte[] moduleInfo(String name, String... exports) throws IOException {
+        List<Object[]> cp = new ArrayList<>();
+        int thisClass = constant(cp, 7, constant(cp, 1, "module-info"));
+        int moduleAttr = constant(cp, 1, "Module");
+        int module = constant(cp, 19, constant(cp, 1, name));
+        int javaBase = constant(cp, 19, constant(cp, 1, "java.base"));
+
+        ByteArrayOutputStream attr = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(attr);
+        out.writeShort(module);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(1);
+        out.writeShort(javaBase);
+        out.writeShort(0x8000);
+        out.writeShort(0);
+        out.writeShort(exports.length);
+        for (String export : exports) {
+            String[] parts = export.split("->");
+            out.writeShort(constant(cp, 20, constant(cp, 1, parts[0].replace('.', '/'))));
+            out.writeShort(0);
+            out.writeShort(parts.length - 1);
+            if (parts.length > 1) {
+                out.writeShort(constant(cp, 19, constant(cp, 1, parts[1])));
+            }
+        }
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(0);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(53);
+        out.writeShort(cp.size() + 1);
+        for (Object[] c : cp) {
+            out.writeByte((Integer) c[0]);
+            if (c[1] instanceof String) {
+                out.writeUTF((String) c[1]);
+            } else {
+                out.writeShort((Integer) c[1]);
+            }
+        }
+        out.writeShort(0x8000);
+        out.writeShort(thisClass);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(1);
+        out.writeShort(moduleAttr);
+        out.writeInt(attr.size());
+        attr.writeTo(out);
+        return bytes.toByteArray();
+    }
+
+    private static int constant(List<Object[]> cp, int tag, Object value) {
+        cp.add(new Object[] {tag, value});
+        return cp.size();
+    }
+
+    private static Spec createSpec() {
+        Spec spec = new Spec();
+        spec.setArtifact(new Artifact("jakarta.foo", "jakarta.foo-api", "2.0.1"));
+        spec.setSpecVersion("2.0");
+        spec.setSpecImplVersion("2.0.1");
+        spec.setApiPackage("jakarta.foo");
+        spec.setCheckModules(true);
+        return spec;
+    }
+
+    private static TestJar createJar() {
+        return new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, "jakarta.foo-api")
+                .attribute(Metadata.BUNDLE_VERSION, "2.0.1")
+                .attribute(Metadata.JAR_EXTENSION_NAME, "jakarta.foo")
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, "2.0")
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, "2.0.1")
+                .attribute(Metadata.EXPORT_PACKAGE, "jakarta.foo;version=\"2.0\"")
+                .artifact("jakarta.foo", "jakarta.foo-api", "2.0.1")
+                .classes("jakarta.foo.Foo", "jakarta.foo.spi.Provider");
+    }
+
+    @Test
+    public void testParse() throws IOException {
+        ModuleInfo mi = ModuleInfo.parse("module-info.class",
+                moduleInfo("jakarta.foo", "jakarta.foo", "jakarta.foo.spi->org.acme"));
+        assertEquals("jakarta.foo", mi.getName());
+        assertEquals(Arrays.asList("jakarta.foo"), new ArrayList<>(mi.getExports()));
+        assertEquals(Arrays.asList("jakarta.foo.spi"), new ArrayList<>(mi.getQualifiedExports()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncated() throws IOException {
+        byte[] bytes = moduleInfo("jakarta.foo", "jakarta.foo");
+        ModuleInfo.parse("module-info.class", Arrays.copyOf(bytes, bytes.length / 2));
+    }
+
+    @Test
+    public void testValidModule() throws IOException {
+        File file = createJar()
+                .attribute("Multi-Release", "true")
+                .attribute("Automatic-Module-Name", "jakarta.foo")
+                .entry("META-INF/versions/11/jakarta/foo/util/Util.class", new byte[4])
+                .entry("module-info.class", moduleInfo("jakarta.foo", "jakarta.foo", "jakarta.foo.spi"))
+                .entry("META-INF/versions/11/module-info.class",
+                        moduleInfo("jakarta.foo", "jakarta.foo", "jakarta.foo.util"))
+                .write(tmp.newFile("foo.jar"));
+        JarSnapshot snapshot = JarSnapshot.of(file);
+        assertEquals(Arrays.asList(0, 11), new ArrayList<>(snapshot.getModules().keySet()));
+        assertEquals("jakarta.foo", snapshot.getAutomaticModuleName());
+        Spec spec = createSpec();
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList(), spec.getErrors());
+    }
+
+    @Test
+    public void testInvalidModule() throws IOException {
+        File file = createJar()
+                .attribute("Multi-Release", "true")
+                .attribute("Automatic-Module-Name", "jakarta.bar")
+                .entry("module-info.class", moduleInfo("jakarta.foo.api", "jakarta.foo.spi", "jakarta.foo.util"))
+                .entry("META-INF/versions/11/module-info.class", moduleInfo("jakarta.foo", "jakarta.foo"))
+                .write(tmp.newFile("foo.jar"));
+        Spec spec = createSpec();
+        spec.verify(JarSnapshot.of(file));
+        assertEquals(Arrays.asList(
+                "WARNING: Automatic-Module-Name (jakarta.bar) should be jakarta.foo.api",
+                "WARNING: module name (jakarta.foo.api) in module-info should be jakarta.foo",
+                "ERROR: module-info exports package jakarta.foo.util not found in jar file",
+                "WARNING: module-info does not export API package jakarta.foo",
+                "ERROR: module name (jakarta.foo) in module-info of release 11 should be jakarta.foo.api"),
+                spec.getErrors());
+    }
+
+    @Test
+    public void testAutomaticModuleName() throws IOException {
+        File file = createJar()
+                .attribute("Automatic-Module-Name", "jakarta.bar")
+                .write(tmp.newFile("foo.jar"));
+        JarSnapshot snapshot = JarSnapshot.of(file);
+        assertEquals(0, snapshot.getModules().size());
+        Spec spec = createSpec();
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList("WARNING: Automatic-Module-Name (jakarta.bar) should be jakarta.foo"),
+                spec.getErrors());
+        // opt-in
+        spec.setCheckModules(false);
+        spec.verify(snapshot);
+        assertEquals(Arrays.asList(), spec.getErrors());
+        assertNull(JarSnapshot.of(createJar().write(tmp.newFile("bar.jar"))).getAutomaticModuleName());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import java.util.Arrays;
+import org.glassfish.spec.OsgiHeader;
+import org.glassfish.spec.OsgiVersion;
+import org.glassfish.spec.OsgiVersionRange;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OsgiHeaderTest {
+
+    @Test
+    public void testParse() {
+        OsgiHeader header = OsgiHeader.parse("jakarta.foo;version=\"2.0\";uses:=\"jakarta.foo.spi,jakarta.bar\","
+                + " jakarta.foo.spi ; jakarta.foo.util; version = 2.0.1 ; mandatory:=version,jakarta.bar");
+        assertEquals(Arrays.asList("jakarta.foo", "jakarta.foo.spi", "jakarta.foo.util", "jakarta.bar"),
+                header.getPaths());
+        assertEquals(4, header.size());
+        assertEquals("2.0", header.getAttribute(0, "version"));
+        assertEquals("jakarta.foo.spi,jakarta.bar", header.getDirective(0, "uses"));
+        assertNull(header.getAttribute(0, "uses"));
+        assertNull(header.getDirective(0, "version"));
+
+        // paths of the same clause share the parameters
+        assertEquals(2, header.indexOf("jakarta.foo.util"));
+        assertEquals("2.0.1", header.getAttribute(1, "version"));
+        assertEquals("2.0.1", header.getAttribute(2, "version"));
+        assertEquals("version", header.getDirective(2, "mandatory"));
+
+        assertNull(header.getAttribute(3, "version"));
+        assertEquals(-1, header.indexOf("jakarta"));
+    }
+
+    @Test
+    public void testQuotedValues() {
+        OsgiHeader header = OsgiHeader.parse("a;x=\"1;2,3\";y=\"say \\\"hi\\\"\";version:Version=\"1.0\",b;x=\"\"");
+        assertEquals(Arrays.asList("a", "b"), header.getPaths());
+        assertEquals("1;2,3", header.getAttribute(0, "x"));
+        assertEquals("say \"hi\"", header.getAttribute(0, "y"));
+        assertEquals("1.0", header.getAttribute(0, "version"));
+        assertEquals("", header.getAttribute(1, "x"));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, OsgiHeader.parse("").size());
+        assertEquals(0, OsgiHeader.parse("  ").size());
+        assertEquals(0, OsgiHeader.EMPTY.size());
+    }
+
+    @Test
+    public void testDuplicatePath() {
+        OsgiHeader header = OsgiHeader.parse("a;version=1,a;version=2");
+        assertEquals(2, header.size());
+        assertEquals(0, header.indexOf("a"));
+        assertEquals("1", header.getAttribute(header.indexOf("a"), "version"));
+    }
+
+    @Test
+    public void testLargeHeader() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("jakarta.foo.p").append(i).append(";version=\"2.0\";uses:=\"");
+            for (int j = 0; j < 10; j++) {
+                sb.append(j > 0 ? "," : "").append("jakarta.foo.p").append(j);
+            }
+            sb.append('"');
+        }
+        OsgiHeader header = OsgiHeader.parse(sb.toString());
+        assertEquals(1000, header.size());
+        assertEquals(999, header.indexOf("jakarta.foo.p999"));
+        assertEquals("2.0", header.getAttribute(999, "version"));
+    }
+
+    @Test
+    public void testInvalid() {
+        for (String value : Arrays.asList("a,", "a;", ";a", "a;version=1;b", "version=1", "a;x=\"1",
+                "a;x=", "a b", "a;x:=\"1\"b")) {
+            try {
+                OsgiHeader.parse(value);
+                fail("expected an IllegalArgumentException for " + value);
+            } catch (IllegalArgumentException ex) {
+                assertTrue(ex.getMessage().startsWith("invalid OSGi header"));
+            }
+        }
+    }
+
+    @Test
+    public void testVersion() {
+        assertEquals(OsgiVersion.parse("2.0"), OsgiVersion.parse("2.0.0"));
+        assertEquals(OsgiVersion.parse("2").hashCode(), OsgiVersion.parse("2.0.0").hashCode());
+        assertEquals("2.0.99.b35", OsgiVersion.parse(" 2.0.99.b35 ").toString());
+        assertEquals("b35", OsgiVersion.parse("2.0.99.b35").getQualifier());
+        assertNotEquals(OsgiVersion.parse("2.0.1"), OsgiVersion.parse("2.0"));
+        assertTrue(OsgiVersion.parse("2.0.99").compareTo(OsgiVersion.parse("2.1")) < 0);
+        assertTrue(OsgiVersion.parse("2.0.0.b1").compareTo(OsgiVersion.parse("2.0")) > 0);
+        for (String value : Arrays.asList("", "a", "1.", "1..0", "1.0.0.", "1.0.0.a.b", "-1", "1.0.0.a b")) {
+            try {
+                OsgiVersion.parse(value);
+                fail("expected an IllegalArgumentException for " + value);
+            } catch (IllegalArgumentException ex) {
+                assertTrue(ex.getMessage().startsWith("invalid OSGi version"));
+            }
+        }
+    }
+
+    @Test
+    public void testVersionRange() {
+        OsgiVersionRange range = OsgiVersionRange.parse("[2.0,3)");
+        assertEquals(OsgiVersion.parse("2"), range.getFloor());
+        assertEquals(OsgiVersion.parse("3"), range.getCeiling());
+        assertTrue(range.isFloorInclusive());
+        assertFalse(range.isCeilingInclusive());
+        assertTrue(range.includes(OsgiVersion.parse("2.0")));
+        assertTrue(range.includes(OsgiVersion.parse("2.99.0.b1")));
+        assertFalse(range.includes(OsgiVersion.parse("3.0")));
+        assertFalse(range.includes(OsgiVersion.parse("1.9")));
+        assertFalse(range.isEmpty());
+        assertEquals("[2.0,3)", range.toString());
+
+        range = OsgiVersionRange.parse("(2.0,3.0]");
+        assertFalse(range.includes(OsgiVersion.parse("2.0")));
+        assertTrue(range.includes(OsgiVersion.parse("3.0")));
+
+        range = OsgiVersionRange.parse(" 2.0 ");
+        assertNull(range.getCeiling());
+        assertTrue(range.includes(OsgiVersion.parse("100")));
+
+        assertTrue(OsgiVersionRange.parse("[2,2)").isEmpty());
+        assertTrue(OsgiVersionRange.parse("[3,2]").isEmpty());
+        assertFalse(OsgiVersionRange.parse("[2,2]").isEmpty());
+
+        for (String value : Arrays.asList("", "[", "[2", "[2,3", "[2;3)", "2,3", "[a,3)", "(2,3")) {
+            try {
+                OsgiVersionRange.parse(value);
+                fail("expected an IllegalArgumentException for " + value);
+            } catch (IllegalArgumentException ex) {
+                assertTrue(ex.getMessage().startsWith("invalid OSGi version range"));
+            }
+        }
+    }
+}
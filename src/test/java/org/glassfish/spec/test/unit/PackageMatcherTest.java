@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import org.glassfish.spec.PackageMatcher;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PackageMatcherTest {
+
+    @Test
+    public void testPackageAndSubPackages() {
+        PackageMatcher m = PackageMatcher.of("jakarta.foo", "org.acme");
+        assertTrue(m.matches("jakarta.foo"));
+        assertTrue(m.matches("jakarta.foo.spi"));
+        assertTrue(m.matches("org.acme.impl.util"));
+        assertFalse(m.matches("jakarta.foobar"));
+        assertFalse(m.matches("jakarta"));
+        assertFalse(m.matches("jakarta.bar"));
+        assertFalse(m.matches("org"));
+        assertFalse(m.matches(""));
+    }
+
+    @Test
+    public void testRange() {
+        PackageMatcher m = PackageMatcher.of("jakarta.foo");
+        String name = "jakarta/foo/spi/Provider.class";
+        assertTrue(m.matches(name, 0, name.lastIndexOf('/'), '/'));
+        assertTrue(m.matches(name, 0, "jakarta/foo".length(), '/'));
+        assertFalse(m.matches(name, 0, "jakarta".length(), '/'));
+        assertFalse(m.matches(name, "jakarta/".length(), name.lastIndexOf('/'), '/'));
+        assertFalse(m.matches(name, 0, 0, '/'));
+    }
+
+    @Test
+    public void testWildcards() {
+        PackageMatcher m = PackageMatcher.of("org.acme.*.impl", "com.acme.*");
+        assertTrue(m.matches("org.acme.foo.impl"));
+        assertTrue(m.matches("org.acme.bar.impl.util"));
+        assertFalse(m.matches("org.acme.foo"));
+        assertFalse(m.matches("org.acme.foo.api"));
+        assertTrue(m.matches("com.acme.foo"));
+        assertFalse(m.matches("com.acme"));
+    }
+
+    @Test
+    public void testWildcardBacktracking() {
+        PackageMatcher m = PackageMatcher.of("org.acme.foo.api", "org.acme.*.impl");
+        assertTrue(m.matches("org.acme.foo.api"));
+        assertTrue(m.matches("org.acme.foo.impl"));
+        assertFalse(m.matches("org.acme.foo.spi"));
+    }
+
+    @Test
+    public void testDefaultPackage() {
+        PackageMatcher m = PackageMatcher.of("jakarta.foo", "");
+        assertTrue(m.matches(""));
+        assertTrue(m.matches("Foo.class", 0, 0, '/'));
+        assertFalse(m.matches("org.acme"));
+    }
+
+    @Test
+    public void testManyPackages() {
+        String[] pkgs = new String[500];
+        for (int i = 0; i < pkgs.length; i++) {
+            pkgs[i] = "org.acme.module" + i;
+        }
+        PackageMatcher m = PackageMatcher.of(pkgs);
+        assertTrue(m.isFor(pkgs.clone()));
+        for (String p : pkgs) {
+            assertTrue(p, m.matches(p + ".internal"));
+        }
+        assertFalse(m.matches("org.acme.module500"));
+        assertFalse(m.matches("org.acme.module"));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.spec.test.unit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.glassfish.spec.Artifact;
+import org.glassfish.spec.JarSnapshot;
+import org.glassfish.spec.Metadata;
+import org.glassfish.spec.Spec;
+import org.glassfish.spec.test.TestJar;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class SpecTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private static Spec finalApi() {
+        Spec spec = new Spec();
+        spec.setSpecMode("javaee");
+        spec.setArtifact(new Artifact("javax.courgette", "javax.courgette-api", "2.4.3"));
+        spec.setSpecVersion("2.4");
+        spec.setSpecImplVersion("2.4.3");
+        spec.setApiPackage("javax.courgette");
+        return spec;
+    }
+
+    private static Spec nonFinalApi() {
+        Spec spec = new Spec();
+        spec.setSpecMode("javaee");
+        spec.setArtifact(new Artifact("javax.aubergine", "javax.aubergine-api", "2.1.2-b35-SNAPSHOT"));
+        spec.setSpecVersion("2.0");
+        spec.setNewSpecVersion("2.1");
+        spec.setSpecImplVersion("2.1.2");
+        spec.setSpecBuild("35");
+        spec.setNonFinal(true);
+        spec.setApiPackage("javax.aubergine");
+        return spec;
+    }
+
+    private static Spec nonFinalImpl() {
+        Spec spec = new Spec();
+        spec.setSpecMode("javaee");
+        spec.setArtifact(new Artifact("org.moussaka", "javax.aubergine", "1.5-b01"));
+        spec.setSpecVersion("1.4");
+        spec.setNewSpecVersion("1.5");
+        spec.setImplVersion("1.4.4");
+        spec.setNewImplVersion("1.5");
+        spec.setSpecBuild("01");
+        spec.setImplBuild("01");
+        spec.setNonFinal(true);
+        spec.setJarType("impl");
+        spec.setImplNamespace("org.moussaka");
+        spec.setApiPackage("javax.aubergine");
+        return spec;
+    }
+
+    private List<String> verify(Spec spec, String exports) throws IOException {
+        Metadata expected = spec.getMetadata();
+        File file = new TestJar()
+                .attribute(Metadata.BUNDLE_SYMBOLIC_NAME, expected.getBundleSymbolicName())
+                .attribute(Metadata.BUNDLE_VERSION, expected.getBundleVersion())
+                .attribute(Metadata.JAR_EXTENSION_NAME, expected.getJarExtensionName())
+                .attribute(Metadata.JAR_SPECIFICATION_VERSION, expected.getJarSpecificationVersion())
+                .attribute(Metadata.JAR_IMPLEMENTATION_VERSION, expected.getjarImplementationVersion())
+                .attribute(Metadata.EXPORT_PACKAGE, exports)
+                .write(tmp.newFile());
+        spec.setCheckBundleSpecVersion(true);
+        spec.verify(JarSnapshot.of(file));
+        List<String> errors = new ArrayList<>();
+        for (String error : spec.getErrors()) {
+            if (error.contains(Metadata.BUNDLE_SPEC_VERSION)) {
+                errors.add(error);
+            }
+        }
+        return errors;
+    }
+
+    @Test
+    public void testFinalBundleSpecVersion() throws IOException {
+        assertEquals(Arrays.asList(), verify(finalApi(), "javax.courgette;version=\"2.4\""));
+        assertEquals(Arrays.asList(), verify(finalApi(), "javax.courgette;version=\"2.4.0\""));
+        assertEquals(Arrays.asList("WARNING: BundleSpecVersion (2.4.3) should be 2.4"),
+                verify(finalApi(), "javax.courgette;version=\"2.4.3\""));
+        // the qualifier is only stripped for non-final specs
+        assertEquals(Arrays.asList("WARNING: BundleSpecVersion (2.4.0.b1) should be 2.4"),
+                verify(finalApi(), "javax.courgette;version=\"2.4.0.b1\""));
+        assertEquals(Arrays.asList("WARNING: Export-Package of javax.courgette has no version, BundleSpecVersion"
+                + " should be 2.4"), verify(finalApi(), "javax.courgette"));
+        // not verified if the API package is not exported
+        assertEquals(Arrays.asList(), verify(finalApi(), "javax.courgette.spi;version=\"2.4\""));
+    }
+
+    @Test
+    public void testNonFinalBundleSpecVersion() throws IOException {
+        assertEquals("2.0.99.b35", nonFinalApi().getMetadata().getBundleSpecVersion());
+        assertEquals(Arrays.asList(), verify(nonFinalApi(), "javax.aubergine;version=\"2.0.99.b35\""));
+        assertEquals(Arrays.asList(), verify(nonFinalApi(), "javax.aubergine;version=\"2.0.99.35\""));
+        assertEquals(Arrays.asList("WARNING: BundleSpecVersion (2.0.99.b36) should be 2.0.99.35"),
+                verify(nonFinalApi(), "javax.aubergine;version=\"2.0.99.b36\""));
+        assertEquals(Arrays.asList("WARNING: BundleSpecVersion (2.0) should be 2.0.99.35"),
+                verify(nonFinalApi(), "javax.aubergine;version=\"2.0\""));
+        // only a leading b is stripped
+        assertEquals(Arrays.asList("WARNING: BundleSpecVersion (2.0.99.bb35) should be 2.0.99.35"),
+                verify(nonFinalApi(), "javax.aubergine;version=\"2.0.99.bb35\""));
+    }
+
+    @Test
+    public void testNonFinalImplBundleSpecVersion() throws IOException {
+        assertEquals(Arrays.asList(), verify(nonFinalImpl(), "javax.aubergine;version=\"1.4.99.b01\""));
+        assertEquals(Arrays.asList("WARNING: BundleSpecVersion (1.4.4) should be 1.4.99.01"),
+                verify(nonFinalImpl(), "javax.aubergine;version=\"1.4.4\""));
+    }
+}